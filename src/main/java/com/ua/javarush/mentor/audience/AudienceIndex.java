@@ -0,0 +1,206 @@
+package com.ua.javarush.mentor.audience;
+
+import com.ua.javarush.mentor.cache.DataChangedEvent;
+import com.ua.javarush.mentor.enums.AudienceAttribute;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.model.Group;
+import com.ua.javarush.mentor.persist.repository.AudienceUserRow;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.GroupRepository;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bitmaps of user ids per group, role and attribute. Audiences are selected by unions and intersections of
+ * the bitmaps instead of joins of users, roles and groups. Rebuilt when the audience data version moved,
+ * bumped by changes of users, roles, groups and memberships, and swapped in whole.
+ */
+@Slf4j
+@Component
+public class AudienceIndex {
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private volatile Snapshot snapshot = new Snapshot(-1, new UserIdBitmap(), Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList());
+
+    public AudienceIndex(UserRepository userRepository, GroupRepository groupRepository,
+                         DataVersionRepository dataVersionRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.groupRepository = groupRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    public UserIdBitmap getAll() {
+        return snapshot.all;
+    }
+
+    /**
+     * Members of any of the groups.
+     */
+    public UserIdBitmap getGroupMembers(Collection<Long> groupIds) {
+        Snapshot current = snapshot;
+        List<UserIdBitmap> bitmaps = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            bitmaps.add(current.byGroup.getOrDefault(groupId, new UserIdBitmap()));
+        }
+        return UserIdBitmap.orAll(bitmaps);
+    }
+
+    /**
+     * Members of the groups that started and have not finished at the moment.
+     */
+    public UserIdBitmap getActiveGroupMembers(Instant moment) {
+        Snapshot current = snapshot;
+        List<UserIdBitmap> bitmaps = new ArrayList<>();
+        for (GroupPeriod group : current.groups) {
+            if (group.isActive(moment)) {
+                bitmaps.add(current.byGroup.getOrDefault(group.groupId, new UserIdBitmap()));
+            }
+        }
+        return UserIdBitmap.orAll(bitmaps);
+    }
+
+    /**
+     * Users with any of the roles.
+     */
+    public UserIdBitmap getRoleMembers(Collection<String> roleNames) {
+        Snapshot current = snapshot;
+        List<UserIdBitmap> bitmaps = new ArrayList<>();
+        for (String roleName : roleNames) {
+            bitmaps.add(current.byRole.getOrDefault(roleName, new UserIdBitmap()));
+        }
+        return UserIdBitmap.orAll(bitmaps);
+    }
+
+    public UserIdBitmap getWithAttribute(AudienceAttribute attribute) {
+        return snapshot.byAttribute.getOrDefault(attribute, new UserIdBitmap());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.concerns(DataSets.AUDIENCE)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audience.refreshDelayMs:5000}")
+    public synchronized void refresh() {
+        long currentVersion = currentVersion();
+        if (currentVersion == snapshot.version) {
+            return;
+        }
+        Snapshot rebuilt = snapshotTransactionTemplate.execute(status -> build());
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            log.info("Audience index rebuilt at version {}: {} users, {} groups, {} roles",
+                    rebuilt.version, rebuilt.all.cardinality(), rebuilt.byGroup.size(), rebuilt.byRole.size());
+        }
+    }
+
+    private Snapshot build() {
+        long version = currentVersion();
+        UserIdBitmap all = new UserIdBitmap();
+        Map<Long, UserIdBitmap> byGroup = new HashMap<>();
+        Map<String, UserIdBitmap> byRole = new HashMap<>();
+        Map<AudienceAttribute, UserIdBitmap> byAttribute = new EnumMap<>(AudienceAttribute.class);
+        for (AudienceAttribute attribute : AudienceAttribute.values()) {
+            byAttribute.put(attribute, new UserIdBitmap());
+        }
+        for (AudienceUserRow row : userRepository.findAllAudienceRows()) {
+            all.add(row.getUserId());
+            byRole.computeIfAbsent(row.getRoleName(), key -> new UserIdBitmap()).add(row.getUserId());
+            if (row.getGroupId() != null) {
+                byGroup.computeIfAbsent(row.getGroupId(), key -> new UserIdBitmap()).add(row.getUserId());
+            }
+            if (Boolean.TRUE.equals(row.getEnabled())) {
+                byAttribute.get(AudienceAttribute.ENABLED).add(row.getUserId());
+            }
+            if (Boolean.TRUE.equals(row.getEmailVerified())) {
+                byAttribute.get(AudienceAttribute.EMAIL_VERIFIED).add(row.getUserId());
+            }
+            if (Boolean.TRUE.equals(row.getHasTelegram())) {
+                byAttribute.get(AudienceAttribute.HAS_TELEGRAM).add(row.getUserId());
+            }
+        }
+        List<GroupPeriod> groups = new ArrayList<>();
+        for (Group group : groupRepository.findAll()) {
+            groups.add(new GroupPeriod(group.getId(),
+                    group.getDateStarted() != null ? group.getDateStarted().toInstant() : null,
+                    group.getDateRegistered() != null ? group.getDateRegistered().toInstant() : null));
+        }
+        return new Snapshot(version, all, byGroup, byRole, byAttribute, groups);
+    }
+
+    private long currentVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.AUDIENCE).orElse(0L);
+    }
+
+    /**
+     * Start and finish of a group, the group is not active before it has a start date.
+     */
+    private static class GroupPeriod {
+        private final Long groupId;
+        private final Instant start;
+        private final Instant finish;
+
+        private GroupPeriod(Long groupId, Instant start, Instant finish) {
+            this.groupId = groupId;
+            this.start = start;
+            this.finish = finish;
+        }
+
+        private boolean isActive(Instant moment) {
+            return start != null && !start.isAfter(moment) && (finish == null || finish.isAfter(moment));
+        }
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final UserIdBitmap all;
+        private final Map<Long, UserIdBitmap> byGroup;
+        private final Map<String, UserIdBitmap> byRole;
+        private final Map<AudienceAttribute, UserIdBitmap> byAttribute;
+        private final List<GroupPeriod> groups;
+
+        private Snapshot(long version, UserIdBitmap all, Map<Long, UserIdBitmap> byGroup, Map<String, UserIdBitmap> byRole,
+                         Map<AudienceAttribute, UserIdBitmap> byAttribute, List<GroupPeriod> groups) {
+            this.version = version;
+            this.all = all;
+            this.byGroup = byGroup;
+            this.byRole = byRole;
+            this.byAttribute = byAttribute;
+            this.groups = groups;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.ua.javarush.mentor.audience;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * Compressed set of user ids in the Roaring layout: ids are split by their high 16 bits into chunks, a chunk
+ * keeps its low 16 bits as a sorted array while it has at most 4096 of them and as a 65536-bit bitmap
+ * beyond that. Sparse sets cost two bytes per id, dense ones an eighth of a byte, and set operations
+ * walk chunks of the two sets side by side.
+ * <p>
+ * A bitmap is filled with {@link #add} while it is built and must not be changed once it is shared,
+ * set operations always return new bitmaps.
+ */
+public class UserIdBitmap {
+
+    private static final long MAX_ID = 0xFFFFFFFFL;
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public UserIdBitmap() {
+        this(4);
+    }
+
+    private UserIdBitmap(int capacity) {
+        this.keys = new char[Math.max(capacity, 1)];
+        this.containers = new Container[Math.max(capacity, 1)];
+    }
+
+    public static UserIdBitmap of(long... ids) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (long id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    public static UserIdBitmap of(Collection<Long> ids) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        ids.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    /**
+     * Union of all the bitmaps, an empty bitmap for none.
+     */
+    public static UserIdBitmap orAll(Collection<UserIdBitmap> bitmaps) {
+        UserIdBitmap result = new UserIdBitmap();
+        for (UserIdBitmap bitmap : bitmaps) {
+            result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    public void add(long id) {
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("User id out of bitmap range: " + id);
+        }
+        char key = (char) (id >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, key, new ArrayContainer(new char[4], 0));
+        }
+        containers[index] = containers[index].add((char) id);
+    }
+
+    public boolean contains(long id) {
+        if (id < 0 || id > MAX_ID) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UserIdBitmap and(UserIdBitmap other) {
+        UserIdBitmap result = new UserIdBitmap(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public UserIdBitmap or(UserIdBitmap other) {
+        UserIdBitmap result = new UserIdBitmap(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public UserIdBitmap andNot(UserIdBitmap other) {
+        UserIdBitmap result = new UserIdBitmap(size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.append(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids in ascending order.
+     */
+    public LongStream stream() {
+        LongStream.Builder builder = LongStream.builder();
+        for (int i = 0; i < size; i++) {
+            long high = (long) keys[i] << 16;
+            containers[i].forEach(low -> builder.add(high | low));
+        }
+        return builder.build();
+    }
+
+    public long[] toArray() {
+        return stream().toArray();
+    }
+
+    private void insert(int index, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Appends a chunk with a key greater than all keys, chunks left empty by an operation are dropped.
+     */
+    private void append(char key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int length = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, length);
+            containers = Arrays.copyOf(containers, length);
+        }
+    }
+
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract void forEach(IntConsumer consumer);
+
+        abstract Container copy();
+
+        /**
+         * Bitmap of the container, a fresh array the caller may change.
+         */
+        abstract long[] toWords();
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, true);
+            }
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            long[] words = toWords();
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return BitmapContainer.compact(words);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                    && cardinality() + other.cardinality() <= ARRAY_MAX) {
+                return ((ArrayContainer) this).merge((ArrayContainer) other);
+            }
+            long[] words = toWords();
+            other.forEachWord((i, word) -> words[i] |= word);
+            return BitmapContainer.compact(words);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, false);
+            }
+            long[] words = toWords();
+            other.forEachWord((i, word) -> words[i] &= ~word);
+            return BitmapContainer.compact(words);
+        }
+
+        void forEachWord(WordConsumer consumer) {
+            long[] words = toWords();
+            for (int i = 0; i < WORDS; i++) {
+                if (words[i] != 0) {
+                    consumer.accept(i, words[i]);
+                }
+            }
+        }
+    }
+
+    private interface WordConsumer {
+        void accept(int index, long word);
+    }
+
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                BitmapContainer bitmap = new BitmapContainer(toWords(), cardinality);
+                return bitmap.add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        void forEachWord(WordConsumer consumer) {
+            int i = 0;
+            while (i < cardinality) {
+                int index = values[i] >>> 6;
+                long word = 0;
+                while (i < cardinality && values[i] >>> 6 == index) {
+                    word |= 1L << values[i];
+                    i++;
+                }
+                consumer.accept(index, word);
+            }
+        }
+
+        /**
+         * Values that are, or are not, in the other container.
+         */
+        Container filter(Container other, boolean keep) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container merge(ArrayContainer other) {
+            char[] result = new char[cardinality + other.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    result[count++] = other.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Container for the bits, back to an array when they became sparse.
+         */
+        static Container compact(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(IntConsumer consumer) {
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ua.javarush.mentor.cache;
+
+import com.ua.javarush.mentor.enums.Configs;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.model.Config;
+import com.ua.javarush.mentor.persist.repository.ConfigRepository;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Application configs, parsed once into a snapshot with typed getters. Loaded when the application starts, which
+ * fails on a missing or malformed config, and loaded again when the config data version moves. A snapshot that
+ * does not pass the checks later is not swapped in, the previous one keeps serving.
+ */
+@Slf4j
+@Component
+public class ConfigCache {
+
+    private final ConfigRepository configRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private volatile Snapshot snapshot;
+
+    public ConfigCache(ConfigRepository configRepository, DataVersionRepository dataVersionRepository,
+                       PlatformTransactionManager transactionManager) {
+        this.configRepository = configRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Minutes a link of the confirmation email stays valid.
+     */
+    public int getTimeToConfirmEmail() {
+        return snapshot.timeToConfirmEmail;
+    }
+
+    /**
+     * Minutes a reset password code stays valid.
+     */
+    public int getTimeToResetPassword() {
+        return snapshot.timeToResetPassword;
+    }
+
+    /**
+     * Resets of the password a user may start until one completes.
+     */
+    public long getMaxCountOfResetPassword() {
+        return snapshot.maxCountOfResetPassword;
+    }
+
+    @PostConstruct
+    public void load() {
+        snapshot = snapshotTransactionTemplate.execute(status -> build());
+        log.info("Configs loaded at version {}", snapshot.version);
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.concerns(DataSets.CONFIG)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${config.refreshDelayMs:60000}")
+    public synchronized void refresh() {
+        if (currentVersion() == snapshot.version) {
+            return;
+        }
+        try {
+            Snapshot rebuilt = snapshotTransactionTemplate.execute(status -> build());
+            if (rebuilt != null) {
+                snapshot = rebuilt;
+                log.info("Configs reloaded at version {}", rebuilt.version);
+            }
+        } catch (IllegalStateException e) {
+            log.error("Configs were not reloaded, keeping version {}: {}", snapshot.version, e.getMessage());
+        }
+    }
+
+    private Snapshot build() {
+        long version = currentVersion();
+        Map<String, String> values = new HashMap<>();
+        for (Config config : configRepository.findAll()) {
+            values.put(config.getName(), config.getValue());
+        }
+        return new Snapshot(version,
+                positiveInt(values, Configs.TIME_TO_CONFIRM_EMAIL),
+                positiveInt(values, Configs.TIME_TO_RESET_PASSWORD),
+                positiveInt(values, Configs.MAX_COUNT_OF_RESET_PASSWORD));
+    }
+
+    private long currentVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.CONFIG).orElse(0L);
+    }
+
+    private static int positiveInt(Map<String, String> values, Configs key) {
+        String value = values.get(key.name());
+        if (value == null) {
+            throw new IllegalStateException("Config " + key + " is missing");
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below together with non positive values
+        }
+        throw new IllegalStateException("Config " + key + " must be a positive integer, found '" + value + "'");
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final int timeToConfirmEmail;
+        private final int timeToResetPassword;
+        private final long maxCountOfResetPassword;
+
+        private Snapshot(long version, int timeToConfirmEmail, int timeToResetPassword, long maxCountOfResetPassword) {
+            this.version = version;
+            this.timeToConfirmEmail = timeToConfirmEmail;
+            this.timeToResetPassword = timeToResetPassword;
+            this.maxCountOfResetPassword = maxCountOfResetPassword;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ua.javarush.mentor.cache;
+
+import java.util.Set;
+
+/**
+ * Data sets, named by {@link com.ua.javarush.mentor.enums.DataSets}, whose version moved on some node.
+ * Caches holding one of them compare their version with the stored one and rebuild when it differs.
+ */
+public class DataChangedEvent {
+
+    private final Set<String> dataSets;
+
+    public DataChangedEvent(Set<String> dataSets) {
+        this.dataSets = Set.copyOf(dataSets);
+    }
+
+    public Set<String> getDataSets() {
+        return dataSets;
+    }
+
+    public boolean concerns(String dataSet) {
+        return dataSets.contains(dataSet);
+    }
+
+    @Override
+    public String toString() {
+        return "DataChangedEvent" + dataSets;
+    }
+}
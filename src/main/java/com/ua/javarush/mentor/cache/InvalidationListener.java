@@ -0,0 +1,189 @@
+package com.ua.javarush.mentor.cache;
+
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns committed data version changes of any node into {@link DataChangedEvent}s on this node. The
+ * {@code flush_data_version} trigger, run once at commit of a writing transaction, notifies the {@value #CHANNEL}
+ * channel with the name of every data set it bumps; the notification is delivered when the transaction commits.
+ * Notifications are listened for on a connection of its own, outside the pool, to the primary database. A burst of
+ * notifications is collected for {@code invalidation.coalesceMs} and published as one event. Events are published on
+ * the invalidation executor, so the listener keeps reading notifications while caches are rebuilt, and data sets
+ * changed during a rebuild are published together once it is done. Notifications sent while the connection was down
+ * are lost, so on every connect all data sets are published and the caches compare their versions instead.
+ */
+@Slf4j
+@Component
+public class InvalidationListener {
+
+    public static final String CHANNEL = "data_version";
+    private static final int WAIT_MS = 10_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor invalidationExecutor;
+    private final long coalesceMs;
+    private final long reconnectDelayMs;
+    private final Set<String> pending = new TreeSet<>();
+    private volatile boolean running;
+    private Thread thread;
+
+    public InvalidationListener(DataSourceProperties dataSourceProperties, ApplicationEventPublisher eventPublisher,
+                                @Qualifier(ExecutorConfig.INVALIDATION_EXECUTOR) TaskExecutor invalidationExecutor,
+                                @Value("${invalidation.coalesceMs:200}") long coalesceMs,
+                                @Value("${invalidation.reconnectDelayMs:5000}") long reconnectDelayMs) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.invalidationExecutor = invalidationExecutor;
+        this.coalesceMs = coalesceMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listen(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Invalidation listener lost its connection, reconnecting in {} ms: {}", reconnectDelayMs, e.getMessage());
+                    sleep(reconnectDelayMs);
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("listen " + CHANNEL);
+        }
+        log.info("Invalidation listener is listening on {}", CHANNEL);
+        publish(allDataSets(connection));
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            Set<String> changed = new TreeSet<>();
+            collect(pgConnection.getNotifications(WAIT_MS), changed);
+            if (changed.isEmpty()) {
+                continue;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceMs);
+            long remainingMs;
+            while ((remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                collect(pgConnection.getNotifications((int) remainingMs), changed);
+            }
+            publish(changed);
+        }
+    }
+
+    private static Set<String> allDataSets(Connection connection) throws SQLException {
+        Set<String> dataSets = new TreeSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select name from data_version")) {
+            while (resultSet.next()) {
+                dataSets.add(resultSet.getString(1));
+            }
+        }
+        return dataSets;
+    }
+
+    private static void collect(PGNotification[] notifications, Set<String> changed) {
+        if (notifications != null) {
+            for (PGNotification notification : notifications) {
+                changed.add(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * A task is submitted only when none is waiting, a waiting task publishes whatever is pending when it runs.
+     */
+    private void publish(Set<String> dataSets) {
+        if (dataSets.isEmpty()) {
+            return;
+        }
+        synchronized (pending) {
+            boolean waiting = !pending.isEmpty();
+            pending.addAll(dataSets);
+            if (waiting) {
+                return;
+            }
+        }
+        try {
+            invalidationExecutor.execute(this::publishPending);
+        } catch (TaskRejectedException e) {
+            synchronized (pending) {
+                pending.clear();
+            }
+            log.warn("Could not publish changes of {}: {}", dataSets, e.getMessage());
+        }
+    }
+
+    private void publishPending() {
+        Set<String> dataSets;
+        synchronized (pending) {
+            dataSets = new TreeSet<>(pending);
+            pending.clear();
+        }
+        if (dataSets.isEmpty()) {
+            return;
+        }
+        DataChangedEvent event = new DataChangedEvent(dataSets);
+        log.debug("Publishing {}", event);
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Could not handle {}", event, e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
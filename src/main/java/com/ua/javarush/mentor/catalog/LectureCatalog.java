@@ -0,0 +1,157 @@
+package com.ua.javarush.mentor.catalog;
+
+import com.ua.javarush.mentor.cache.DataChangedEvent;
+import com.ua.javarush.mentor.dto.CatalogLectureDTO;
+import com.ua.javarush.mentor.dto.CatalogModuleDTO;
+import com.ua.javarush.mentor.dto.LectureDTO;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.model.Module;
+import com.ua.javarush.mentor.persist.repository.CatalogLectureRow;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.LectureRepository;
+import com.ua.javarush.mentor.persist.repository.ModuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of modules and lectures per locale. Built at startup and built again when the catalog data
+ * version moves, then swapped in whole: a request sees either the old or the new catalog and never
+ * touches the database.
+ */
+@Slf4j
+@Component
+public class LectureCatalog {
+
+    private final LectureRepository lectureRepository;
+    private final ModuleRepository moduleRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private volatile Snapshot snapshot = new Snapshot(-1, Collections.emptyMap());
+
+    public LectureCatalog(LectureRepository lectureRepository, ModuleRepository moduleRepository,
+                          DataVersionRepository dataVersionRepository, PlatformTransactionManager transactionManager) {
+        this.lectureRepository = lectureRepository;
+        this.moduleRepository = moduleRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Version of the snapshot the locale catalogs come from, the same for all locales.
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    public Optional<LocaleCatalog> getLocale(String locale) {
+        return Optional.ofNullable(snapshot.locales.get(normalize(locale)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.concerns(DataSets.CATALOG)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.refreshDelayMs:30000}")
+    public synchronized void refresh() {
+        long currentVersion = currentVersion();
+        if (currentVersion == snapshot.version) {
+            return;
+        }
+        Snapshot rebuilt = snapshotTransactionTemplate.execute(status -> build());
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            log.info("Lecture catalog rebuilt at version {}: locales {}", rebuilt.version, rebuilt.locales.keySet());
+        }
+    }
+
+    private Snapshot build() {
+        long version = currentVersion();
+        List<Module> modules = moduleRepository.findAll(Sort.by("moduleNumber", "id"));
+        Map<String, Map<Long, List<CatalogLectureDTO>>> lecturesByLocaleAndModule = new HashMap<>();
+        Map<String, Map<Long, LectureDTO>> lecturesByLocale = new HashMap<>();
+        for (CatalogLectureRow row : lectureRepository.findAllCatalogRows()) {
+            String locale = normalize(row.getLocale());
+            lecturesByLocaleAndModule.computeIfAbsent(locale, key -> new HashMap<>())
+                    .computeIfAbsent(row.getModuleId(), key -> new ArrayList<>())
+                    .add(CatalogLectureDTO.builder()
+                            .id(row.getId())
+                            .moduleId(row.getModuleId())
+                            .name(row.getName())
+                            .linkToPresentation(row.getLinkToPresentation())
+                            .linkToLesson(row.getLinkToLesson())
+                            .build());
+            lecturesByLocale.computeIfAbsent(locale, key -> new HashMap<>())
+                    .put(row.getId(), LectureDTO.builder()
+                            .id(row.getId())
+                            .moduleId(row.getModuleId())
+                            .locale(row.getLocale())
+                            .name(row.getName())
+                            .description(row.getDescription())
+                            .linkToPresentation(row.getLinkToPresentation())
+                            .linkToLesson(row.getLinkToLesson())
+                            .build());
+        }
+
+        Map<String, LocaleCatalog> locales = new LinkedHashMap<>();
+        lecturesByLocaleAndModule.forEach((locale, lecturesByModule) -> {
+            List<CatalogModuleDTO> localeModules = new ArrayList<>();
+            for (Module module : modules) {
+                localeModules.add(CatalogModuleDTO.builder()
+                        .id(module.getId())
+                        .moduleNumber(module.getModuleNumber())
+                        .lectureCount(module.getLectureCount())
+                        .name(module.getName())
+                        .description(module.getDescription())
+                        .linkToSite(module.getLinkToSite())
+                        .lectures(List.copyOf(lecturesByModule.getOrDefault(module.getId(), Collections.emptyList())))
+                        .build());
+            }
+            locales.put(locale, new LocaleCatalog(localeModules, lecturesByLocale.get(locale)));
+        });
+        return new Snapshot(version, Collections.unmodifiableMap(locales));
+    }
+
+    private long currentVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.CATALOG).orElse(0L);
+    }
+
+    private static String normalize(String locale) {
+        return locale == null ? "" : locale.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Map<String, LocaleCatalog> locales;
+
+        private Snapshot(long version, Map<String, LocaleCatalog> locales) {
+            this.version = version;
+            this.locales = locales;
+        }
+    }
+}
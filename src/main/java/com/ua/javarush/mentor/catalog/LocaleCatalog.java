@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.catalog;
+
+import com.ua.javarush.mentor.dto.CatalogModuleDTO;
+import com.ua.javarush.mentor.dto.LectureDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Modules and lectures of one locale. Built once per snapshot and never changed, so it is shared by
+ * all requests without copying.
+ */
+public class LocaleCatalog {
+
+    private final List<CatalogModuleDTO> modules;
+    private final Map<Long, LectureDTO> lectures;
+
+    LocaleCatalog(List<CatalogModuleDTO> modules, Map<Long, LectureDTO> lectures) {
+        this.modules = List.copyOf(modules);
+        this.lectures = Map.copyOf(lectures);
+    }
+
+    public List<CatalogModuleDTO> getModules() {
+        return modules;
+    }
+
+    public Optional<LectureDTO> getLecture(Long lectureId) {
+        return Optional.ofNullable(lectures.get(lectureId));
+    }
+}
@@ -0,0 +1,22 @@
+package com.ua.javarush.mentor.command;
+
+import com.ua.javarush.mentor.enums.AudienceAttribute;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Audience command")
+public class AudienceCommand {
+    @Schema(description = "Members of any of the groups, all users when empty")
+    private List<Long> groupIds;
+    @Schema(description = "Only members of groups that started and have not finished")
+    private boolean activeGroupsOnly;
+    @Schema(description = "Users with any of the roles, any role when empty")
+    private List<String> roles;
+    @Schema(description = "Users with all of the attributes")
+    private List<AudienceAttribute> attributes;
+    @Schema(description = "Users left out, for example already notified")
+    private List<Long> excludedUserIds;
+}
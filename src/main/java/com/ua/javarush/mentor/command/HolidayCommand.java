@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Schema(description = "Holiday command")
+public class HolidayCommand {
+    @Schema(description = "Day without lectures")
+    private LocalDate day;
+    @Schema(description = "Holiday name")
+    private String name;
+}
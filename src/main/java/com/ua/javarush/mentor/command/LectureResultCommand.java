@@ -0,0 +1,23 @@
+package com.ua.javarush.mentor.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Lecture result command")
+public class LectureResultCommand {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Hours the mentor spent in the lecture")
+    private Integer hoursInLecture;
+    @Schema(description = "Is the mentor leading the lecture")
+    private Boolean isUserLeading;
+    @Schema(description = "Was the mentor at the lecture")
+    private Boolean wasAtLecture;
+    @Schema(description = "Was another mentor at the lecture instead")
+    private Boolean otherUserWasOnLecture;
+    @Schema(description = "Hours of the other mentor in the lecture")
+    private Integer otherUserHoursOnLecture;
+    @Schema(description = "Comment")
+    private String comment;
+}
@@ -0,0 +1,18 @@
+package com.ua.javarush.mentor.command;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Report job command")
+public class ReportJobCommand {
+    @Schema(description = "Report type")
+    private ReportType reportType;
+    @Schema(description = "Report format")
+    private ReportFormat reportFormat;
+    @Schema(description = "Report locale, EN by default")
+    private AppLocale locale;
+}
@@ -0,0 +1,18 @@
+package com.ua.javarush.mentor.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Schema(description = "Timetable generation command")
+public class TimetableGenerationCommand {
+    @Schema(description = "Ids of groups to generate timetable for")
+    private List<Long> groupIds;
+    @Schema(description = "Locale of the lectures of the course")
+    private String lectureLocale;
+    @Schema(description = "Local start time of lectures", example = "19:00")
+    private LocalTime startTime;
+}
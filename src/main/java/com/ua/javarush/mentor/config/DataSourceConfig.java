@@ -0,0 +1,78 @@
+package com.ua.javarush.mentor.config;
+
+import com.ua.javarush.mentor.persist.routing.HoldTimingDataSource;
+import com.ua.javarush.mentor.persist.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The primary database is configured by {@code spring.datasource}, read replicas by a comma separated
+ * {@code datasource.replicas.urls} with the same credentials and pool settings. Without replicas every
+ * connection comes from the primary as before.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             @Value("${datasource.replicas.urls:}") String[] urls,
+                                                             @Value("${datasource.replicas.maxLagSeconds:5}") double maxLagSeconds,
+                                                             @Value("${datasource.replicas.connectionTimeoutMs:2000}") long connectionTimeoutMs) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!url.isBlank()) {
+                replicas.add(replicaDataSource(primaryDataSource, url.trim(), replicas.size() + 1, connectionTimeoutMs));
+            }
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagSeconds);
+        routingDataSource.checkReplicas();
+        return routingDataSource;
+    }
+
+    /**
+     * Connections are timed from the moment the lazy proxy really takes them, so the hold time counts only
+     * the time a pooled connection is out of its pool. The proxy reads the connection defaults from a connection it takes
+     * untimed, while the registry, whose pool metrics need this data source, does not exist yet.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource, @Lazy MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        dataSource.setTargetDataSource(new HoldTimingDataSource(replicaRoutingDataSource, meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * A replica pool does not fail the start when its database is down, the health check keeps it out of reads
+     * until it answers, and it gives up on a connection sooner than the primary pool.
+     */
+    private static HikariDataSource replicaDataSource(HikariDataSource primary, String url, int number, long connectionTimeoutMs) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setJdbcUrl(url);
+        config.setPoolName("replica-" + number);
+        config.setReadOnly(true);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
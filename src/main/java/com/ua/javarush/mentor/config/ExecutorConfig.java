@@ -0,0 +1,148 @@
+package com.ua.javarush.mentor.config;
+
+import com.ua.javarush.mentor.persist.routing.RoutingScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+
+    public static final String REPORT_JOB_EXECUTOR = "reportJobExecutor";
+    public static final String PAYSLIP_EXECUTOR = "payslipExecutor";
+    public static final String TIMETABLE_EXECUTOR = "timetableExecutor";
+    public static final String REMINDER_EXECUTOR = "reminderExecutor";
+    public static final String ROSTER_HASH_EXECUTOR = "rosterHashExecutor";
+    public static final String INVITATION_EXECUTOR = "invitationExecutor";
+    public static final String STREAMING_EXECUTOR = "streamingExecutor";
+    public static final String INVALIDATION_EXECUTOR = "invalidationExecutor";
+
+    /**
+     * Report rendering is CPU and IO heavy, so it gets its own small pool with a bounded queue:
+     * jobs beyond the queue are rejected instead of piling up in memory.
+     */
+    @Bean(name = REPORT_JOB_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reportJobExecutor(@Value("${report.job.threads:2}") int threads,
+                                                    @Value("${report.job.queueCapacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Payslips are rendered in parallel by a fixed number of threads. The queue is not bounded here:
+     * every batch keeps at most {@code payslip.maxInFlight} payslips submitted, which limits both
+     * the queue and the rendered documents waiting to be zipped.
+     */
+    @Bean(name = PAYSLIP_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor payslipExecutor(@Value("${payslip.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("payslip-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Timetables of several groups are generated at once, one group per thread and transaction,
+     * so the pool size is also the number of database connections taken.
+     */
+    @Bean(name = TIMETABLE_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor timetableExecutor(@Value("${timetable.generation.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("timetable-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Reminders due on the same tick are sent in parallel. A reminder takes a database connection to
+     * claim it and to mark it sent, not while its messages go out.
+     */
+    @Bean(name = REMINDER_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reminderExecutor(@Value("${reminder.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("reminder-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Passwords and confirmation tokens of an imported roster are hashed in parallel. BCrypt only takes CPU,
+     * so the pool is sized by cores and no database connection is held while it runs.
+     */
+    @Bean(name = ROSTER_HASH_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor rosterHashExecutor(@Value("${roster.hashThreads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("roster-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Invitations of imported users are sent after the import has committed, a few at a time, so a large
+     * roster neither waits for the mail server nor floods it.
+     */
+    @Bean(name = INVITATION_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor invitationExecutor(@Value("${roster.invitationThreads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("invitation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Caches are rebuilt on data changes one event at a time, in the order the changes were published.
+     */
+    @Bean(name = INVALIDATION_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor invalidationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("invalidation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Streamed responses are written on a thread of their own, as with the default executor of Spring MVC, which
+     * takes over the database routing scope of the request.
+     */
+    @Bean(name = STREAMING_EXECUTOR)
+    public SimpleAsyncTaskExecutor streamingExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("streaming-");
+        executor.setTaskDecorator(RoutingScope.taskDecorator());
+        return executor;
+    }
+}
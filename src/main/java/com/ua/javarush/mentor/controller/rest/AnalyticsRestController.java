@@ -0,0 +1,104 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.GroupAttendanceDTO;
+import com.ua.javarush.mentor.dto.MentorAttendanceDTO;
+import com.ua.javarush.mentor.dto.ModuleRetentionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_GENERATE_REPORT;
+import com.ua.javarush.mentor.services.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/analytics")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Analytics", description = "Analytics API")
+public class AnalyticsRestController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsRestController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/group/{groupId}/attendance")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get group attendance",
+            description = "Get lectures of the group per week between the days and how many of them were held with a mentor present. " +
+                    "Read from rollups updated when the writing transaction commits",
+            parameters = {
+                    @Parameter(name = "groupId", description = "Group id", required = true),
+                    @Parameter(name = "from", description = "First day, yyyy-MM-dd", required = true),
+                    @Parameter(name = "to", description = "Last day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = GroupAttendanceDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Analytics")
+    public ResponseEntity<List<GroupAttendanceDTO>> getGroupAttendance(@PathVariable("groupId") Long groupId,
+                                                                       @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws GeneralException {
+        return new ResponseEntity<>(analyticsService.getGroupAttendance(groupId, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/mentor/{userId}/attendance")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get mentor attendance",
+            description = "Get lecture results of the mentor per week between the days. " +
+                    "Read from rollups updated when the writing transaction commits",
+            parameters = {
+                    @Parameter(name = "userId", description = "Mentor id", required = true),
+                    @Parameter(name = "from", description = "First day, yyyy-MM-dd", required = true),
+                    @Parameter(name = "to", description = "Last day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = MentorAttendanceDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Analytics")
+    public ResponseEntity<List<MentorAttendanceDTO>> getMentorAttendance(@PathVariable("userId") Long userId,
+                                                                         @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                         @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) throws GeneralException {
+        return new ResponseEntity<>(analyticsService.getMentorAttendance(userId, from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/modules/retention")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get module retention",
+            description = "Get for every module, in module order, the groups that held its lectures and their students on start and on end. " +
+                    "Read from rollups updated when the writing transaction commits",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = ModuleRetentionDTO.class))
+                            ))},
+            tags = "Analytics")
+    public ResponseEntity<List<ModuleRetentionDTO>> getModuleRetention() {
+        return new ResponseEntity<>(analyticsService.getModuleRetention(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.command.AudienceCommand;
+import com.ua.javarush.mentor.dto.AudienceDTO;
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_CREATING_USERS;
+import com.ua.javarush.mentor.services.AudienceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("api/audience")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Audience", description = "Audience API")
+public class AudienceRestController {
+
+    private final AudienceService audienceService;
+
+    public AudienceRestController(AudienceService audienceService) {
+        this.audienceService = audienceService;
+    }
+
+    @PostMapping("/select")
+    @PERMISSION_CREATING_USERS
+    @Operation(summary = "Select audience",
+            description = "Select users by groups, active groups, roles and attributes, leaving out the excluded users. " +
+                    "Answered from an in-memory index, changes of users and groups appear within seconds",
+            parameters = {
+                    @Parameter(name = "limit", description = "Max user ids in the response")
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = AudienceCommand.class)
+                    )),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = AudienceDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Audience")
+    public ResponseEntity<AudienceDTO> selectAudience(@RequestBody AudienceCommand audienceCommand,
+                                                      @RequestParam(value = "limit", required = false, defaultValue = "1000") int limit) throws GeneralException {
+        return new ResponseEntity<>(audienceService.selectAudience(audienceCommand, limit), HttpStatus.OK);
+    }
+}
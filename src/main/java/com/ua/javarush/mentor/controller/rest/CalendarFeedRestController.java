@@ -0,0 +1,122 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.FeedTokenDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.schedule.CalendarFeedVersion;
+import com.ua.javarush.mentor.services.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.Principal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@RestController
+@RequestMapping("api/feed")
+@Tag(name = "Calendar feed", description = "Calendar feed API")
+public class CalendarFeedRestController {
+
+    public static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    public CalendarFeedRestController(CalendarFeedService calendarFeedService) {
+        this.calendarFeedService = calendarFeedService;
+    }
+
+    @PostMapping("/token")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Create feed token",
+            description = "Create a token for calendar feed URLs of the current user, the previous token stops working",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = FeedTokenDTO.class)
+                            ))},
+            tags = "Calendar feed")
+    public ResponseEntity<FeedTokenDTO> rotateToken(Principal principal) throws GeneralException {
+        return new ResponseEntity<>(calendarFeedService.rotateToken(principal), HttpStatus.OK);
+    }
+
+    @GetMapping("/{token}/group/{groupId}.ics")
+    @Operation(summary = "Get group calendar feed",
+            description = "Get the iCalendar feed of a group the token's user is in or booked on. Honors If-None-Match and If-Modified-Since",
+            parameters = {
+                    @Parameter(name = "token", description = "Feed token", required = true),
+                    @Parameter(name = "groupId", description = "Group id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(mediaType = "text/calendar")),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "404", description = "Token or group not found, or the user is not in the group",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Calendar feed")
+    public ResponseEntity<byte[]> getGroupFeed(@PathVariable("token") String token, @PathVariable("groupId") Long groupId,
+                                               WebRequest webRequest) throws GeneralException {
+        CalendarFeedVersion version = calendarFeedService.getGroupFeedVersion(token, groupId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified().toEpochMilli())) {
+            return notModified(version);
+        }
+        return feed(version, calendarFeedService.getGroupFeed(groupId, version));
+    }
+
+    @GetMapping("/{token}/mentor/{userId}.ics")
+    @Operation(summary = "Get mentor calendar feed",
+            description = "Get the iCalendar feed of the mentor the token belongs to. Honors If-None-Match and If-Modified-Since",
+            parameters = {
+                    @Parameter(name = "token", description = "Feed token", required = true),
+                    @Parameter(name = "userId", description = "Mentor id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(mediaType = "text/calendar")),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "404", description = "Token not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Calendar feed")
+    public ResponseEntity<byte[]> getMentorFeed(@PathVariable("token") String token, @PathVariable("userId") Long userId,
+                                                WebRequest webRequest) throws GeneralException {
+        CalendarFeedVersion version = calendarFeedService.getMentorFeedVersion(token, userId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified().toEpochMilli())) {
+            return notModified(version);
+        }
+        return feed(version, calendarFeedService.getMentorFeed(userId, version));
+    }
+
+    /**
+     * no-cache lets clients keep the feed but makes them revalidate, which is what the 304s are for.
+     */
+    private ResponseEntity<byte[]> feed(CalendarFeedVersion version, byte[] body) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(body);
+    }
+
+    private ResponseEntity<byte[]> notModified(CalendarFeedVersion version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .build();
+    }
+}
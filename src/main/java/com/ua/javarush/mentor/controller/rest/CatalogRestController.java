@@ -0,0 +1,133 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.CatalogModuleDTO;
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.LectureDTO;
+import com.ua.javarush.mentor.dto.LectureSearchResultDTO;
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.services.CatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("api/catalog")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Catalog", description = "Catalog API")
+public class CatalogRestController {
+
+    private final CatalogService catalogService;
+
+    public CatalogRestController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping("/{locale}/modules")
+    @Operation(summary = "Get catalog modules",
+            description = "Get modules in module order with their lectures in the locale. " +
+                    "The ETag changes with every change of modules or lectures, send it back in If-None-Match to get 304",
+            parameters = {
+                    @Parameter(name = "locale", description = "Locale: EN, RU, UA", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = CatalogModuleDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "404", description = "Locale not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Catalog")
+    public ResponseEntity<List<CatalogModuleDTO>> getModules(@PathVariable("locale") String locale,
+                                                             WebRequest webRequest) throws GeneralException {
+        String eTag = eTag(locale, catalogService.getCatalogVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(catalogService.getModules(locale));
+    }
+
+    @GetMapping("/{locale}/lectures/{lectureId}")
+    @Operation(summary = "Get catalog lecture",
+            description = "Get lecture in the locale. " +
+                    "The ETag changes with every change of modules or lectures, send it back in If-None-Match to get 304",
+            parameters = {
+                    @Parameter(name = "locale", description = "Locale: EN, RU, UA", required = true),
+                    @Parameter(name = "lectureId", description = "Lecture id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = LectureDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "404", description = "Locale or lecture not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Catalog")
+    public ResponseEntity<LectureDTO> getLecture(@PathVariable("locale") String locale,
+                                                 @PathVariable("lectureId") Long lectureId,
+                                                 WebRequest webRequest) throws GeneralException {
+        String eTag = eTag(locale, catalogService.getCatalogVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(catalogService.getLecture(locale, lectureId));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search lectures",
+            description = "Full-text search over names and descriptions of lectures and their modules, most relevant first. " +
+                    "The query supports quoted phrases, \"or\" and \"-\" to exclude a word",
+            parameters = {
+                    @Parameter(name = "query", description = "Search query", required = true),
+                    @Parameter(name = "locale", description = "Locale: EN, RU, UA. All locales when not given"),
+                    @Parameter(name = "page", description = "Page number"),
+                    @Parameter(name = "size", description = "Page size")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = LectureSearchResultDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Catalog")
+    public ResponseEntity<PageDTO<LectureSearchResultDTO>> searchLectures(
+            @RequestParam("query") String query,
+            @RequestParam(value = "locale", required = false) AppLocale appLocale,
+            @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false, defaultValue = "${default.pageSize}") int size) throws GeneralException {
+        return new ResponseEntity<>(catalogService.searchLectures(query, appLocale, page, size), HttpStatus.OK);
+    }
+
+    /**
+     * The version is read before the body, so a body never carries an ETag newer than itself.
+     */
+    private String eTag(String locale, long version) {
+        return "\"catalog-" + locale.toUpperCase(Locale.ROOT) + "-" + version + "\"";
+    }
+}
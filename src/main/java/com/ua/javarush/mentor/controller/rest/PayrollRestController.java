@@ -0,0 +1,223 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.dto.PayrollCalculationDTO;
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.dto.PayrollRollupMismatchDTO;
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.dto.WorkloadDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_GENERATE_REPORT;
+import com.ua.javarush.mentor.services.PayrollService;
+import com.ua.javarush.mentor.services.PayslipService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/payroll")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Payroll", description = "Payroll API")
+public class PayrollRestController {
+
+    private static final String ATTACHMENT_FILENAME = "attachment; filename=";
+
+    private final PayrollService payrollService;
+    private final PayslipService payslipService;
+
+    public PayrollRestController(PayrollService payrollService, PayslipService payslipService) {
+        this.payrollService = payrollService;
+        this.payslipService = payslipService;
+    }
+
+    @PostMapping("/{year}/{month}")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Calculate payroll",
+            description = "Calculate payroll of mentors for the month. Recalculation replaces the previous result of the month",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true),
+                    @Parameter(name = "month", description = "Month, 1-12", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = PayrollCalculationDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<PayrollCalculationDTO> calculatePayroll(@PathVariable("year") int year,
+                                                                  @PathVariable("month") int month) throws GeneralException {
+        return new ResponseEntity<>(payrollService.calculate(year, month), HttpStatus.OK);
+    }
+
+    @GetMapping("/{year}/{month}")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get payroll",
+            description = "Get calculated payroll of mentors for the month",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true),
+                    @Parameter(name = "month", description = "Month, 1-12", required = true),
+                    @Parameter(name = "page", description = "Page number"),
+                    @Parameter(name = "size", description = "Page size"),
+                    @Parameter(name = "sort", description = "Sort by field")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = PayrollDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<PageDTO<PayrollDTO>> getPayroll(
+            @PathVariable("year") int year,
+            @PathVariable("month") int month,
+            @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false, defaultValue = "${default.pageSize}") int size,
+            @RequestParam(value = "sort", required = false, defaultValue = "${payroll.sortBy}") String sortBy) throws GeneralException {
+        return new ResponseEntity<>(payrollService.getPayroll(year, month, page, size, sortBy), HttpStatus.OK);
+    }
+
+    @GetMapping("/{year}/{month}/workload")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get workload",
+            description = "Get lecture count and hours of mentors for the month",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true),
+                    @Parameter(name = "month", description = "Month, 1-12", required = true),
+                    @Parameter(name = "page", description = "Page number"),
+                    @Parameter(name = "size", description = "Page size"),
+                    @Parameter(name = "sort", description = "Sort by field")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = WorkloadDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<PageDTO<WorkloadDTO>> getWorkload(
+            @PathVariable("year") int year,
+            @PathVariable("month") int month,
+            @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false, defaultValue = "${default.pageSize}") int size,
+            @RequestParam(value = "sort", required = false, defaultValue = "${workload.sortBy}") String sortBy) throws GeneralException {
+        return new ResponseEntity<>(payrollService.getWorkload(year, month, page, size, sortBy), HttpStatus.OK);
+    }
+
+    @GetMapping("/{year}/{month}/payslips")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Export payslips",
+            description = "Stream a ZIP archive with a PDF payslip of every mentor of the calculated payroll month",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true),
+                    @Parameter(name = "month", description = "Month, 1-12", required = true),
+                    @Parameter(name = "locale", description = "Payslip locale")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Payroll is not calculated",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<StreamingResponseBody> exportPayslips(@PathVariable("year") int year,
+                                                                @PathVariable("month") int month,
+                                                                @RequestParam(value = "locale", required = false, defaultValue = "EN") AppLocale appLocale) throws GeneralException {
+        StreamingResponseBody body = payslipService.export(year, month, appLocale);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ATTACHMENT_FILENAME + payslipService.generateFileName(year, month))
+                .contentType(MediaType.parseMediaType(ReportFormat.ZIP.getContentType()))
+                .body(body);
+    }
+
+    @PostMapping("/{year}/{month}/payslips/job")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Submit payslips job",
+            description = "Generate the payslips archive in background. Progress and download are available through the report job API",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true),
+                    @Parameter(name = "month", description = "Month, 1-12", required = true),
+                    @Parameter(name = "locale", description = "Payslip locale")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Accepted",
+                            content = @Content(
+                                    schema = @Schema(implementation = ReportJobDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Payroll is not calculated",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "503", description = "Report queue is full",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<ReportJobDTO> submitPayslipsJob(@PathVariable("year") int year,
+                                                          @PathVariable("month") int month,
+                                                          @RequestParam(value = "locale", required = false, defaultValue = "EN") AppLocale appLocale,
+                                                          Principal principal) throws GeneralException {
+        return new ResponseEntity<>(payslipService.submit(year, month, appLocale, principal), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/rollup/rebuild")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Rebuild payroll rollup",
+            description = "Rebuild monthly totals of mentors from lecture results",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK")
+            },
+            tags = "Payroll")
+    public ResponseEntity<Void> rebuildRollup() {
+        payrollService.rebuildRollup();
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    @GetMapping("/rollup/check")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Check payroll rollup",
+            description = "Compare monthly totals of mentors with lecture results. Empty list means the totals are consistent",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = PayrollRollupMismatchDTO.class))
+                            ))},
+            tags = "Payroll")
+    public ResponseEntity<List<PayrollRollupMismatchDTO>> checkRollup() {
+        return new ResponseEntity<>(payrollService.checkRollup(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,139 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.command.ReportJobCommand;
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.reports.ReportJob;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_GENERATE_REPORT;
+import com.ua.javarush.mentor.services.ReportJobService;
+import com.ua.javarush.mentor.services.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("api/report")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Report", description = "Report API")
+public class ReportRestController {
+
+    private static final String ATTACHMENT_FILENAME = "attachment; filename=";
+
+    private final ReportService reportService;
+    private final ReportJobService reportJobService;
+
+    public ReportRestController(ReportService reportService, ReportJobService reportJobService) {
+        this.reportService = reportService;
+        this.reportJobService = reportJobService;
+    }
+
+    @GetMapping("/{reportType}/{reportFormat}")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Export report",
+            description = "Stream report as PDF, CSV or XLSX. Available report types: USERS, SALARIES, LECTURE_RESULTS",
+            parameters = {
+                    @Parameter(name = "reportType", description = "Report type", required = true),
+                    @Parameter(name = "reportFormat", description = "Report format", required = true),
+                    @Parameter(name = "locale", description = "Report locale")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Report")
+    public ResponseEntity<StreamingResponseBody> exportReport(@PathVariable("reportType") ReportType reportType,
+                                                              @PathVariable("reportFormat") ReportFormat reportFormat,
+                                                              @RequestParam(value = "locale", required = false, defaultValue = "EN") AppLocale appLocale) throws GeneralException {
+        StreamingResponseBody body = reportService.export(reportType, reportFormat, appLocale);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ATTACHMENT_FILENAME + reportService.generateFileName(reportType, reportFormat))
+                .contentType(MediaType.parseMediaType(reportFormat.getContentType()))
+                .body(body);
+    }
+
+    @PostMapping("/job")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Submit report job",
+            description = "Generate report in background. If the report for the current data is already generated, the job is returned as DONE",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Accepted"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "503", description = "Report queue is full",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Report")
+    public ResponseEntity<ReportJobDTO> submitReportJob(@RequestBody ReportJobCommand reportJobCommand, Principal principal) throws GeneralException {
+        AppLocale appLocale = reportJobCommand.getLocale() == null ? AppLocale.EN : reportJobCommand.getLocale();
+        return new ResponseEntity<>(reportJobService.submit(reportJobCommand.getReportType(), reportJobCommand.getReportFormat(), appLocale, principal),
+                HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/job/{jobId}")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Get report job",
+            description = "Get status of report job",
+            parameters = {
+                    @Parameter(name = "jobId", description = "Job id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "404", description = "Job not found or submitted by another user",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Report")
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable("jobId") UUID jobId, Principal principal) throws GeneralException {
+        return new ResponseEntity<>(reportJobService.getJob(jobId, principal), HttpStatus.OK);
+    }
+
+    @GetMapping("/job/{jobId}/download")
+    @PERMISSION_GENERATE_REPORT
+    @Operation(summary = "Download report",
+            description = "Download report generated by finished job",
+            parameters = {
+                    @Parameter(name = "jobId", description = "Job id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "404", description = "Job not found or submitted by another user",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "409", description = "Job is not finished",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Report")
+    public ResponseEntity<Resource> downloadReport(@PathVariable("jobId") UUID jobId, Principal principal) throws GeneralException {
+        ReportJob job = reportJobService.fetchCompletedJob(jobId, principal);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ATTACHMENT_FILENAME + job.getFileName())
+                .contentType(MediaType.parseMediaType(job.getReportFormat().getContentType()))
+                .body(new FileSystemResource(job.getFile()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.RosterImportDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_CREATING_USERS;
+import com.ua.javarush.mentor.services.RosterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@RestController
+@RequestMapping("api/roster")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Roster", description = "Roster API")
+public class RosterRestController {
+
+    private final RosterService rosterService;
+
+    public RosterRestController(RosterService rosterService) {
+        this.rosterService = rosterService;
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PERMISSION_CREATING_USERS
+    @Operation(summary = "Import roster",
+            description = "Create the users of a CSV roster and enroll them in the group, all of them or none. " +
+                    "The header names the columns: first_name, last_name, email, username, country and optional " +
+                    "telegram_nickname and password. Users without a password set one with the password reset. " +
+                    "Invitations to confirm the email are sent in the background after the import",
+            parameters = {
+                    @Parameter(name = "groupId", description = "Group to enroll the users in"),
+                    @Parameter(name = "roleId", description = "Role of the users"),
+                    @Parameter(name = "locale", description = "Locale of the invitations")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Created",
+                            content = @Content(
+                                    schema = @Schema(implementation = RosterImportDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "409", description = "Conflict",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Roster")
+    public ResponseEntity<RosterImportDTO> importRoster(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam("groupId") Long groupId,
+                                                        @RequestParam("roleId") Long roleId,
+                                                        @RequestParam(value = "locale", required = false, defaultValue = "EN") AppLocale appLocale) throws GeneralException {
+        try (InputStream roster = file.getInputStream()) {
+            return new ResponseEntity<>(rosterService.importRoster(roster, groupId, roleId, appLocale), HttpStatus.CREATED);
+        } catch (IOException e) {
+            throw createGeneralException("Roster cannot be read", HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID, e);
+        }
+    }
+}
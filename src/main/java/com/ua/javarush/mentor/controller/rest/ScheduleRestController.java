@@ -0,0 +1,98 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.MentorSlotDTO;
+import com.ua.javarush.mentor.dto.ScheduleConflictDTO;
+import com.ua.javarush.mentor.dto.SubstituteMentorDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.services.ScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/schedule")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Schedule", description = "Schedule API")
+public class ScheduleRestController {
+
+    private final ScheduleService scheduleService;
+
+    public ScheduleRestController(ScheduleService scheduleService) {
+        this.scheduleService = scheduleService;
+    }
+
+    @GetMapping("/mentor/{userId}/slot")
+    @Operation(summary = "Check mentor slot",
+            description = "Check whether the mentor has no lecture overlapping the slot",
+            parameters = {
+                    @Parameter(name = "userId", description = "Mentor id", required = true),
+                    @Parameter(name = "start", description = "Start of the slot, ISO date-time", required = true),
+                    @Parameter(name = "finish", description = "Finish of the slot, ISO date-time", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = MentorSlotDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Schedule")
+    public ResponseEntity<MentorSlotDTO> checkSlot(@PathVariable("userId") Long userId,
+                                                   @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant start,
+                                                   @RequestParam("finish") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant finish) throws GeneralException {
+        return new ResponseEntity<>(scheduleService.checkSlot(userId, start, finish), HttpStatus.OK);
+    }
+
+    @GetMapping("/group/{groupId}/conflicts")
+    @Operation(summary = "Validate group timetable",
+            description = "Find lectures of the group timetable the mentor cannot take because of overlapping lectures",
+            parameters = {
+                    @Parameter(name = "groupId", description = "Group id", required = true),
+                    @Parameter(name = "userId", description = "Mentor id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = ScheduleConflictDTO.class))
+                            ))},
+            tags = "Schedule")
+    public ResponseEntity<List<ScheduleConflictDTO>> validateGroupTimetable(@PathVariable("groupId") Long groupId,
+                                                                            @RequestParam("userId") Long userId) {
+        return new ResponseEntity<>(scheduleService.validateGroupTimetable(groupId, userId), HttpStatus.OK);
+    }
+
+    @GetMapping("/timetable/{timetableId}/substitutes")
+    @Operation(summary = "Find substitute mentors",
+            description = "Find mentors free at the time of the lecture and working that day, the least loaded in the month first",
+            parameters = {
+                    @Parameter(name = "timetableId", description = "Timetable id", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = SubstituteMentorDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Timetable not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Schedule")
+    public ResponseEntity<List<SubstituteMentorDTO>> findSubstitutes(@PathVariable("timetableId") Long timetableId) throws GeneralException {
+        return new ResponseEntity<>(scheduleService.findSubstitutes(timetableId), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,266 @@
+package com.ua.javarush.mentor.controller.rest;
+
+import com.ua.javarush.mentor.command.HolidayCommand;
+import com.ua.javarush.mentor.command.LectureResultCommand;
+import com.ua.javarush.mentor.command.TimetableGenerationCommand;
+import com.ua.javarush.mentor.dto.CalendarLectureDTO;
+import com.ua.javarush.mentor.dto.ErrorDTO;
+import com.ua.javarush.mentor.dto.HolidayDTO;
+import com.ua.javarush.mentor.dto.LectureResultSubmissionDTO;
+import com.ua.javarush.mentor.dto.TimetableGenerationDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.security.permissions.PERMISSION_UPDATE_MODULE;
+import com.ua.javarush.mentor.services.LectureResultService;
+import com.ua.javarush.mentor.services.TimetableService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/timetable")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Timetable", description = "Timetable API")
+public class TimetableRestController {
+
+    private final TimetableService timetableService;
+    private final LectureResultService lectureResultService;
+
+    public TimetableRestController(TimetableService timetableService, LectureResultService lectureResultService) {
+        this.timetableService = timetableService;
+        this.lectureResultService = lectureResultService;
+    }
+
+    @PostMapping("/generate")
+    @PERMISSION_UPDATE_MODULE
+    @Operation(summary = "Generate timetable",
+            description = "Generate timetable of groups from their start date, lectures of the course, weekend days and holidays. " +
+                    "Lectures that already have results are kept, the rest of the timetable is replaced",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = TimetableGenerationCommand.class)
+                    )),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = TimetableGenerationDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Group not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<List<TimetableGenerationDTO>> generateTimetable(@RequestBody TimetableGenerationCommand timetableGenerationCommand) throws GeneralException {
+        return new ResponseEntity<>(timetableService.generate(timetableGenerationCommand), HttpStatus.OK);
+    }
+
+    @GetMapping("/holidays/{year}")
+    @Operation(summary = "Get holidays",
+            description = "Get days without lectures of the year",
+            parameters = {
+                    @Parameter(name = "year", description = "Year", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = HolidayDTO.class))
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<List<HolidayDTO>> getHolidays(@PathVariable("year") int year) {
+        return new ResponseEntity<>(timetableService.getHolidays(year), HttpStatus.OK);
+    }
+
+    @PostMapping("/holidays")
+    @PERMISSION_UPDATE_MODULE
+    @Operation(summary = "Save holiday",
+            description = "Add a day without lectures or rename it",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            schema = @Schema(implementation = HolidayCommand.class)
+                    )),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = HolidayDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<HolidayDTO> saveHoliday(@RequestBody HolidayCommand holidayCommand) throws GeneralException {
+        return new ResponseEntity<>(timetableService.saveHoliday(holidayCommand), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/holidays/{day}")
+    @PERMISSION_UPDATE_MODULE
+    @Operation(summary = "Remove holiday",
+            description = "Remove a day without lectures",
+            parameters = {
+                    @Parameter(name = "day", description = "Day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK"),
+                    @ApiResponse(responseCode = "404", description = "Holiday not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<Void> removeHoliday(@PathVariable("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) throws GeneralException {
+        timetableService.removeHoliday(day);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar/group/{groupId}")
+    @Operation(summary = "Get group calendar",
+            description = "Get lectures of the group starting between the days, inclusive, in the timetable zone. " +
+                    "The ETag changes with every change of the group timetable, send it back in If-None-Match to get 304",
+            parameters = {
+                    @Parameter(name = "groupId", description = "Group id", required = true),
+                    @Parameter(name = "from", description = "First day, yyyy-MM-dd", required = true),
+                    @Parameter(name = "to", description = "Last day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = CalendarLectureDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Group not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<List<CalendarLectureDTO>> getGroupCalendar(@PathVariable("groupId") Long groupId,
+                                                                     @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                     @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                     WebRequest webRequest) throws GeneralException {
+        String eTag = eTag("group-" + groupId, timetableService.getGroupScheduleVersion(groupId));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(timetableService.getGroupCalendar(groupId, from, to));
+    }
+
+    @GetMapping("/calendar/mentor/{userId}")
+    @Operation(summary = "Get mentor calendar",
+            description = "Get lectures of the mentor starting between the days, inclusive, in the timetable zone. " +
+                    "The ETag changes with every change of mentor bookings, send it back in If-None-Match to get 304",
+            parameters = {
+                    @Parameter(name = "userId", description = "Mentor id", required = true),
+                    @Parameter(name = "from", description = "First day, yyyy-MM-dd", required = true),
+                    @Parameter(name = "to", description = "Last day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = CalendarLectureDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<List<CalendarLectureDTO>> getMentorCalendar(@PathVariable("userId") Long userId,
+                                                                      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                      WebRequest webRequest) throws GeneralException {
+        String eTag = eTag("mentors", timetableService.getMentorScheduleVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(timetableService.getMentorCalendar(userId, from, to));
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get calendar",
+            description = "Get lectures of all groups starting between the days, inclusive, in the timetable zone. " +
+                    "The ETag changes with every change of the timetable, send it back in If-None-Match to get 304",
+            parameters = {
+                    @Parameter(name = "from", description = "First day, yyyy-MM-dd", required = true),
+                    @Parameter(name = "to", description = "Last day, yyyy-MM-dd", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    array = @ArraySchema(schema = @Schema(implementation = CalendarLectureDTO.class))
+                            )),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<List<CalendarLectureDTO>> getCalendar(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                WebRequest webRequest) throws GeneralException {
+        String eTag = eTag("timetable", timetableService.getScheduleVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(timetableService.getCalendar(from, to));
+    }
+
+    @PutMapping("/{timetableId}/results")
+    @PERMISSION_UPDATE_MODULE
+    @Operation(summary = "Submit lecture results",
+            description = "Replace results of the lecture with the submitted ones, one result per mentor. " +
+                    "Results of mentors missing from the submission are removed, submitting the same results again changes nothing",
+            parameters = {
+                    @Parameter(name = "timetableId", description = "Timetable id", required = true)
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = LectureResultCommand.class))
+                    )),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK",
+                            content = @Content(
+                                    schema = @Schema(implementation = LectureResultSubmissionDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "400", description = "Bad request",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "404", description = "Timetable not found",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            )),
+                    @ApiResponse(responseCode = "409", description = "Mentor has another lecture at the same time",
+                            content = @Content(
+                                    schema = @Schema(implementation = ErrorDTO.class)
+                            ))},
+            tags = "Timetable")
+    public ResponseEntity<LectureResultSubmissionDTO> submitLectureResults(@PathVariable("timetableId") Long timetableId,
+                                                                           @RequestBody List<LectureResultCommand> lectureResultCommands) throws GeneralException {
+        return new ResponseEntity<>(lectureResultService.submit(timetableId, lectureResultCommands), HttpStatus.OK);
+    }
+
+    /**
+     * ETags are compared per URL, so the version of the data behind the URL is enough to tell ranges apart.
+     */
+    private String eTag(String scope, long version) {
+        return "\"" + scope + "-" + version + "\"";
+    }
+}
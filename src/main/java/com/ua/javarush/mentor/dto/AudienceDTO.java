@@ -0,0 +1,23 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Audience DTO")
+public class AudienceDTO {
+    @Schema(description = "Version of the users the audience was selected from")
+    private long version;
+    @Schema(description = "Users in the audience")
+    private long count;
+    @Schema(description = "Ids of the users in ascending order, at most the limit")
+    private List<Long> userIds;
+}
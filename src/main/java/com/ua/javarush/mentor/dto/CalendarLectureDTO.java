@@ -0,0 +1,27 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Calendar lecture DTO")
+public class CalendarLectureDTO {
+    @Schema(description = "Timetable id")
+    private Long timetableId;
+    @Schema(description = "Group id")
+    private Integer groupId;
+    @Schema(description = "Lecture id")
+    private Integer lectureId;
+    @Schema(description = "Start of the lecture")
+    private Instant startDateTime;
+    @Schema(description = "Finish of the lecture")
+    private Instant finishDateTime;
+}
@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Catalog module DTO")
+public class CatalogModuleDTO {
+    @Schema(description = "Module id")
+    private Long id;
+    @Schema(description = "Module number")
+    private int moduleNumber;
+    @Schema(description = "Lectures of the module held with a group")
+    private int lectureCount;
+    @Schema(description = "Module name")
+    private String name;
+    @Schema(description = "Module description")
+    private String description;
+    @Schema(description = "Link to site")
+    private String linkToSite;
+    @Schema(description = "Lectures of the module in the locale")
+    private List<CatalogLectureDTO> lectures;
+}
@@ -0,0 +1,19 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Calendar feed token DTO")
+public class FeedTokenDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Token of calendar feed URLs, replaces the previous token")
+    private String token;
+}
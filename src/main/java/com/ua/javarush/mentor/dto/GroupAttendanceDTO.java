@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Group attendance DTO")
+public class GroupAttendanceDTO {
+    @Schema(description = "Group id")
+    private Long groupId;
+    @Schema(description = "Monday of the week")
+    private LocalDate week;
+    @Schema(description = "Lectures in the timetable")
+    private Long lectureCount;
+    @Schema(description = "Lectures with results")
+    private Long heldCount;
+    @Schema(description = "Lectures with a mentor present")
+    private Long attendedCount;
+    @Schema(description = "Hours mentors were present")
+    private Long mentorHours;
+    @Schema(description = "Lectures with a mentor present of the lectures with results, 0-1")
+    private Double attendanceRate;
+}
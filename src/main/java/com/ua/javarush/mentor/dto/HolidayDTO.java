@@ -0,0 +1,21 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Holiday DTO")
+public class HolidayDTO {
+    @Schema(description = "Day without lectures")
+    private LocalDate day;
+    @Schema(description = "Holiday name")
+    private String name;
+}
@@ -0,0 +1,29 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Lecture DTO")
+public class LectureDTO {
+    @Schema(description = "Lecture id")
+    private Long id;
+    @Schema(description = "Module id")
+    private Long moduleId;
+    @Schema(description = "Lecture locale")
+    private String locale;
+    @Schema(description = "Lecture name")
+    private String name;
+    @Schema(description = "Lecture description")
+    private String description;
+    @Schema(description = "Link to presentation")
+    private String linkToPresentation;
+    @Schema(description = "Link to lesson")
+    private String linkToLesson;
+}
@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Lecture result report row DTO")
+public class LectureResultRowDTO {
+    @Schema(description = "Lecture result id")
+    private Long id;
+    @Schema(description = "Lecture name")
+    private String lectureName;
+    @Schema(description = "First name")
+    private String firstName;
+    @Schema(description = "Last name")
+    private String lastName;
+    @Schema(description = "Hours in lecture")
+    private Integer hoursInLecture;
+    @Schema(description = "Is user leading")
+    private Boolean isUserLeading;
+    @Schema(description = "Was at lecture")
+    private Boolean wasAtLecture;
+    @Schema(description = "Other user was on lecture")
+    private Boolean otherUserWasOnLecture;
+    @Schema(description = "Other user hours on lecture")
+    private Integer otherUserHoursOnLecture;
+    @Schema(description = "Comment")
+    private String comment;
+}
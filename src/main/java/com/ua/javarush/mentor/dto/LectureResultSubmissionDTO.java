@@ -0,0 +1,25 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Lecture result submission DTO")
+public class LectureResultSubmissionDTO {
+    @Schema(description = "Timetable id")
+    private Long timetableId;
+    @Schema(description = "Results written for the first time")
+    private int inserted;
+    @Schema(description = "Results changed")
+    private int updated;
+    @Schema(description = "Results left as they were")
+    private int unchanged;
+    @Schema(description = "Results of mentors no longer in the submission, removed")
+    private int deleted;
+}
@@ -0,0 +1,33 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Lecture search result DTO")
+public class LectureSearchResultDTO {
+    @Schema(description = "Lecture id")
+    private Long id;
+    @Schema(description = "Module id")
+    private Long moduleId;
+    @Schema(description = "Module number")
+    private Integer moduleNumber;
+    @Schema(description = "Module name")
+    private String moduleName;
+    @Schema(description = "Lecture locale")
+    private String locale;
+    @Schema(description = "Lecture name")
+    private String name;
+    @Schema(description = "Link to presentation")
+    private String linkToPresentation;
+    @Schema(description = "Link to lesson")
+    private String linkToLesson;
+    @Schema(description = "Rank, the higher the more relevant")
+    private Float rank;
+}
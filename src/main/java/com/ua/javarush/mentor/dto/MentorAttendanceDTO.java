@@ -0,0 +1,33 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Mentor attendance DTO")
+public class MentorAttendanceDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Monday of the week")
+    private LocalDate week;
+    @Schema(description = "Lecture results")
+    private Long resultCount;
+    @Schema(description = "Lectures the mentor was present at")
+    private Long attendedCount;
+    @Schema(description = "Lectures the mentor was leading")
+    private Long leadingCount;
+    @Schema(description = "Lectures given by a second mentor")
+    private Long substitutedCount;
+    @Schema(description = "Hours the mentor was present")
+    private Long hours;
+    @Schema(description = "Lectures the mentor was present at of the lecture results, 0-1")
+    private Double attendanceRate;
+}
@@ -0,0 +1,28 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Mentor slot DTO")
+public class MentorSlotDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Start of the slot")
+    private Instant startDateTime;
+    @Schema(description = "Finish of the slot")
+    private Instant finishDateTime;
+    @Schema(description = "True if the mentor has no booking overlapping the slot")
+    private boolean free;
+    @Schema(description = "Bookings overlapping the slot")
+    private List<MentorBookingDTO> conflicts;
+}
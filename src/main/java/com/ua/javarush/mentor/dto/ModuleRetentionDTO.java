@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Module retention DTO")
+public class ModuleRetentionDTO {
+    @Schema(description = "Module id")
+    private Long moduleId;
+    @Schema(description = "Module number")
+    private Integer moduleNumber;
+    @Schema(description = "Groups that held lectures of the module")
+    private Long groupCount;
+    @Schema(description = "Students on start of these groups")
+    private Long studentsOnStart;
+    @Schema(description = "Students on start of these groups of the students on start of all groups, 0-1")
+    private Double reachedRate;
+    @Schema(description = "Finished groups of these groups")
+    private Long finishedGroupCount;
+    @Schema(description = "Students on end of the finished groups")
+    private Long studentsOnEnd;
+    @Schema(description = "Students on end of the students on start of the finished groups, 0-1")
+    private Double retentionRate;
+}
@@ -0,0 +1,24 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Payroll calculation DTO")
+public class PayrollCalculationDTO {
+    @Schema(description = "First day of the payroll month")
+    private LocalDate period;
+    @Schema(description = "Number of mentors in the payroll")
+    private int mentorCount;
+    @Schema(description = "Date of calculation")
+    private Instant calculatedAt;
+}
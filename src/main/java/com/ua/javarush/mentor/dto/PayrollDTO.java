@@ -0,0 +1,42 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Payroll DTO")
+public class PayrollDTO {
+    @Schema(description = "First day of the payroll month")
+    private LocalDate period;
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Mentor first name")
+    private String firstName;
+    @Schema(description = "Mentor last name")
+    private String lastName;
+    @Schema(description = "Number of lecture results")
+    private Integer lectureCount;
+    @Schema(description = "Hours of lectures the mentor was leading")
+    private Long leadingHours;
+    @Schema(description = "Hours of lectures the mentor was not leading")
+    private Long assistingHours;
+    @Schema(description = "Hours given by a second mentor")
+    private Long substitutedHours;
+    @Schema(description = "Paid hours")
+    private Long paidHours;
+    @Schema(description = "Salary currency")
+    private String salaryCurrency;
+    @Schema(description = "Amount to pay")
+    private Long amount;
+    @Schema(description = "Date of calculation")
+    private Instant calculatedAt;
+}
@@ -0,0 +1,35 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Difference between payroll rollup and lecture results")
+public class PayrollRollupMismatchDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "First day of the month")
+    private LocalDate month;
+    @Schema(description = "Salary currency")
+    private String salaryCurrency;
+    @Schema(description = "Lecture count in rollup")
+    private Integer rollupLectureCount;
+    @Schema(description = "Lecture count calculated from lecture results")
+    private Integer sourceLectureCount;
+    @Schema(description = "Paid hours in rollup")
+    private Long rollupPaidHours;
+    @Schema(description = "Paid hours calculated from lecture results")
+    private Long sourcePaidHours;
+    @Schema(description = "Amount in rollup")
+    private Long rollupAmount;
+    @Schema(description = "Amount calculated from lecture results")
+    private Long sourceAmount;
+}
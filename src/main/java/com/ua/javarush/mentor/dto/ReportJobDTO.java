@@ -0,0 +1,44 @@
+package com.ua.javarush.mentor.dto;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportJobStatus;
+import com.ua.javarush.mentor.enums.ReportType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Report job DTO")
+public class ReportJobDTO {
+    @Schema(description = "Job id")
+    private UUID id;
+    @Schema(description = "Report type")
+    private ReportType reportType;
+    @Schema(description = "Report format")
+    private ReportFormat reportFormat;
+    @Schema(description = "Report locale")
+    private AppLocale locale;
+    @Schema(description = "Job status")
+    private ReportJobStatus status;
+    @Schema(description = "Processed items, for jobs that report progress")
+    private int processed;
+    @Schema(description = "Total items, 0 if unknown")
+    private int total;
+    @Schema(description = "File name of the generated report")
+    private String fileName;
+    @Schema(description = "Date the job was submitted")
+    private Instant createdAt;
+    @Schema(description = "Date the job was finished")
+    private Instant finishedAt;
+    @Schema(description = "Error message of a failed job")
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Roster import DTO")
+public class RosterImportDTO {
+    @Schema(description = "Group the users were enrolled in")
+    private Long groupId;
+    @Schema(description = "Users created")
+    private int importedCount;
+    @Schema(description = "Ids of the created users in the order of the file")
+    private List<Long> userIds;
+    @Schema(description = "Invitations queued for sending")
+    private int invitationsQueued;
+}
@@ -0,0 +1,26 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Schedule conflict DTO")
+public class ScheduleConflictDTO {
+    @Schema(description = "Timetable id of the validated lecture")
+    private Long timetableId;
+    @Schema(description = "Start of the lecture")
+    private Instant startDateTime;
+    @Schema(description = "Finish of the lecture")
+    private Instant finishDateTime;
+    @Schema(description = "Bookings of the mentor and lectures of the same timetable overlapping the lecture")
+    private List<MentorBookingDTO> conflicts;
+}
@@ -0,0 +1,27 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Substitute mentor DTO")
+public class SubstituteMentorDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Mentor first name")
+    private String firstName;
+    @Schema(description = "Mentor last name")
+    private String lastName;
+    @Schema(description = "Mentor telegram nickname")
+    private String telegramNickname;
+    @Schema(description = "Lectures of the mentor in the month of the slot")
+    private int monthLectureCount;
+    @Schema(description = "Minutes of lectures of the mentor in the month of the slot")
+    private long monthLoadMinutes;
+}
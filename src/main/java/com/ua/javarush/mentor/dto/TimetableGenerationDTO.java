@@ -0,0 +1,21 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Timetable generation DTO")
+public class TimetableGenerationDTO {
+    @Schema(description = "Group id")
+    private Long groupId;
+    @Schema(description = "Removed lectures that had no results yet")
+    private int removedCount;
+    @Schema(description = "Generated lectures")
+    private int generatedCount;
+}
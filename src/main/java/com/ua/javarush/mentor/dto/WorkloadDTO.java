@@ -0,0 +1,37 @@
+package com.ua.javarush.mentor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Workload DTO")
+public class WorkloadDTO {
+    @Schema(description = "Mentor id")
+    private Long userId;
+    @Schema(description = "Mentor first name")
+    private String firstName;
+    @Schema(description = "Mentor last name")
+    private String lastName;
+    @Schema(description = "First day of the month")
+    private LocalDate month;
+    @Schema(description = "Salary currency")
+    private String salaryCurrency;
+    @Schema(description = "Number of lecture results")
+    private Integer lectureCount;
+    @Schema(description = "Hours of lectures the mentor was leading")
+    private Long leadingHours;
+    @Schema(description = "Hours of lectures the mentor was not leading")
+    private Long assistingHours;
+    @Schema(description = "Hours given by a second mentor")
+    private Long substitutedHours;
+    @Schema(description = "Paid hours")
+    private Long paidHours;
+}
@@ -3,19 +3,28 @@ package com.ua.javarush.mentor.enums;
 import java.util.Locale;
 
 public enum AppLocale {
-    EN("EN", Locale.ENGLISH),
-    RU("RU", new Locale("ru", "RU")),
-    UA("UA", new Locale("ua", "UA"));
+    EN("EN", Locale.ENGLISH, "english"),
+    RU("RU", new Locale("ru", "RU"), "russian"),
+    UA("UA", new Locale("ua", "UA"), "simple");
 
     private final String locale;
     private final Locale localeObject;
+    private final String searchConfig;
 
-    AppLocale(String locale, Locale localeObject) {
+    AppLocale(String locale, Locale localeObject, String searchConfig) {
         this.locale = locale;
         this.localeObject = localeObject;
+        this.searchConfig = searchConfig;
     }
 
     public Locale getLocaleObject() {
         return localeObject;
     }
+
+    /**
+     * Postgres text search configuration of the locale, the same the lecture search vector is built with.
+     */
+    public String getSearchConfig() {
+        return searchConfig;
+    }
 }
@@ -0,0 +1,7 @@
+package com.ua.javarush.mentor.enums;
+
+public enum AudienceAttribute {
+    ENABLED,
+    EMAIL_VERIFIED,
+    HAS_TELEGRAM
+}
@@ -0,0 +1,17 @@
+package com.ua.javarush.mentor.enums;
+
+public class DataSets {
+
+    private DataSets() {
+    }
+
+    public static final String USERS = "users";
+    public static final String LECTURE_RESULTS = "lecture_results";
+    public static final String PAYROLL = "payroll";
+    public static final String MENTOR_BOOKINGS = "mentor_bookings";
+    public static final String MENTORS = "mentors";
+    public static final String TIMETABLE = "timetable";
+    public static final String CATALOG = "catalog";
+    public static final String AUDIENCE = "audience";
+    public static final String CONFIG = "config";
+}
@@ -7,7 +7,8 @@ import lombok.Getter;
 @Getter
 public enum EmailTemplates {
     CONFIRMATION("email/email_confirmation.ftl", "email.confirmation.subject"),
-    RESET_PASSWORD("email/email_reset_password.ftl", "email.reset.password.subject");
+    RESET_PASSWORD("email/email_reset_password.ftl", "email.reset.password.subject"),
+    LECTURE_REMINDER("email/email_lecture_reminder.ftl", "email.lecture.reminder.subject");
 
     private final String emailTemplate;
     private final String subject;
@@ -0,0 +1,6 @@
+package com.ua.javarush.mentor.enums;
+
+public enum ReminderState {
+    CLAIMED,
+    SENT
+}
@@ -0,0 +1,16 @@
+package com.ua.javarush.mentor.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum ReportFormat {
+    PDF("application/pdf", ".pdf"),
+    CSV("text/csv; charset=utf-8", ".csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx"),
+    ZIP("application/zip", ".zip");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,8 @@
+package com.ua.javarush.mentor.enums;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
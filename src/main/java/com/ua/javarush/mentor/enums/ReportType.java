@@ -0,0 +1,16 @@
+package com.ua.javarush.mentor.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum ReportType {
+    USERS(PDFSubtype.USERS, DataSets.USERS),
+    SALARIES("salaries" + PDFSubtype.UNDERSCORE, DataSets.USERS),
+    LECTURE_RESULTS("lecture_results" + PDFSubtype.UNDERSCORE, DataSets.LECTURE_RESULTS),
+    PAYSLIPS("payslips" + PDFSubtype.UNDERSCORE, DataSets.PAYROLL);
+
+    private final String filePrefix;
+    private final String dataSet;
+}
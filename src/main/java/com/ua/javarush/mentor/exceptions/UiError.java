@@ -15,6 +15,32 @@ public enum UiError {
     TELEGRAM_SEND_MESSAGE_ERROR(UiErrorCode.TELEGRAM_SEND_MESSAGE_ERROR, "Telegram send message error"),
     TELEGRAM_ID_NOT_FOUND(UiErrorCode.TELEGRAM_ID_NOT_FOUND, "Telegram id not found"),
     PDF_EXPORT_ERROR(UiErrorCode.PDF_EXPORT_ERROR, "PDF export error"),
+    REPORT_EXPORT_ERROR(UiErrorCode.REPORT_EXPORT_ERROR, "Report export error"),
+    REPORT_FORMAT_NOT_SUPPORTED(UiErrorCode.REPORT_FORMAT_NOT_SUPPORTED, "Report format not supported"),
+    REPORT_TYPE_NOT_SUPPORTED(UiErrorCode.REPORT_TYPE_NOT_SUPPORTED, "Report type not supported"),
+    REPORT_JOB_NOT_FOUND(UiErrorCode.REPORT_JOB_NOT_FOUND, "Report job not found"),
+    REPORT_JOB_NOT_READY(UiErrorCode.REPORT_JOB_NOT_READY, "Report job not ready"),
+    REPORT_QUEUE_FULL(UiErrorCode.REPORT_QUEUE_FULL, "Report queue is full"),
+    PAYROLL_PERIOD_NOT_VALID(UiErrorCode.PAYROLL_PERIOD_NOT_VALID, "Payroll period not valid"),
+    PAYROLL_NOT_CALCULATED(UiErrorCode.PAYROLL_NOT_CALCULATED, "Payroll not calculated"),
+    GROUP_NOT_FOUND(UiErrorCode.GROUP_NOT_FOUND, "Didn't found group"),
+    GROUP_NOT_STARTED(UiErrorCode.GROUP_NOT_STARTED, "Group start date not set"),
+    TIMETABLE_COMMAND_NOT_VALID(UiErrorCode.TIMETABLE_COMMAND_NOT_VALID, "Timetable command not valid"),
+    TIMETABLE_GENERATION_ERROR(UiErrorCode.TIMETABLE_GENERATION_ERROR, "Timetable generation error"),
+    HOLIDAY_NOT_FOUND(UiErrorCode.HOLIDAY_NOT_FOUND, "Didn't found holiday"),
+    SCHEDULE_SLOT_NOT_VALID(UiErrorCode.SCHEDULE_SLOT_NOT_VALID, "Schedule slot not valid"),
+    TIMETABLE_NOT_FOUND(UiErrorCode.TIMETABLE_NOT_FOUND, "Didn't found timetable"),
+    CALENDAR_RANGE_NOT_VALID(UiErrorCode.CALENDAR_RANGE_NOT_VALID, "Calendar range not valid"),
+    FEED_TOKEN_NOT_VALID(UiErrorCode.FEED_TOKEN_NOT_VALID, "Feed token not valid"),
+    CALENDAR_FEED_ERROR(UiErrorCode.CALENDAR_FEED_ERROR, "Calendar feed error"),
+    CATALOG_LOCALE_NOT_FOUND(UiErrorCode.CATALOG_LOCALE_NOT_FOUND, "Catalog locale not found"),
+    LECTURE_NOT_FOUND(UiErrorCode.LECTURE_NOT_FOUND, "Didn't found lecture"),
+    SEARCH_QUERY_NOT_VALID(UiErrorCode.SEARCH_QUERY_NOT_VALID, "Search query not valid"),
+    LECTURE_RESULTS_NOT_VALID(UiErrorCode.LECTURE_RESULTS_NOT_VALID, "Lecture results not valid"),
+    MENTOR_BOOKING_CONFLICT(UiErrorCode.MENTOR_BOOKING_CONFLICT, "Mentor booking conflict"),
+    ANALYTICS_RANGE_NOT_VALID(UiErrorCode.ANALYTICS_RANGE_NOT_VALID, "Analytics range not valid"),
+    AUDIENCE_NOT_VALID(UiErrorCode.AUDIENCE_NOT_VALID, "Audience not valid"),
+    ROSTER_NOT_VALID(UiErrorCode.ROSTER_NOT_VALID, "Roster not valid"),
     EMAIL_SEND_ERROR(UiErrorCode.EMAIL_SEND_ERROR, "Email send error"),
     TOKEN_NOT_VALID(UiErrorCode.TOKEN_NOT_VALID, "Token not valid"),
     TOKEN_EXPIRED(UiErrorCode.TOKEN_EXPIRED, "Token expired"),
@@ -32,4 +32,30 @@ public class UiErrorCode {
     public static final String CODE_NOT_VALID = "21";
     public static final String CODE_EXPIRED = "22";
     public static final String PDF_EXPORT_ERROR = "23";
+    public static final String REPORT_EXPORT_ERROR = "24";
+    public static final String REPORT_FORMAT_NOT_SUPPORTED = "25";
+    public static final String REPORT_JOB_NOT_FOUND = "26";
+    public static final String REPORT_JOB_NOT_READY = "27";
+    public static final String REPORT_QUEUE_FULL = "28";
+    public static final String PAYROLL_PERIOD_NOT_VALID = "29";
+    public static final String PAYROLL_NOT_CALCULATED = "30";
+    public static final String REPORT_TYPE_NOT_SUPPORTED = "31";
+    public static final String GROUP_NOT_FOUND = "32";
+    public static final String GROUP_NOT_STARTED = "33";
+    public static final String TIMETABLE_COMMAND_NOT_VALID = "34";
+    public static final String TIMETABLE_GENERATION_ERROR = "35";
+    public static final String HOLIDAY_NOT_FOUND = "36";
+    public static final String SCHEDULE_SLOT_NOT_VALID = "37";
+    public static final String TIMETABLE_NOT_FOUND = "38";
+    public static final String CALENDAR_RANGE_NOT_VALID = "39";
+    public static final String FEED_TOKEN_NOT_VALID = "40";
+    public static final String CALENDAR_FEED_ERROR = "41";
+    public static final String CATALOG_LOCALE_NOT_FOUND = "42";
+    public static final String LECTURE_NOT_FOUND = "43";
+    public static final String SEARCH_QUERY_NOT_VALID = "44";
+    public static final String LECTURE_RESULTS_NOT_VALID = "45";
+    public static final String MENTOR_BOOKING_CONFLICT = "46";
+    public static final String ANALYTICS_RANGE_NOT_VALID = "47";
+    public static final String AUDIENCE_NOT_VALID = "48";
+    public static final String ROSTER_NOT_VALID = "49";
 }
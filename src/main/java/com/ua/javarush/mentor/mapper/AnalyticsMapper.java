@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.dto.GroupAttendanceDTO;
+import com.ua.javarush.mentor.dto.MentorAttendanceDTO;
+import com.ua.javarush.mentor.dto.ModuleRetentionDTO;
+import com.ua.javarush.mentor.persist.model.GroupAttendanceWeek;
+import com.ua.javarush.mentor.persist.model.MentorAttendanceWeek;
+import com.ua.javarush.mentor.persist.model.ModuleRetention;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface AnalyticsMapper {
+
+    @Mapping(target = "attendanceRate", expression = "java(rate(week.getAttendedCount(), week.getHeldCount()))")
+    GroupAttendanceDTO mapToDto(GroupAttendanceWeek week);
+
+    @Mapping(target = "attendanceRate", expression = "java(rate(week.getAttendedCount(), week.getResultCount()))")
+    MentorAttendanceDTO mapToDto(MentorAttendanceWeek week);
+
+    @Mapping(target = "reachedRate", expression = "java(rate(retention.getStudentsOnStart(), retention.getAllStudentsOnStart()))")
+    @Mapping(target = "retentionRate", expression = "java(rate(retention.getStudentsOnEnd(), retention.getFinishedStudentsOnStart()))")
+    ModuleRetentionDTO mapToDto(ModuleRetention retention);
+
+    /**
+     * No rate when there is nothing to compare with.
+     */
+    default Double rate(Long part, Long whole) {
+        return part == null || whole == null || whole == 0 ? null : (double) part / whole;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.command.HolidayCommand;
+import com.ua.javarush.mentor.dto.HolidayDTO;
+import com.ua.javarush.mentor.persist.model.Holiday;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface HolidayMapper {
+
+    HolidayDTO mapToDto(Holiday holiday);
+
+    Holiday mapToEntity(HolidayCommand holidayCommand);
+}
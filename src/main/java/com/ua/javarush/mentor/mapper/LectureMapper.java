@@ -0,0 +1,11 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.dto.LectureSearchResultDTO;
+import com.ua.javarush.mentor.persist.repository.LectureSearchRow;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface LectureMapper {
+
+    LectureSearchResultDTO mapToSearchDto(LectureSearchRow row);
+}
@@ -0,0 +1,11 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.dto.MentorBookingDTO;
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface MentorBookingMapper {
+
+    MentorBookingDTO mapToDto(MentorBooking mentorBooking);
+}
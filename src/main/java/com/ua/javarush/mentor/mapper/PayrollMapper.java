@@ -0,0 +1,24 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.dto.PayrollRollupMismatchDTO;
+import com.ua.javarush.mentor.dto.WorkloadDTO;
+import com.ua.javarush.mentor.persist.model.Payroll;
+import com.ua.javarush.mentor.persist.model.PayrollRollup;
+import com.ua.javarush.mentor.persist.repository.PayrollRollupMismatch;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface PayrollMapper {
+
+    @Mapping(target = "firstName", source = "user.firstName")
+    @Mapping(target = "lastName", source = "user.lastName")
+    PayrollDTO mapToDto(Payroll payroll);
+
+    @Mapping(target = "firstName", source = "user.firstName")
+    @Mapping(target = "lastName", source = "user.lastName")
+    WorkloadDTO mapToWorkloadDto(PayrollRollup payrollRollup);
+
+    PayrollRollupMismatchDTO mapToMismatchDto(PayrollRollupMismatch mismatch);
+}
@@ -0,0 +1,13 @@
+package com.ua.javarush.mentor.mapper;
+
+import com.ua.javarush.mentor.dto.CalendarLectureDTO;
+import com.ua.javarush.mentor.persist.model.TimeTable;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE)
+public interface TimeTableMapper {
+
+    @Mapping(target = "timetableId", source = "id")
+    CalendarLectureDTO mapToCalendarDto(TimeTable timeTable);
+}
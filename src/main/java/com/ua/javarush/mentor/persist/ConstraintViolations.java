@@ -0,0 +1,32 @@
+package com.ua.javarush.mentor.persist;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+
+/**
+ * Tells which constraint of the database rejected a statement, so callers map only the violations they expect
+ * and let every other failure propagate.
+ */
+public class ConstraintViolations {
+
+    public static final String UNIQUE_VIOLATION = "23505";
+    public static final String EXCLUSION_VIOLATION = "23P01";
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the exception, or one of its causes, is the error of the server with the SQLState for the named constraint.
+     */
+    public static boolean isViolation(Throwable exception, String sqlState, String constraint) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException) {
+                PSQLException psqlException = (PSQLException) cause;
+                ServerErrorMessage serverError = psqlException.getServerErrorMessage();
+                return sqlState.equals(psqlException.getSQLState())
+                        && serverError != null && constraint.equals(serverError.getConstraint());
+            }
+        }
+        return false;
+    }
+}
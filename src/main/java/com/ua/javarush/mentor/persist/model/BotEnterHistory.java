@@ -14,7 +14,7 @@ import java.util.Objects;
 @Setter
 @ToString
 @RequiredArgsConstructor
-@SequenceGenerator(name = "BOT_ENTER_HISTORY_SEQ_GENERATOR", sequenceName = "BOT_ENTER_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "BOT_ENTER_HISTORY_SEQ_GENERATOR", sequenceName = "BOT_ENTER_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class BotEnterHistory implements Serializable {
     @Id
     @Column(name = "ID", unique = true, nullable = false)
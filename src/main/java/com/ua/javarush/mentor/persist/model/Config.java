@@ -7,7 +7,7 @@ import javax.persistence.*;
 @Data
 @Entity
 @Table(name = "CONFIG")
-@SequenceGenerator(name = "CONFIG_SEQ", sequenceName = "config_seq", allocationSize = 1)
+@SequenceGenerator(name = "CONFIG_SEQ", sequenceName = "config_seq", allocationSize = IdAllocation.BLOCK_SIZE)
 public class Config {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CONFIG_SEQ")
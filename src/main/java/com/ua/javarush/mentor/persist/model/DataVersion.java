@@ -0,0 +1,41 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+@Entity
+@Table(name = "DATA_VERSION")
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class DataVersion implements Serializable {
+    @Id
+    @Column(name = "NAME", length = 100, nullable = false)
+    private String name;
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+    @Column(name = "UPDATED_AT", nullable = false)
+    private Instant updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        DataVersion that = (DataVersion) o;
+        return name != null && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -9,12 +9,12 @@ import java.util.Date;
 import java.util.Objects;
 
 @Entity
-@Table(name = "GROUP")
+@Table(name = "\"group\"")
 @Getter
 @Setter
 @ToString
 @RequiredArgsConstructor
-@SequenceGenerator(name = "GROUP_SEQ_GENERATOR", sequenceName = "GROUP_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "GROUP_SEQ_GENERATOR", sequenceName = "GROUP_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class Group implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO, generator = "GROUP_SEQ_GENERATOR")
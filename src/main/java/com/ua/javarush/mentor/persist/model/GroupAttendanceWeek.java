@@ -0,0 +1,53 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Lectures of a group per week and how many of them were held with a mentor present. Rollup kept by the
+ * database, read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "GROUP_ATTENDANCE_WEEK")
+@IdClass(GroupAttendanceWeekId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class GroupAttendanceWeek implements Serializable {
+    @Id
+    @Column(name = "GROUP_ID", nullable = false)
+    private Long groupId;
+    @Id
+    @Column(name = "WEEK", nullable = false)
+    private LocalDate week;
+    @Column(name = "LECTURE_COUNT", nullable = false)
+    private Long lectureCount;
+    @Column(name = "HELD_COUNT", nullable = false)
+    private Long heldCount;
+    @Column(name = "ATTENDED_COUNT", nullable = false)
+    private Long attendedCount;
+    @Column(name = "MENTOR_HOURS", nullable = false)
+    private Long mentorHours;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        GroupAttendanceWeek that = (GroupAttendanceWeek) o;
+        return groupId != null && Objects.equals(groupId, that.groupId)
+                && Objects.equals(week, that.week);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Version of the timetable of one group, incremented by database triggers on every committed change
+ * of the group's lectures. Read-only for the application.
+ */
+@Entity
+@Immutable
+@Table(name = "GROUP_SCHEDULE_VERSION")
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class GroupScheduleVersion implements Serializable {
+    @Id
+    @Column(name = "GROUP_ID", nullable = false)
+    private Long groupId;
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+    @Column(name = "UPDATED_AT", nullable = false)
+    private Instant updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        GroupScheduleVersion that = (GroupScheduleVersion) o;
+        return groupId != null && Objects.equals(groupId, that.groupId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "HOLIDAY")
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class Holiday implements Serializable {
+    @Id
+    @Column(name = "DAY", nullable = false)
+    private LocalDate day;
+    @Column(name = "NAME", length = 200, nullable = false)
+    private String name;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        Holiday holiday = (Holiday) o;
+        return day != null && Objects.equals(day, holiday.day);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
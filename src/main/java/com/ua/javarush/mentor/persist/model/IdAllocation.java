@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.model;
+
+/**
+ * Ids are taken from the sequences in blocks with the pooled-lo optimizer: a sequence value is the first id
+ * of a block of {@link #BLOCK_SIZE} ids, so one nextval serves the whole block and inserts of many rows are
+ * not interleaved with sequence round trips. The sequences are incremented by the same size in Liquibase,
+ * every sequence behind a generator of an entity or a batch allocation has to keep both in step.
+ */
+public final class IdAllocation {
+
+    public static final int BLOCK_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
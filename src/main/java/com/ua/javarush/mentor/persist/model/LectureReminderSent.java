@@ -0,0 +1,66 @@
+package com.ua.javarush.mentor.persist.model;
+
+import com.ua.javarush.mentor.enums.ReminderState;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Claim of a lecture reminder. The node holding the claim sends the reminder and marks it sent, a claim
+ * whose lease ran out before that may be taken over by another node.
+ */
+@Entity
+@Table(name = "LECTURE_REMINDER_SENT")
+@IdClass(LectureReminderSentId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class LectureReminderSent implements Serializable {
+    @Id
+    @Column(name = "TIMETABLE_ID", nullable = false)
+    private Long timetableId;
+    @Id
+    @Column(name = "OFFSET_MINUTES", nullable = false)
+    private Integer offsetMinutes;
+    @Id
+    @Column(name = "START_DATETIME", nullable = false)
+    private Instant startDateTime;
+    @Column(name = "STATE", length = 10, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReminderState state;
+    @Column(name = "CLAIMED_UNTIL")
+    private Instant claimedUntil;
+    @Column(name = "SENT_AT")
+    private Instant sentAt;
+    @Column(name = "NODE", length = 100, nullable = false)
+    private String node;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        LectureReminderSent that = (LectureReminderSent) o;
+        return timetableId != null && Objects.equals(timetableId, that.timetableId)
+                && Objects.equals(offsetMinutes, that.offsetMinutes)
+                && Objects.equals(startDateTime, that.startDateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureReminderSentId implements Serializable {
+    private Long timetableId;
+    private Integer offsetMinutes;
+    private Instant startDateTime;
+}
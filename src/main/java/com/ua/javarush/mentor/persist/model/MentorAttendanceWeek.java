@@ -0,0 +1,54 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Lecture results of a mentor per week. Rollup kept by the database, read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "MENTOR_ATTENDANCE_WEEK")
+@IdClass(MentorAttendanceWeekId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class MentorAttendanceWeek implements Serializable {
+    @Id
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+    @Id
+    @Column(name = "WEEK", nullable = false)
+    private LocalDate week;
+    @Column(name = "RESULT_COUNT", nullable = false)
+    private Long resultCount;
+    @Column(name = "ATTENDED_COUNT", nullable = false)
+    private Long attendedCount;
+    @Column(name = "LEADING_COUNT", nullable = false)
+    private Long leadingCount;
+    @Column(name = "SUBSTITUTED_COUNT", nullable = false)
+    private Long substitutedCount;
+    @Column(name = "HOURS", nullable = false)
+    private Long hours;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        MentorAttendanceWeek that = (MentorAttendanceWeek) o;
+        return userId != null && Objects.equals(userId, that.userId)
+                && Objects.equals(week, that.week);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
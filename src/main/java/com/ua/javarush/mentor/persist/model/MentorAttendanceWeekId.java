@@ -0,0 +1,16 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MentorAttendanceWeekId implements Serializable {
+    private Long userId;
+    private LocalDate week;
+}
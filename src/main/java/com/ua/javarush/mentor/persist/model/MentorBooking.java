@@ -0,0 +1,54 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Timetable entry a mentor is booked for through a lecture result. Maintained by database triggers
+ * on timetable_to_lecture_result, timetable and lecture_result, read-only for the application.
+ * Bookings of one mentor never overlap, this is enforced by an exclusion constraint.
+ */
+@Entity
+@Immutable
+@Table(name = "MENTOR_BOOKING")
+@IdClass(MentorBookingId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class MentorBooking implements Serializable {
+    @Id
+    @Column(name = "TIMETABLE_ID", nullable = false)
+    private Long timetableId;
+    @Id
+    @Column(name = "LECTURE_RESULT_ID", nullable = false)
+    private Long lectureResultId;
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+    @Column(name = "GROUP_ID", nullable = false)
+    private Long groupId;
+    @Column(name = "START_DATETIME", nullable = false)
+    private Instant startDateTime;
+    @Column(name = "FINISH_DATETIME", nullable = false)
+    private Instant finishDateTime;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        MentorBooking that = (MentorBooking) o;
+        return timetableId != null && Objects.equals(timetableId, that.timetableId)
+                && lectureResultId != null && Objects.equals(lectureResultId, that.lectureResultId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
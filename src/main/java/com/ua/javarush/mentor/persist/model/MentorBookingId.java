@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MentorBookingId implements Serializable {
+    private Long timetableId;
+    private Long lectureResultId;
+}
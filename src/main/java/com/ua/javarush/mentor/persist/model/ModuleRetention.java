@@ -0,0 +1,56 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Groups that held lectures of a module and their students on start and on end. View over the groups
+ * and modules rollup kept by the database, read-only.
+ */
+@Entity
+@Immutable
+@Table(name = "MODULE_RETENTION")
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class ModuleRetention implements Serializable {
+    @Id
+    @Column(name = "MODULE_ID", nullable = false)
+    private Long moduleId;
+    @Column(name = "MODULE_NUMBER", nullable = false)
+    private Integer moduleNumber;
+    @Column(name = "GROUP_COUNT", nullable = false)
+    private Long groupCount;
+    @Column(name = "STUDENTS_ON_START", nullable = false)
+    private Long studentsOnStart;
+    @Column(name = "ALL_STUDENTS_ON_START", nullable = false)
+    private Long allStudentsOnStart;
+    @Column(name = "FINISHED_GROUP_COUNT", nullable = false)
+    private Long finishedGroupCount;
+    @Column(name = "STUDENTS_ON_END", nullable = false)
+    private Long studentsOnEnd;
+    @Column(name = "FINISHED_STUDENTS_ON_START", nullable = false)
+    private Long finishedStudentsOnStart;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        ModuleRetention that = (ModuleRetention) o;
+        return moduleId != null && Objects.equals(moduleId, that.moduleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
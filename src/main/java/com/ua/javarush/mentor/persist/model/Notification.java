@@ -16,7 +16,7 @@ import java.util.Objects;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "NOTIFICATIONS")
-@SequenceGenerator(name = "NOTIFICATION_SEQ_GENERATOR", sequenceName = "NOTIFICATIONS_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "NOTIFICATION_SEQ_GENERATOR", sequenceName = "NOTIFICATIONS_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class Notification {
     @Id
     @Column(name = "ID", nullable = false)
@@ -0,0 +1,62 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "PAYROLL")
+@IdClass(PayrollId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class Payroll implements Serializable {
+    @Id
+    @Column(name = "PERIOD", nullable = false)
+    private LocalDate period;
+    @Id
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+    @Column(name = "LECTURE_COUNT", nullable = false)
+    private Integer lectureCount;
+    @Column(name = "LEADING_HOURS", nullable = false)
+    private Long leadingHours;
+    @Column(name = "ASSISTING_HOURS", nullable = false)
+    private Long assistingHours;
+    @Column(name = "SUBSTITUTED_HOURS", nullable = false)
+    private Long substitutedHours;
+    @Column(name = "PAID_HOURS", nullable = false)
+    private Long paidHours;
+    @Id
+    @Column(name = "SALARY_CURRENCY", nullable = false)
+    private String salaryCurrency;
+    @Column(name = "AMOUNT", nullable = false)
+    private Long amount;
+    @Column(name = "CALCULATED_AT", nullable = false)
+    private Instant calculatedAt;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID", insertable = false, updatable = false)
+    @ToString.Exclude
+    private User user;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        Payroll payroll = (Payroll) o;
+        return period != null && Objects.equals(period, payroll.period)
+                && userId != null && Objects.equals(userId, payroll.userId)
+                && Objects.equals(salaryCurrency, payroll.salaryCurrency);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollId implements Serializable {
+    private LocalDate period;
+    private Long userId;
+    private String salaryCurrency;
+}
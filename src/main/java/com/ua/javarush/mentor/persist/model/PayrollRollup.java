@@ -0,0 +1,65 @@
+package com.ua.javarush.mentor.persist.model;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Totals of lecture results per mentor, month and currency. Maintained by database triggers
+ * on lecture_result, timetable_to_lecture_result and timetable, read-only for the application.
+ */
+@Entity
+@Immutable
+@Table(name = "PAYROLL_ROLLUP")
+@IdClass(PayrollRollupId.class)
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class PayrollRollup implements Serializable {
+    @Id
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+    @Id
+    @Column(name = "MONTH", nullable = false)
+    private LocalDate month;
+    @Id
+    @Column(name = "SALARY_CURRENCY", nullable = false)
+    private String salaryCurrency;
+    @Column(name = "LECTURE_COUNT", nullable = false)
+    private Integer lectureCount;
+    @Column(name = "LEADING_HOURS", nullable = false)
+    private Long leadingHours;
+    @Column(name = "ASSISTING_HOURS", nullable = false)
+    private Long assistingHours;
+    @Column(name = "SUBSTITUTED_HOURS", nullable = false)
+    private Long substitutedHours;
+    @Column(name = "PAID_HOURS", nullable = false)
+    private Long paidHours;
+    @Column(name = "AMOUNT", nullable = false)
+    private Long amount;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID", insertable = false, updatable = false)
+    @ToString.Exclude
+    private User user;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        PayrollRollup that = (PayrollRollup) o;
+        return userId != null && Objects.equals(userId, that.userId)
+                && Objects.equals(month, that.month)
+                && Objects.equals(salaryCurrency, that.salaryCurrency);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
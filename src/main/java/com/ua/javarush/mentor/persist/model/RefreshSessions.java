@@ -15,7 +15,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @AllArgsConstructor
 @NoArgsConstructor
-@SequenceGenerator(name = "SQ_REFRESH_SESSION_ID_GENERATOR", sequenceName = "REFRESH_SESSION_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "SQ_REFRESH_SESSION_ID_GENERATOR", sequenceName = "REFRESH_SESSION_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class RefreshSessions {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SQ_REFRESH_SESSION_ID_GENERATOR")
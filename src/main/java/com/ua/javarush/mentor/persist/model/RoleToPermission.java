@@ -13,10 +13,10 @@ import java.util.Objects;
 @Setter
 @ToString
 @RequiredArgsConstructor
-@SequenceGenerator(name = "ROLE_PERMISSION_SEQ_GENERATOR", sequenceName = "ROLE_PERMISSION_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "ROLE_PERMISSION_SEQ_GENERATOR", sequenceName = "ROLE_PERMISSION_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class RoleToPermission implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO, generator = "ROLE_PERMISSION_SEQ")
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "ROLE_PERMISSION_SEQ_GENERATOR")
     @Column(name = "ID", nullable = false)
     private Long id;
     @Column(name = "ROLE_ID", nullable = false)
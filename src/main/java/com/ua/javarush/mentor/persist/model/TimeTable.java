@@ -8,7 +8,7 @@ import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.io.Serializable;
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.Objects;
 
 @Entity
@@ -21,14 +21,14 @@ public class TimeTable implements Serializable {
     @Id
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
-    @Column(name = "GROUP_ID", unique = true, nullable = false)
+    @Column(name = "GROUP_ID", nullable = false)
     private Integer groupId;
-    @Column(name = "LECTURE_ID", unique = true, nullable = false)
+    @Column(name = "LECTURE_ID", nullable = false)
     private Integer lectureId;
     @Column(name = "START_DATETIME", nullable = false)
-    private LocalDateTime startDateTime;
+    private Instant startDateTime;
     @Column(name = "FINISH_DATETIME", nullable = false)
-    private LocalDateTime finishDateTime;
+    private Instant finishDateTime;
 
     @Override
     public boolean equals(Object o) {
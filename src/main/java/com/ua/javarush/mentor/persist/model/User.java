@@ -3,6 +3,8 @@ package com.ua.javarush.mentor.persist.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 
 import javax.persistence.*;
 import javax.validation.constraints.Pattern;
@@ -13,13 +15,14 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@DynamicUpdate
 @Table(name = "`USER`")
 @Getter
 @Setter
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
-@SequenceGenerator(name = "USER_SEQ_GENERATOR", sequenceName = "USER_SEQ", allocationSize = 1)
+@SequenceGenerator(name = "USER_SEQ_GENERATOR", sequenceName = "USER_SEQ", allocationSize = IdAllocation.BLOCK_SIZE)
 public class User implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO, generator = "USER_SEQ_GENERATOR")
@@ -96,6 +99,7 @@ public class User implements Serializable {
     @JsonManagedReference
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<RefreshSessions> refreshSessions = new HashSet<>();
 
@@ -117,6 +121,14 @@ public class User implements Serializable {
     @Temporal(TemporalType.TIMESTAMP)
     private Date lastPasswordChange;
 
+    @ToString.Exclude
+    @Column(name = "FEED_TOKEN", length = 64, unique = true)
+    private String feedToken;
+
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
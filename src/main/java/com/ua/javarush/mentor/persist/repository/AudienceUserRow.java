@@ -0,0 +1,19 @@
+package com.ua.javarush.mentor.persist.repository;
+
+/**
+ * User with the name of the role and the group, the group is null when the user has none.
+ */
+public interface AudienceUserRow {
+
+    Long getUserId();
+
+    String getRoleName();
+
+    Long getGroupId();
+
+    Boolean getEnabled();
+
+    Boolean getEmailVerified();
+
+    Boolean getHasTelegram();
+}
@@ -0,0 +1,21 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import java.time.Instant;
+
+/**
+ * Lecture of a calendar feed, a timetable row with the name and link of its lecture.
+ */
+public interface CalendarFeedRow {
+
+    Long getTimetableId();
+
+    Integer getGroupId();
+
+    Instant getStartDateTime();
+
+    Instant getFinishDateTime();
+
+    String getLectureName();
+
+    String getLinkToLesson();
+}
@@ -0,0 +1,21 @@
+package com.ua.javarush.mentor.persist.repository;
+
+/**
+ * Lecture of the catalog, read with its module id as a number.
+ */
+public interface CatalogLectureRow {
+
+    Long getId();
+
+    Long getModuleId();
+
+    String getLocale();
+
+    String getName();
+
+    String getDescription();
+
+    String getLinkToPresentation();
+
+    String getLinkToLesson();
+}
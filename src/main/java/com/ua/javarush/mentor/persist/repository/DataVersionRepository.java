@@ -0,0 +1,16 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.DataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, String> {
+
+    @Query("select d.version from DataVersion d where d.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+}
@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.GroupAttendanceWeek;
+import com.ua.javarush.mentor.persist.model.GroupAttendanceWeekId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GroupAttendanceWeekRepository extends JpaRepository<GroupAttendanceWeek, GroupAttendanceWeekId> {
+
+    List<GroupAttendanceWeek> findAllByGroupIdAndWeekBetweenOrderByWeek(Long groupId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,16 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.GroupScheduleVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GroupScheduleVersionRepository extends JpaRepository<GroupScheduleVersion, Long> {
+
+    @Query("select v.version from GroupScheduleVersion v where v.groupId = :groupId")
+    Optional<Long> findVersionByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,14 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, LocalDate> {
+
+    List<Holiday> findAllByDayBetweenOrderByDay(LocalDate from, LocalDate to);
+}
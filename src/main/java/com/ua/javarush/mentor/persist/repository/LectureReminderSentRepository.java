@@ -0,0 +1,52 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.LectureReminderSent;
+import com.ua.javarush.mentor.persist.model.LectureReminderSentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface LectureReminderSentRepository extends JpaRepository<LectureReminderSent, LectureReminderSentId> {
+
+    /**
+     * Returns 1 for the node that claims the reminder and 0 for the others. A claim whose lease ran out
+     * without the reminder being marked sent is taken over.
+     */
+    @Modifying
+    @Query(value = "insert into lecture_reminder_sent (timetable_id, offset_minutes, start_datetime, state, claimed_until, node) " +
+            "values (:timetableId, :offsetMinutes, :startDateTime, 'CLAIMED', now() + make_interval(secs => :leaseSeconds), :node) " +
+            "on conflict (timetable_id, offset_minutes, start_datetime) do update " +
+            "set claimed_until = excluded.claimed_until, node = excluded.node " +
+            "where lecture_reminder_sent.state = 'CLAIMED' and lecture_reminder_sent.claimed_until < now()",
+            nativeQuery = true)
+    int claim(@Param("timetableId") Long timetableId, @Param("offsetMinutes") int offsetMinutes,
+              @Param("startDateTime") Instant startDateTime, @Param("leaseSeconds") long leaseSeconds,
+              @Param("node") String node);
+
+    /**
+     * Returns 0 when the claim was taken over by another node meanwhile.
+     */
+    @Modifying
+    @Query(value = "update lecture_reminder_sent set state = 'SENT', sent_at = now(), claimed_until = null " +
+            "where timetable_id = :timetableId and offset_minutes = :offsetMinutes " +
+            "and start_datetime = :startDateTime and state = 'CLAIMED' and node = :node",
+            nativeQuery = true)
+    int markSent(@Param("timetableId") Long timetableId, @Param("offsetMinutes") int offsetMinutes,
+                 @Param("startDateTime") Instant startDateTime, @Param("node") String node);
+
+    /**
+     * Ends the lease of a claim whose sending failed, so another node may claim it at once.
+     */
+    @Modifying
+    @Query(value = "update lecture_reminder_sent set claimed_until = now() " +
+            "where timetable_id = :timetableId and offset_minutes = :offsetMinutes " +
+            "and start_datetime = :startDateTime and state = 'CLAIMED' and node = :node",
+            nativeQuery = true)
+    int release(@Param("timetableId") Long timetableId, @Param("offsetMinutes") int offsetMinutes,
+                @Param("startDateTime") Instant startDateTime, @Param("node") String node);
+}
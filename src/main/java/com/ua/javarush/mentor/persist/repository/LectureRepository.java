@@ -1,9 +1,57 @@
 package com.ua.javarush.mentor.persist.repository;
 
 import com.ua.javarush.mentor.persist.model.Lecture;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
+
+    /**
+     * Best rank of every lecture matched by its own text or by the text of its module. The query is parsed
+     * with every configuration of the searched locales and each parsed query is one GIN lookup of lectures;
+     * modules are searched with the simple configuration their vector is built with. A module match weighs
+     * half of a lecture match.
+     */
+    String SEARCH_HITS = "with lecture_query as ( " +
+            "    select websearch_to_tsquery(cast(c.config as regconfig), :query) as query " +
+            "    from unnest(string_to_array(:configs, ',')) as c(config) " +
+            "), module_query as ( " +
+            "    select websearch_to_tsquery('simple', :query) as query " +
+            "), hits as ( " +
+            "    select l.id, 'lecture' as source, max(ts_rank(l.search_vector, q.query)) as rank " +
+            "    from lecture_query q join lecture l on l.search_vector @@ q.query " +
+            "    where l.locale in (:locales) " +
+            "    group by l.id " +
+            "    union all " +
+            "    select l.id, 'module' as source, ts_rank(m.search_vector, q.query) / 2 as rank " +
+            "    from module_query q join module m on m.search_vector @@ q.query " +
+            "    join lecture l on l.module_id = m.id " +
+            "    where l.locale in (:locales) " +
+            "), ranked as ( " +
+            "    select h.id, sum(h.rank) as rank from hits h group by h.id " +
+            ") ";
+
+    @Query(value = "select l.id as id, l.module_id as moduleId, l.locale as locale, l.name as name, " +
+            "l.description as description, l.link_to_presentation as linkToPresentation, l.link_to_lesson as linkToLesson " +
+            "from lecture l order by l.locale, l.module_id, l.id", nativeQuery = true)
+    List<CatalogLectureRow> findAllCatalogRows();
+
+    @Query(value = SEARCH_HITS +
+            "select l.id as id, l.module_id as moduleId, m.module_number as moduleNumber, m.name as moduleName, " +
+            "l.locale as locale, l.name as name, l.link_to_presentation as linkToPresentation, " +
+            "l.link_to_lesson as linkToLesson, cast(r.rank as real) as rank " +
+            "from ranked r join lecture l on l.id = r.id join module m on m.id = l.module_id " +
+            "order by r.rank desc, l.id",
+            countQuery = SEARCH_HITS + "select count(*) from ranked",
+            nativeQuery = true)
+    Page<LectureSearchRow> search(@Param("query") String query, @Param("configs") String configs,
+                                  @Param("locales") Collection<String> locales, Pageable pageable);
 }
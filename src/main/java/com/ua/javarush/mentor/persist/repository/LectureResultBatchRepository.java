@@ -0,0 +1,29 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.LectureResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes results of a lecture with JDBC batches: one round trip per statement for the whole lecture.
+ */
+public interface LectureResultBatchRepository {
+
+    /**
+     * Takes the next ids of lecture_result_seq in one round trip, whole blocks of the pooled-lo allocation.
+     */
+    List<Long> allocateIds(int count);
+
+    /**
+     * Inserts the results, ids already set, and links them to the timetable.
+     */
+    void insertAll(Long timetableId, Collection<LectureResult> results);
+
+    void updateAll(Collection<LectureResult> results);
+
+    /**
+     * Unlinks the results from the timetable and removes them.
+     */
+    void deleteAll(Long timetableId, Collection<Long> ids);
+}
@@ -0,0 +1,102 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.IdAllocation;
+import com.ua.javarush.mentor.persist.model.LectureResult;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Salary rate columns are left to the lecture_result_snapshot_rate trigger, payroll rollups and mentor bookings
+ * to the triggers of the link table, the same as for rows written through the entities.
+ */
+public class LectureResultBatchRepositoryImpl implements LectureResultBatchRepository {
+
+    private static final String ALLOCATE_IDS = "select b.lo + i from (select nextval('lecture_result_seq') as lo " +
+            "from generate_series(1, :blocks)) b cross join generate_series(0, :blockSize - 1) i order by 1 limit :count";
+    private static final String INSERT_RESULT = "insert into lecture_result (id, lecture_id, user_id, hours_in_lecture, " +
+            "is_user_leading, was_at_lecture, other_user_was_on_lecture, other_user_hours_on_lecture, comment) " +
+            "values (:id, :lectureId, :userId, :hoursInLecture, :isUserLeading, :wasAtLecture, " +
+            ":otherUserWasOnLecture, :otherUserHoursOnLecture, :comment)";
+    private static final String INSERT_LINK = "insert into timetable_to_lecture_result (timetable_id, lecture_result_id) " +
+            "values (:timetableId, :id)";
+    private static final String UPDATE_RESULT = "update lecture_result set lecture_id = :lectureId, user_id = :userId, " +
+            "hours_in_lecture = :hoursInLecture, is_user_leading = :isUserLeading, was_at_lecture = :wasAtLecture, " +
+            "other_user_was_on_lecture = :otherUserWasOnLecture, other_user_hours_on_lecture = :otherUserHoursOnLecture, " +
+            "comment = :comment where id = :id";
+    private static final String DELETE_LINKS = "delete from timetable_to_lecture_result " +
+            "where timetable_id = :timetableId and lecture_result_id in (:ids)";
+    private static final String DELETE_RESULTS = "delete from lecture_result where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LectureResultBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> allocateIds(int count) {
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("blocks", (count + IdAllocation.BLOCK_SIZE - 1) / IdAllocation.BLOCK_SIZE)
+                .addValue("blockSize", IdAllocation.BLOCK_SIZE)
+                .addValue("count", count);
+        return jdbcTemplate.queryForList(ALLOCATE_IDS, parameters, Long.class);
+    }
+
+    @Override
+    public void insertAll(Long timetableId, Collection<LectureResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESULT, results.stream()
+                .map(this::toParameters)
+                .toArray(SqlParameterSource[]::new));
+        jdbcTemplate.batchUpdate(INSERT_LINK, results.stream()
+                .map(result -> new MapSqlParameterSource()
+                        .addValue("timetableId", timetableId)
+                        .addValue("id", result.getId()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public void updateAll(Collection<LectureResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RESULT, results.stream()
+                .map(this::toParameters)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public void deleteAll(Long timetableId, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("timetableId", timetableId)
+                .addValue("ids", ids);
+        jdbcTemplate.update(DELETE_LINKS, parameters);
+        jdbcTemplate.update(DELETE_RESULTS, parameters);
+    }
+
+    private SqlParameterSource toParameters(LectureResult result) {
+        return new MapSqlParameterSource()
+                .addValue("id", result.getId())
+                .addValue("lectureId", result.getLectureId())
+                .addValue("userId", result.getUserId())
+                .addValue("hoursInLecture", result.getHoursInLecture())
+                .addValue("isUserLeading", result.getIsUserLeading())
+                .addValue("wasAtLecture", result.getWasAtLecture())
+                .addValue("otherUserWasOnLecture", result.getOtherUserWasOnLecture())
+                .addValue("otherUserHoursOnLecture", result.getOtherUserHoursOnLecture())
+                .addValue("comment", result.getComment());
+    }
+}
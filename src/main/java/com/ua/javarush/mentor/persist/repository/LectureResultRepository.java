@@ -1,9 +1,36 @@
 package com.ua.javarush.mentor.persist.repository;
 
+import com.ua.javarush.mentor.dto.LectureResultRowDTO;
 import com.ua.javarush.mentor.persist.model.LectureResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
-public interface LectureResultRepository extends JpaRepository<LectureResult, Long> {
+public interface LectureResultRepository extends JpaRepository<LectureResult, Long>, LectureResultBatchRepository {
+
+    @Query(value = "select lr.* from lecture_result lr " +
+            "join timetable_to_lecture_result tl on tl.lecture_result_id = lr.id " +
+            "where tl.timetable_id = :timetableId order by lr.id", nativeQuery = true)
+    List<LectureResult> findAllByTimetableId(@Param("timetableId") Long timetableId);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = UserRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select new com.ua.javarush.mentor.dto.LectureResultRowDTO(lr.id, l.name, u.firstName, u.lastName, lr.hoursInLecture, " +
+            "lr.isUserLeading, lr.wasAtLecture, lr.otherUserWasOnLecture, lr.otherUserHoursOnLecture, lr.comment) " +
+            "from LectureResult lr, Lecture l, User u " +
+            "where l.id = lr.lectureId and u.id = lr.userId " +
+            "order by lr.id")
+    Stream<LectureResultRowDTO> streamReportRows();
 }
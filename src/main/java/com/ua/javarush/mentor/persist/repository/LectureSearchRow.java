@@ -0,0 +1,25 @@
+package com.ua.javarush.mentor.persist.repository;
+
+/**
+ * Lecture found by the full-text search with its module and rank.
+ */
+public interface LectureSearchRow {
+
+    Long getId();
+
+    Long getModuleId();
+
+    Integer getModuleNumber();
+
+    String getModuleName();
+
+    String getLocale();
+
+    String getName();
+
+    String getLinkToPresentation();
+
+    String getLinkToLesson();
+
+    Float getRank();
+}
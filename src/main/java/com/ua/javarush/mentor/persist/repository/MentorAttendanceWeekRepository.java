@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.MentorAttendanceWeek;
+import com.ua.javarush.mentor.persist.model.MentorAttendanceWeekId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MentorAttendanceWeekRepository extends JpaRepository<MentorAttendanceWeek, MentorAttendanceWeekId> {
+
+    List<MentorAttendanceWeek> findAllByUserIdAndWeekBetweenOrderByWeek(Long userId, LocalDate from, LocalDate to);
+}
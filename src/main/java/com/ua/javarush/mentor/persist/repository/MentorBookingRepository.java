@@ -0,0 +1,28 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import com.ua.javarush.mentor.persist.model.MentorBookingId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+@Repository
+public interface MentorBookingRepository extends JpaRepository<MentorBooking, MentorBookingId> {
+    String STREAM_FETCH_SIZE = "1000";
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select b from MentorBooking b order by b.userId, b.startDateTime")
+    Stream<MentorBooking> streamAllOrdered();
+}
@@ -0,0 +1,17 @@
+package com.ua.javarush.mentor.persist.repository;
+
+/**
+ * Mentor with one weekend day of the group, the day is null when the mentor has no group or the group has no weekends.
+ */
+public interface MentorWeekendRow {
+
+    Long getUserId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getTelegramNickname();
+
+    Integer getNumberOfDay();
+}
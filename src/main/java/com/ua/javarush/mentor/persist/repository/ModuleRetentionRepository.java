@@ -0,0 +1,13 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.ModuleRetention;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ModuleRetentionRepository extends JpaRepository<ModuleRetention, Long> {
+
+    List<ModuleRetention> findAllByOrderByModuleNumberAscModuleIdAsc();
+}
@@ -0,0 +1,63 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.Payroll;
+import com.ua.javarush.mentor.persist.model.PayrollId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+@Repository
+public interface PayrollRepository extends JpaRepository<Payroll, PayrollId> {
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query(value = "select p from Payroll p join fetch p.user where p.period = :period",
+            countQuery = "select count(p) from Payroll p where p.period = :period")
+    Page<Payroll> findAllByPeriod(@Param("period") LocalDate period, Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select p from Payroll p join fetch p.user where p.period = :period order by p.userId, p.salaryCurrency")
+    Stream<Payroll> streamAllByPeriod(@Param("period") LocalDate period);
+
+    long countByPeriod(LocalDate period);
+
+    /**
+     * Serializes calculations of the same period, released on commit.
+     */
+    @Query(value = "select 1 from (select pg_advisory_xact_lock(:namespace, :period)) lock", nativeQuery = true)
+    Integer lockPeriod(@Param("namespace") int namespace, @Param("period") int period);
+
+    @Modifying
+    @Query(value = "delete from payroll where period = :period", nativeQuery = true)
+    int deleteAllByPeriod(@Param("period") LocalDate period);
+
+    /**
+     * Copies the rollup of the month, it already holds the totals of the lecture results.
+     */
+    @Modifying
+    @Query(value = "insert into payroll (period, user_id, lecture_count, leading_hours, assisting_hours, substituted_hours, " +
+            "paid_hours, salary_currency, amount, calculated_at) " +
+            "select r.month, r.user_id, r.lecture_count, r.leading_hours, r.assisting_hours, r.substituted_hours, " +
+            "       r.paid_hours, r.salary_currency, r.amount, :calculatedAt " +
+            "from payroll_rollup r " +
+            "where r.month = :period",
+            nativeQuery = true)
+    int calculate(@Param("period") LocalDate period, @Param("calculatedAt") Instant calculatedAt);
+}
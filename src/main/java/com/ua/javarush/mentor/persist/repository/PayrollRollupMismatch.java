@@ -0,0 +1,27 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Row of the rollup consistency check, rollup values against the values aggregated from lecture results.
+ */
+public interface PayrollRollupMismatch {
+
+    Long getUserId();
+
+    LocalDate getMonth();
+
+    String getSalaryCurrency();
+
+    Integer getRollupLectureCount();
+
+    Integer getSourceLectureCount();
+
+    Long getRollupPaidHours();
+
+    Long getSourcePaidHours();
+
+    Long getRollupAmount();
+
+    Long getSourceAmount();
+}
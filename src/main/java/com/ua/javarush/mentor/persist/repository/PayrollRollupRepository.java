@@ -0,0 +1,54 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.PayrollRollup;
+import com.ua.javarush.mentor.persist.model.PayrollRollupId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PayrollRollupRepository extends JpaRepository<PayrollRollup, PayrollRollupId> {
+
+    @Query(value = "select r from PayrollRollup r join fetch r.user where r.month = :month",
+            countQuery = "select count(r) from PayrollRollup r where r.month = :month")
+    Page<PayrollRollup> findAllByMonth(@Param("month") LocalDate month, Pageable pageable);
+
+    /**
+     * Blocks writes to the tables the rollup is built from until the rebuild commits.
+     */
+    @Modifying
+    @Query(value = "lock table lecture_result, timetable_to_lecture_result, timetable in share mode", nativeQuery = true)
+    void lockSources();
+
+    @Modifying
+    @Query(value = "delete from payroll_rollup", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "insert into payroll_rollup (user_id, month, salary_currency, lecture_count, leading_hours, " +
+            "assisting_hours, substituted_hours, paid_hours, amount) " +
+            "select user_id, month, salary_currency, lecture_count, leading_hours, " +
+            "assisting_hours, substituted_hours, paid_hours, amount " +
+            "from payroll_rollup_source", nativeQuery = true)
+    int insertFromSource();
+
+    @Query(value = "select coalesce(r.user_id, s.user_id) as userId, coalesce(r.month, s.month) as month, " +
+            "coalesce(r.salary_currency, s.salary_currency) as salaryCurrency, " +
+            "r.lecture_count as rollupLectureCount, s.lecture_count as sourceLectureCount, " +
+            "r.paid_hours as rollupPaidHours, s.paid_hours as sourcePaidHours, " +
+            "r.amount as rollupAmount, s.amount as sourceAmount " +
+            "from payroll_rollup r " +
+            "full join payroll_rollup_source s " +
+            "on s.user_id = r.user_id and s.month = r.month and s.salary_currency = r.salary_currency " +
+            "where (r.lecture_count, r.leading_hours, r.assisting_hours, r.substituted_hours, r.paid_hours, r.amount) " +
+            "is distinct from (s.lecture_count, s.leading_hours, s.assisting_hours, s.substituted_hours, s.paid_hours, s.amount) " +
+            "order by 2, 1", nativeQuery = true)
+    List<PayrollRollupMismatch> findMismatches();
+}
@@ -1,7 +1,11 @@
 package com.ua.javarush.mentor.persist.repository;
 
 import com.ua.javarush.mentor.persist.model.RefreshSessions;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -9,9 +13,14 @@ import java.util.UUID;
 
 @Repository
 public interface RefreshSessionsRepository extends JpaRepository<RefreshSessions, Long> {
+    @EntityGraph(attributePaths = {"user", "user.roleId"})
     RefreshSessions findByRefreshToken(UUID refreshToken);
 
     RefreshSessions findByUserIdAndExpiredDate(Long id, Instant expiredDate);
 
-    void deleteByUserId(Long userId);
+    long countByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from RefreshSessions r where r.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.repository;
+
+/**
+ * User to remind of a lecture: a member of the group or the leading mentor.
+ */
+public interface ReminderRecipientRow {
+
+    Long getUserId();
+
+    String getFirstName();
+
+    String getEmail();
+
+    Long getTelegramId();
+}
@@ -2,8 +2,142 @@ package com.ua.javarush.mentor.persist.repository;
 
 import com.ua.javarush.mentor.persist.model.TimeTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface TimeTableRepository extends JpaRepository<TimeTable, Long> {
+    String STREAM_FETCH_SIZE = "500";
+
+    List<TimeTable> findAllByGroupIdOrderByStartDateTime(Integer groupId);
+
+    /**
+     * Locks the lecture until commit, so submissions of its results do not interleave.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TimeTable t where t.id = :id")
+    Optional<TimeTable> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Lectures of the group starting in [from, to), served by the (group_id, start_datetime) index.
+     */
+    @Query("select t from TimeTable t where t.groupId = :groupId " +
+            "and t.startDateTime >= :from and t.startDateTime < :to order by t.startDateTime")
+    List<TimeTable> findAllByGroupIdStartingBetween(@Param("groupId") Integer groupId,
+                                                    @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Lectures of the mentor starting in [from, to), served by the (user_id, start_datetime) index of bookings.
+     */
+    @Query(value = "select t.* from mentor_booking b join timetable t on t.id = b.timetable_id " +
+            "where b.user_id = :userId and b.start_datetime >= :from and b.start_datetime < :to " +
+            "order by b.start_datetime", nativeQuery = true)
+    List<TimeTable> findAllByMentorStartingBetween(@Param("userId") Long userId,
+                                                   @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Lectures of all groups starting in [from, to), served by the start_datetime index.
+     */
+    @Query("select t from TimeTable t where t.startDateTime >= :from and t.startDateTime < :to " +
+            "order by t.startDateTime, t.groupId")
+    List<TimeTable> findAllStartingBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("select t.id as timetableId, t.groupId as groupId, t.startDateTime as startDateTime, " +
+            "t.finishDateTime as finishDateTime, l.name as lectureName, l.linkToLesson as linkToLesson " +
+            "from TimeTable t, Lecture l where l.id = t.lectureId and t.id = :id")
+    Optional<CalendarFeedRow> findFeedRowById(@Param("id") Long id);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t.id as timetableId, t.groupId as groupId, t.startDateTime as startDateTime, " +
+            "t.finishDateTime as finishDateTime, l.name as lectureName, l.linkToLesson as linkToLesson " +
+            "from TimeTable t, Lecture l where l.id = t.lectureId " +
+            "and t.groupId = :groupId and t.startDateTime >= :from order by t.startDateTime")
+    Stream<CalendarFeedRow> streamFeedByGroupId(@Param("groupId") Integer groupId, @Param("from") Instant from);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t.id as timetableId, t.groupId as groupId, t.startDateTime as startDateTime, " +
+            "t.finishDateTime as finishDateTime, l.name as lectureName, l.linkToLesson as linkToLesson " +
+            "from MentorBooking b, TimeTable t, Lecture l where t.id = b.timetableId and l.id = t.lectureId " +
+            "and b.userId = :userId and b.startDateTime >= :from order by b.startDateTime")
+    Stream<CalendarFeedRow> streamFeedByMentor(@Param("userId") Long userId, @Param("from") Instant from);
+
+    /**
+     * Serializes timetable generations of the same group, released on commit.
+     */
+    @Query(value = "select 1 from (select pg_advisory_xact_lock(:namespace, :groupId)) lock", nativeQuery = true)
+    Integer lockGroup(@Param("namespace") int namespace, @Param("groupId") int groupId);
+
+    /**
+     * Lectures that already have results are kept, the rest of the timetable is generated again.
+     */
+    @Modifying
+    @Query(value = "delete from timetable t where t.group_id = :groupId " +
+            "and not exists (select 1 from timetable_to_lecture_result tl where tl.timetable_id = t.id)",
+            nativeQuery = true)
+    int deleteNotHeldByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * Generates the timetable of a group in one statement. The first {@code lecture_count} lectures of every
+     * module of the locale are numbered in module order, the working days of the group are numbered from its
+     * start date (or the day after the last held lecture), skipping its weekend days (ISO numbers, Monday is 1)
+     * and holidays, and the n-th lecture is put on the n-th day. Lectures already held are skipped.
+     */
+    @Modifying
+    @Query(value = "with held as ( " +
+            "    select t.lecture_id, t.start_datetime from timetable t " +
+            "    where t.group_id = :groupId " +
+            "      and exists (select 1 from timetable_to_lecture_result tl where tl.timetable_id = t.id) " +
+            "), lectures as ( " +
+            "    select l.id, row_number() over (order by m.module_number, l.id) as number " +
+            "    from (select l.id, l.module_id, row_number() over (partition by l.module_id order by l.id) as number_in_module " +
+            "          from lecture l where l.locale = :locale) l " +
+            "    join module m on m.id = l.module_id " +
+            "    where l.number_in_module <= m.lecture_count " +
+            "      and l.id not in (select h.lecture_id from held h) " +
+            "), first_day as ( " +
+            "    select greatest(cast(g.date_started at time zone :zoneId as date), " +
+            "                    (select cast(max(h.start_datetime) at time zone :zoneId as date) + 1 from held h)) as day " +
+            "    from \"group\" g where g.id = :groupId " +
+            "), days as ( " +
+            "    select cast(d as date) as day, row_number() over (order by d) as number " +
+            "    from first_day f, " +
+            "         generate_series(f.day, f.day + (select count(*) * 7 + 366 from lectures) * interval '1 day', interval '1 day') d " +
+            "    where cast(extract(isodow from d) as integer) not in " +
+            "          (select w.number_of_day from group_to_weekend w where w.group_id = :groupId) " +
+            "      and not exists (select 1 from holiday h where h.day = cast(d as date)) " +
+            ") " +
+            "insert into timetable (id, group_id, lecture_id, start_datetime, finish_datetime) " +
+            "select nextval('timetable_seq'), g.id, l.id, " +
+            "       (d.day + cast(:startTime as time)) at time zone :zoneId, " +
+            "       (d.day + cast(:startTime as time) + g.hours_per_lecture * interval '1 hour') at time zone :zoneId " +
+            "from lectures l " +
+            "join days d on d.number = l.number " +
+            "join \"group\" g on g.id = :groupId",
+            nativeQuery = true)
+    int generate(@Param("groupId") Long groupId, @Param("locale") String locale,
+                 @Param("startTime") LocalTime startTime, @Param("zoneId") String zoneId);
 }
@@ -1,9 +1,10 @@
 package com.ua.javarush.mentor.persist.repository;
 
 import com.ua.javarush.mentor.persist.model.TimeTableToLectureResult;
+import com.ua.javarush.mentor.persist.model.TimeTableToLectureResultId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TimeTableToLectureResultRepository extends JpaRepository<TimeTableToLectureResult, Long> {
+public interface TimeTableToLectureResultRepository extends JpaRepository<TimeTableToLectureResult, TimeTableToLectureResultId> {
 }
@@ -0,0 +1,28 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads many users at once with COPY: the rows are streamed to the server in one round trip per table,
+ * without a statement per row.
+ */
+public interface UserCopyRepository {
+
+    /**
+     * Takes the next ids of user_seq in one round trip, whole blocks of the pooled-lo allocation.
+     */
+    List<Long> allocateIds(int count);
+
+    /**
+     * Copies the users, ids already set, and returns the number of rows copied.
+     */
+    long copyUsers(Collection<User> users);
+
+    /**
+     * Copies memberships of the users in the group and returns the number of rows copied.
+     */
+    long copyMemberships(Long groupId, Collection<Long> userIds);
+}
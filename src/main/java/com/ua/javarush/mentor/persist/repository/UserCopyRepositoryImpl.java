@@ -0,0 +1,143 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.persist.model.IdAllocation;
+import com.ua.javarush.mentor.persist.model.User;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Rows are written in the text format of COPY on the connection of the current transaction, so they are
+ * committed or rolled back together with the rest of it. Statement triggers of the tables fire once per COPY.
+ */
+public class UserCopyRepositoryImpl implements UserCopyRepository {
+
+    private static final String ALLOCATE_IDS = "select b.lo + i from (select nextval('user_seq') as lo " +
+            "from generate_series(1, :blocks)) b cross join generate_series(0, :blockSize - 1) i order by 1 limit :count";
+    private static final String COPY_USERS = "copy \"user\" (id, first_name, last_name, country, registered_at, " +
+            "telegram_nickname, secret_phrase, email, email_verified, enabled, locked, email_verification_token, " +
+            "date_of_sending_email_confirmation, username, password, role_id) from stdin";
+    private static final String COPY_MEMBERSHIPS = "copy user_to_group (user_id, group_id) from stdin";
+    private static final String NULL = "\\N";
+    private static final char DELIMITER = '\t';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserCopyRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> allocateIds(int count) {
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("blocks", (count + IdAllocation.BLOCK_SIZE - 1) / IdAllocation.BLOCK_SIZE)
+                .addValue("blockSize", IdAllocation.BLOCK_SIZE)
+                .addValue("count", count);
+        return jdbcTemplate.queryForList(ALLOCATE_IDS, parameters, Long.class);
+    }
+
+    @Override
+    public long copyUsers(Collection<User> users) {
+        return copy(COPY_USERS, users, user -> new Object[]{
+                user.getId(), user.getFirstName(), user.getLastName(), user.getCountry(), user.getRegisteredAt(),
+                user.getTelegramNickname(), user.getSecretPhrase(), user.getEmail(), user.isEmailVerified(),
+                user.isEnabled(), user.isLocked(), user.getEmailConfirmationToken(),
+                user.getDateOfSendingEmailConfirmation(), user.getUsername(), user.getPassword(), user.getRoleId().getId()});
+    }
+
+    @Override
+    public long copyMemberships(Long groupId, Collection<Long> userIds) {
+        return copy(COPY_MEMBERSHIPS, userIds, userId -> new Object[]{userId, groupId});
+    }
+
+    private <T> long copy(String sql, Collection<T> rows, Function<T, Object[]> columns) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Long copied = jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                StringBuilder buffer = new StringBuilder(BUFFER_SIZE);
+                for (T row : rows) {
+                    appendRow(buffer, columns.apply(row));
+                    if (buffer.length() >= BUFFER_SIZE) {
+                        flush(copyIn, buffer);
+                    }
+                }
+                flush(copyIn, buffer);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private static void appendRow(StringBuilder buffer, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(DELIMITER);
+            }
+            appendValue(buffer, values[i]);
+        }
+        buffer.append('\n');
+    }
+
+    private static void appendValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            buffer.append(NULL);
+        } else if (value instanceof Boolean) {
+            buffer.append((Boolean) value ? 't' : 'f');
+        } else if (value instanceof Date) {
+            buffer.append(((Date) value).toInstant());
+        } else if (value instanceof Number) {
+            buffer.append(value);
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\':
+                        buffer.append("\\\\");
+                        break;
+                    case '\t':
+                        buffer.append("\\t");
+                        break;
+                    case '\n':
+                        buffer.append("\\n");
+                        break;
+                    case '\r':
+                        buffer.append("\\r");
+                        break;
+                    default:
+                        buffer.append(c);
+                }
+            }
+        }
+    }
+}
@@ -1,13 +1,143 @@
 package com.ua.javarush.mentor.persist.repository;
 
+import com.ua.javarush.mentor.persist.model.Role;
 import com.ua.javarush.mentor.persist.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserCopyRepository {
+    String STREAM_FETCH_SIZE = "500";
+
+    @EntityGraph(attributePaths = {"roleId", "roleId.permissions"})
     Optional<User> findByEmail(String email);
+    @EntityGraph(attributePaths = {"roleId", "roleId.permissions"})
     Optional<User> findByUsername(String username);
+
+    @Override
+    @EntityGraph(attributePaths = "roleId")
+    Page<User> findAll(Pageable pageable);
+
+    /**
+     * Confirms the email while the checked token is still stored, so a token confirms once.
+     */
+    @Modifying
+    @Query("update User u set u.emailVerified = true, u.enabled = true, u.emailConfirmationToken = null, " +
+            "u.dateOfConfirmationEmail = :now, u.dateOfSendingEmailConfirmation = null, u.version = u.version + 1 " +
+            "where u.id = :id and u.emailConfirmationToken = :token")
+    int confirmEmail(@Param("id") Long id, @Param("token") String token, @Param("now") Date now);
+
+    /**
+     * Stores a new reset code while the user has resets left, the count is checked and incremented at once.
+     */
+    @Modifying
+    @Query("update User u set u.resetPasswordCode = :code, u.dateOfResetPassword = :now, " +
+            "u.countOfResetPassword = coalesce(u.countOfResetPassword, 0) + 1, u.version = u.version + 1 " +
+            "where u.id = :id and coalesce(u.countOfResetPassword, 0) < :maxCount")
+    int startPasswordReset(@Param("id") Long id, @Param("code") String code, @Param("now") Date now,
+                           @Param("maxCount") long maxCount);
+
+    /**
+     * Replaces the password while the checked one is still stored, so concurrent changes do not overwrite each other.
+     */
+    @Modifying
+    @Query("update User u set u.password = :newPassword, u.lastPasswordChange = :now, u.version = u.version + 1 " +
+            "where u.id = :id and u.password = :oldPassword")
+    int changePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword, @Param("now") Date now);
+
+    /**
+     * Replaces the password while the checked reset code is still stored, so a code resets once.
+     */
+    @Modifying
+    @Query("update User u set u.password = :newPassword, u.resetPasswordCode = null, u.countOfResetPassword = 0, " +
+            "u.dateOfSendingResetPassword = null, u.lastPasswordChange = :now, u.dateOfResetPassword = :now, " +
+            "u.version = u.version + 1 where u.id = :id and u.resetPasswordCode = :code")
+    int completePasswordReset(@Param("id") Long id, @Param("code") String code,
+                              @Param("newPassword") String newPassword, @Param("now") Date now);
+
+    @Modifying
+    @Query("update User u set u.roleId = :role, u.version = u.version + 1 where u.id = :id")
+    int changeRole(@Param("id") Long id, @Param("role") Role role);
+
+    @Query("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select lower(u.username) from User u where lower(u.username) in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.id from User u where u.feedToken = :feedToken and u.enabled = true and u.locked = false")
+    Optional<Long> findEnabledIdByFeedToken(@Param("feedToken") String feedToken);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<User> streamAllBy(Sort sort);
+
+    /**
+     * Enabled mentors with the weekend days of their groups, one row per weekend day.
+     */
+    @Query(value = "select u.id as userId, u.first_name as firstName, u.last_name as lastName, " +
+            "u.telegram_nickname as telegramNickname, w.number_of_day as numberOfDay " +
+            "from \"user\" u " +
+            "join role r on r.id = u.role_id " +
+            "left join user_to_group ug on ug.user_id = u.id " +
+            "left join group_to_weekend w on w.group_id = ug.group_id " +
+            "where r.name = 'MENTOR' and u.enabled and not u.locked " +
+            "order by u.id", nativeQuery = true)
+    List<MentorWeekendRow> findAllMentorWeekends();
+
+    /**
+     * Every user with the attributes audiences are selected by, one row per user.
+     */
+    @Query(value = "select u.id as userId, r.name as roleName, ug.group_id as groupId, " +
+            "coalesce(u.enabled, false) and not coalesce(u.locked, false) as enabled, " +
+            "coalesce(u.email_verified, false) as emailVerified, u.telegram_id is not null as hasTelegram " +
+            "from \"user\" u " +
+            "join role r on r.id = u.role_id " +
+            "left join user_to_group ug on ug.user_id = u.id", nativeQuery = true)
+    List<AudienceUserRow> findAllAudienceRows();
+
+    /**
+     * Members of the group and the leading mentor of the lecture.
+     */
+    @Query(value = "select u.id as userId, u.first_name as firstName, u.email as email, u.telegram_id as telegramId " +
+            "from \"user\" u " +
+            "where u.enabled and not u.locked " +
+            "and (u.id in (select ug.user_id from user_to_group ug where ug.group_id = :groupId) " +
+            "  or u.id in (select b.user_id from mentor_booking b " +
+            "              join lecture_result lr on lr.id = b.lecture_result_id " +
+            "              where b.timetable_id = :timetableId and lr.is_user_leading))",
+            nativeQuery = true)
+    List<ReminderRecipientRow> findReminderRecipients(@Param("timetableId") Long timetableId, @Param("groupId") Long groupId);
+
+    /**
+     * Whether the user is a member of the group or booked on one of its lectures.
+     */
+    @Query(value = "select exists(select 1 from user_to_group ug where ug.user_id = :userId and ug.group_id = :groupId) " +
+            "or exists(select 1 from mentor_booking b join timetable t on t.id = b.timetable_id " +
+            "          where b.user_id = :userId and t.group_id = :groupId)",
+            nativeQuery = true)
+    boolean isMemberOrBookedInGroup(@Param("userId") Long userId, @Param("groupId") Long groupId);
 }
@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transactions of the method read from a replica, which may lag behind the primary by up to
+ * {@code datasource.replicas.maxLagSeconds}. Only for reads whose results may be that old.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,22 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs outside the transaction of the method, so the mark is set before its connection is taken.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.ua.javarush.mentor.persist.routing.ReplicaRead)")
+    public Object readFromReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        return ReplicaRoutingDataSource.readFromReplica(joinPoint::proceed);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of read-only transactions marked with {@link ReplicaRead}, or run by
+ * {@link #readFromReplica(Read)}, to the read replicas in turn and everything else to the primary. Unmarked reads,
+ * like the rebuilds of the in-memory indexes after a change was notified, always see the primary. A replica is
+ * skipped while it is down or lags behind the primary by more than the allowed seconds; with no replica left reads
+ * go to the primary. Once the work of a {@link RoutingScope} writes, its following reads stay on the primary, so it
+ * reads what it has written; threads without a scope cannot be pinned and read from the primary only. The
+ * transaction has to be known when the connection is taken, so this data source is used behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+    private static final String LAG_SECONDS = "select case when not pg_is_in_recovery() " +
+            "or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, double maxLagSeconds) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+        }
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * Runs the read with its read-only transactions allowed on a replica.
+     */
+    public static <T, E extends Throwable> T readFromReplica(Read<T, E> read) throws E {
+        boolean outermost = REPLICA_READ.get() == null;
+        REPLICA_READ.set(Boolean.TRUE);
+        try {
+            return read.run();
+        } finally {
+            if (outermost) {
+                REPLICA_READ.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RoutingScope scope = RoutingScope.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (scope != null) {
+                scope.pinToPrimary();
+            }
+            return primary.getConnection();
+        }
+        if (REPLICA_READ.get() != null && scope != null && !scope.isPinnedToPrimary()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (replica.healthy) {
+                    try {
+                        return replica.dataSource.getConnection();
+                    } catch (SQLException e) {
+                        markDown(replica, e.getMessage());
+                    }
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Replicas are reached with their configured credentials only, so explicit credentials go to the primary.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Checks every replica: a replica takes reads while it answers and its lag is within the allowed seconds.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.healthCheckDelayMs:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_SECONDS)) {
+                resultSet.next();
+                double lag = resultSet.getDouble(1);
+                if (lag > maxLagSeconds) {
+                    markDown(replica, "lags " + lag + " seconds behind the primary");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is back, reads are routed to it", replica.name);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) replica.dataSource).close();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} is taken out of reads: {}", replica.name, reason);
+        }
+    }
+
+    public interface Read<T, E extends Throwable> {
+
+        T run() throws E;
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Work that has to read what it has written: a request, or a task run by an executor. Once the work writes, its
+ * following reads stay on the primary. A request keeps its scope in a request attribute. Executor threads, and the
+ * threads writing streamed responses, have no request bound, they only have a scope while they run a task wrapped
+ * by {@link #taskDecorator()}, which takes over the scope of the thread submitting the task or starts a new one.
+ */
+public final class RoutingScope {
+
+    private static final String REQUEST_ATTRIBUTE = RoutingScope.class.getName();
+    private static final ThreadLocal<RoutingScope> TASK_SCOPE = new ThreadLocal<>();
+
+    private volatile boolean pinnedToPrimary;
+
+    private RoutingScope() {
+    }
+
+    public static TaskDecorator taskDecorator() {
+        return task -> {
+            RoutingScope current = current();
+            RoutingScope scope = current != null ? current : new RoutingScope();
+            return () -> {
+                RoutingScope previous = TASK_SCOPE.get();
+                TASK_SCOPE.set(scope);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        TASK_SCOPE.remove();
+                    } else {
+                        TASK_SCOPE.set(previous);
+                    }
+                }
+            };
+        };
+    }
+
+    /**
+     * Scope of the current thread, or null when it runs neither a request nor a decorated task.
+     */
+    static RoutingScope current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return TASK_SCOPE.get();
+        }
+        RoutingScope scope = (RoutingScope) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (scope == null) {
+            scope = new RoutingScope();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, scope, RequestAttributes.SCOPE_REQUEST);
+        }
+        return scope;
+    }
+
+    void pinToPrimary() {
+        pinnedToPrimary = true;
+    }
+
+    boolean isPinnedToPrimary() {
+        return pinnedToPrimary;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+public class CsvReportExporter implements ReportExporter {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MessageSource messageSource;
+
+    public CsvReportExporter(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    public ReportFormat getFormat() {
+        return ReportFormat.CSV;
+    }
+
+    @Override
+    public <T> void export(OutputStream outputStream, ReportDefinition<T> definition, Stream<T> rows, AppLocale appLocale) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8), BUFFER_SIZE);
+        writer.write(BYTE_ORDER_MARK);
+
+        List<ReportColumn<T>> columns = definition.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            writeValue(writer, i, messageSource.getMessage(columns.get(i).getHeaderKey(), null, appLocale.getLocaleObject()));
+        }
+        writer.write(LINE_SEPARATOR);
+
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            for (int i = 0; i < columns.size(); i++) {
+                writeValue(writer, i, columns.get(i).valueOf(row));
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+        writer.flush();
+    }
+
+    private void writeValue(Writer writer, int columnIndex, Object value) throws IOException {
+        if (columnIndex > 0) {
+            writer.write(SEPARATOR);
+        }
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            writer.write(value.toString());
+            return;
+        }
+        writer.write(escape(value.toString()));
+    }
+
+    private String escape(String value) {
+        String safeValue = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean needsQuotes = safeValue.indexOf(SEPARATOR) >= 0 || safeValue.indexOf(QUOTE) >= 0
+                || safeValue.indexOf('\n') >= 0 || safeValue.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return safeValue;
+        }
+        return QUOTE + safeValue.replace("\"", "\"\"") + QUOTE;
+    }
+}
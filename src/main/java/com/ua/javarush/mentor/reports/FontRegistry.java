@@ -0,0 +1,53 @@
+package com.ua.javarush.mentor.reports;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Parses the embedded report fonts once and shares them between exports. The fonts are
+ * Unicode (Identity-H) TrueType fonts, so Cyrillic labels render, and only the glyphs used
+ * by a document are embedded into it. By default they are the Liberation Sans fonts bundled
+ * with OpenPDF.
+ */
+@Component
+public class FontRegistry {
+
+    static final String DEFAULT_REGULAR_FONT = "com/lowagie/text/pdf/fonts/liberation/LiberationSans-Regular.ttf";
+    static final String DEFAULT_BOLD_FONT = "com/lowagie/text/pdf/fonts/liberation/LiberationSans-Bold.ttf";
+
+    private final BaseFont regular;
+    private final BaseFont bold;
+
+    public FontRegistry(@Value("${report.pdf.font.regular:" + DEFAULT_REGULAR_FONT + "}") String regularFont,
+                        @Value("${report.pdf.font.bold:" + DEFAULT_BOLD_FONT + "}") String boldFont) {
+        this.regular = loadFont(regularFont);
+        this.bold = loadFont(boldFont);
+    }
+
+    public Font regular(float size, Color color) {
+        return new Font(regular, size, Font.NORMAL, color);
+    }
+
+    public Font bold(float size, Color color) {
+        return new Font(bold, size, Font.NORMAL, color);
+    }
+
+    static BaseFont loadFont(String classpathLocation) {
+        try (InputStream inputStream = new ClassPathResource(classpathLocation).getInputStream()) {
+            BaseFont baseFont = BaseFont.createFont(classpathLocation, BaseFont.IDENTITY_H, BaseFont.EMBEDDED,
+                    BaseFont.NOT_CACHED, inputStream.readAllBytes(), null);
+            baseFont.setSubset(true);
+            return baseFont;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load report font " + classpathLocation, e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.persist.repository.CalendarFeedRow;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes lectures as an iCalendar (RFC 5545) feed. Times are written in UTC, so the feed needs no
+ * time zone definitions, and event uids are the timetable ids, so calendar apps update moved lectures
+ * instead of duplicating them.
+ */
+@Component
+public class IcsCalendarWriter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final String PRODUCT_ID = "-//JavaRush//Mentor Helper//EN";
+    private static final String UID_SUFFIX = "@mentor-helper";
+
+    public void write(OutputStream outputStream, String calendarName, Instant stamp, Stream<CalendarFeedRow> rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8), BUFFER_SIZE);
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:" + PRODUCT_ID);
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "METHOD:PUBLISH");
+        writeLine(writer, "X-WR-CALNAME:" + escape(calendarName));
+
+        String dateStamp = UTC_FORMAT.format(stamp);
+        Iterator<CalendarFeedRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            CalendarFeedRow row = iterator.next();
+            writeLine(writer, "BEGIN:VEVENT");
+            writeLine(writer, "UID:timetable-" + row.getTimetableId() + UID_SUFFIX);
+            writeLine(writer, "DTSTAMP:" + dateStamp);
+            writeLine(writer, "DTSTART:" + format(row.getStartDateTime()));
+            writeLine(writer, "DTEND:" + format(row.getFinishDateTime()));
+            writeLine(writer, "SUMMARY:" + escape(row.getLectureName()));
+            if (row.getLinkToLesson() != null && !row.getLinkToLesson().isBlank()) {
+                writeLine(writer, "DESCRIPTION:" + escape(row.getLinkToLesson()));
+                writeLine(writer, "URL:" + row.getLinkToLesson().trim());
+            }
+            writeLine(writer, "END:VEVENT");
+        }
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private String format(Instant instant) {
+        return UTC_FORMAT.format(instant);
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                case ';':
+                case ',':
+                    escaped.append('\\').append(c);
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Lines longer than 75 octets are folded: continued on the next line after a single space.
+     * Characters are never split, so multi-byte names stay valid UTF-8.
+     */
+    static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = utf8Length(codePoint);
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write(LINE_SEPARATOR);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
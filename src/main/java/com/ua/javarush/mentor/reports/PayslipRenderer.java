@@ -0,0 +1,88 @@
+package com.ua.javarush.mentor.reports;
+
+import com.lowagie.text.*;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Renders the payslip of one mentor as a PDF document. It keeps no state between calls, so
+ * payslips are rendered on several threads at once; the shared fonts are only read, the glyphs
+ * used by a document are tracked by its own writer.
+ */
+@Component
+public class PayslipRenderer {
+
+    private static final int FONT_SIZE = 18;
+    private static final int CELL_FONT_SIZE = 12;
+    private static final float WIDTH_PERCENTAGE = 100f;
+    private static final float[] COLUMN_WIDTHS = {2f, 3f};
+    private static final int SPACING = 10;
+    private static final int PADDING = 5;
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+    private final MessageSource messageSource;
+    private final FontRegistry fontRegistry;
+
+    public PayslipRenderer(MessageSource messageSource, FontRegistry fontRegistry) {
+        this.messageSource = messageSource;
+        this.fontRegistry = fontRegistry;
+    }
+
+    public byte[] render(PayrollDTO payroll, AppLocale appLocale) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (Document document = new Document(PageSize.A4)) {
+            PdfWriter.getInstance(document, outputStream);
+            document.open();
+
+            Paragraph paragraph = new Paragraph(getMessage("payslip.title", appLocale), fontRegistry.bold(FONT_SIZE, Color.BLACK));
+            paragraph.setAlignment(Element.ALIGN_CENTER);
+            document.add(paragraph);
+
+            PdfPTable table = new PdfPTable(COLUMN_WIDTHS);
+            table.setWidthPercentage(WIDTH_PERCENTAGE);
+            table.setSpacingBefore(SPACING);
+            Font labelFont = fontRegistry.bold(CELL_FONT_SIZE, Color.BLACK);
+            Font valueFont = fontRegistry.regular(CELL_FONT_SIZE, Color.BLACK);
+
+            addRow(table, "payslip.period", YearMonth.from(payroll.getPeriod()), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.mentor", payroll.getFirstName() + " " + payroll.getLastName(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.lectureCount", payroll.getLectureCount(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.leadingHours", payroll.getLeadingHours(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.assistingHours", payroll.getAssistingHours(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.substitutedHours", payroll.getSubstitutedHours(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.paidHours", payroll.getPaidHours(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.amount", payroll.getAmount() + " " + payroll.getSalaryCurrency(), appLocale, labelFont, valueFont);
+            addRow(table, "payslip.calculatedAt", payroll.getCalculatedAt(), appLocale, labelFont, valueFont);
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void addRow(PdfPTable table, String labelKey, Object value, AppLocale appLocale, Font labelFont, Font valueFont) {
+        PdfPCell label = new PdfPCell(new Phrase(getMessage(labelKey, appLocale), labelFont));
+        label.setBackgroundColor(Color.LIGHT_GRAY);
+        label.setPadding(PADDING);
+        table.addCell(label);
+
+        PdfPCell cell = new PdfPCell(new Phrase(Objects.toString(value, ""), valueFont));
+        cell.setPadding(PADDING);
+        table.addCell(cell);
+    }
+
+    private String getMessage(String key, AppLocale appLocale) {
+        return messageSource.getMessage(key, null, appLocale.getLocaleObject());
+    }
+}
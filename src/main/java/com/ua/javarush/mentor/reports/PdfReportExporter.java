@@ -0,0 +1,120 @@
+package com.ua.javarush.mentor.reports;
+
+import com.lowagie.text.*;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+public class PdfReportExporter implements ReportExporter {
+
+    private static final int FONT_SIZE = 18;
+    private static final int CELL_FONT_SIZE = 12;
+    private static final float WIDTH_PERCENTAGE = 100f;
+    private static final int SPACING = 10;
+    private static final int HEADER_ROWS = 1;
+    private static final int ROWS_PER_FLUSH = 200;
+
+    private final MessageSource messageSource;
+    private final FontRegistry fontRegistry;
+
+    public PdfReportExporter(MessageSource messageSource, FontRegistry fontRegistry) {
+        this.messageSource = messageSource;
+        this.fontRegistry = fontRegistry;
+    }
+
+    @Override
+    public ReportFormat getFormat() {
+        return ReportFormat.PDF;
+    }
+
+    @Override
+    public <T> void export(OutputStream outputStream, ReportDefinition<T> definition, Stream<T> rows, AppLocale appLocale) throws IOException {
+        try (Document document = new Document(PageSize.A4)) {
+            PdfWriter.getInstance(document, outputStream);
+            document.open();
+
+            Paragraph paragraph = generateParagraph(definition.getTitleKey(), appLocale, generateDefaultFont());
+            document.add(paragraph);
+
+            PdfPTable table = generateTable(definition.getColumns());
+            writeTableHeader(table, definition.getColumns(), appLocale);
+            writeTableData(document, table, definition.getColumns(), rows, outputStream);
+
+            table.setComplete(true);
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private <T> void writeTableHeader(PdfPTable table, List<ReportColumn<T>> columns, AppLocale appLocale) {
+        PdfPCell cell = new PdfPCell();
+        cell.setBackgroundColor(Color.LIGHT_GRAY);
+        cell.setPadding(5);
+
+        Font font = fontRegistry.regular(CELL_FONT_SIZE, Color.WHITE);
+
+        columns.forEach(column -> addCell(cell, column.getHeaderKey(), appLocale, table, font));
+    }
+
+    private void addCell(PdfPCell cell, String resourceName, AppLocale appLocale, PdfPTable table, Font font) {
+        cell.setPhrase(new Phrase(messageSource.getMessage(resourceName, null, appLocale.getLocaleObject()), font));
+        table.addCell(cell);
+    }
+
+    /**
+     * Rows are handed to the document every {@link #ROWS_PER_FLUSH} rows: an incomplete table
+     * writes the finished rows and drops them, so only one chunk is held in memory at a time.
+     */
+    private <T> void writeTableData(Document document, PdfPTable table, List<ReportColumn<T>> columns, Stream<T> rows, OutputStream outputStream) throws IOException {
+        Font font = fontRegistry.regular(CELL_FONT_SIZE, Color.BLACK);
+        int rowsInChunk = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            columns.forEach(column -> table.addCell(new Phrase(Objects.toString(column.valueOf(row), ""), font)));
+            if (++rowsInChunk == ROWS_PER_FLUSH) {
+                document.add(table);
+                outputStream.flush();
+                rowsInChunk = 0;
+            }
+        }
+    }
+
+    private Paragraph generateParagraph(String paragraphName, AppLocale appLocale, Font font) {
+        Paragraph paragraph = new Paragraph(messageSource.getMessage(paragraphName, null, appLocale.getLocaleObject()), font);
+        paragraph.setAlignment(Element.ALIGN_CENTER);
+        return paragraph;
+    }
+
+    private Font generateDefaultFont() {
+        return fontRegistry.bold(FONT_SIZE, Color.BLACK);
+    }
+
+    private <T> PdfPTable generateTable(List<ReportColumn<T>> columns) {
+        float[] columnWidths = new float[columns.size()];
+        for (int i = 0; i < columnWidths.length; i++) {
+            columnWidths[i] = columns.get(i).getWidth();
+        }
+        PdfPTable table = new PdfPTable(columns.size());
+        table.setWidthPercentage(WIDTH_PERCENTAGE);
+        table.setWidths(columnWidths);
+        table.setSpacingBefore(SPACING);
+        table.setHeaderRows(HEADER_ROWS);
+        table.setComplete(false);
+        return table;
+    }
+}
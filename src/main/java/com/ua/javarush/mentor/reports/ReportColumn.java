@@ -0,0 +1,18 @@
+package com.ua.javarush.mentor.reports;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class ReportColumn<T> {
+    private final String headerKey;
+    private final float width;
+    private final Function<T, Object> value;
+
+    public Object valueOf(T row) {
+        return value.apply(row);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ua.javarush.mentor.reports;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class ReportDefinition<T> {
+    private final String titleKey;
+    private final List<ReportColumn<T>> columns;
+
+    private ReportDefinition(String titleKey, List<ReportColumn<T>> columns) {
+        this.titleKey = titleKey;
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    public static <T> Builder<T> builder(String titleKey) {
+        return new Builder<>(titleKey);
+    }
+
+    public static class Builder<T> {
+        private final String titleKey;
+        private final List<ReportColumn<T>> columns = new ArrayList<>();
+
+        private Builder(String titleKey) {
+            this.titleKey = titleKey;
+        }
+
+        public Builder<T> column(String headerKey, float width, Function<T, Object> value) {
+            columns.add(new ReportColumn<>(headerKey, width, value));
+            return this;
+        }
+
+        public ReportDefinition<T> build() {
+            return new ReportDefinition<>(titleKey, columns);
+        }
+    }
+}
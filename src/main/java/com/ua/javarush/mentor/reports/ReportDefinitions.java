@@ -0,0 +1,39 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.dto.LectureResultRowDTO;
+import com.ua.javarush.mentor.dto.UserDTO;
+
+public class ReportDefinitions {
+
+    private ReportDefinitions() {
+    }
+
+    public static final ReportDefinition<UserDTO> USERS = ReportDefinition.<UserDTO>builder("report.user.reportName")
+            .column("report.user.firstName", 3.5f, UserDTO::getFirstName)
+            .column("report.user.lastName", 3.5f, UserDTO::getLastName)
+            .column("report.user.country", 2.0f, UserDTO::getCountry)
+            .column("report.user.registrationDate", 1.5f, UserDTO::getRegisteredAt)
+            .column("report.user.telegramNickname", 3.5f, UserDTO::getTelegramNickname)
+            .column("report.user.roleName", 2.0f, UserDTO::getRoleName)
+            .build();
+
+    public static final ReportDefinition<UserDTO> SALARIES = ReportDefinition.<UserDTO>builder("report.salary.reportName")
+            .column("report.user.firstName", 3.5f, UserDTO::getFirstName)
+            .column("report.user.lastName", 3.5f, UserDTO::getLastName)
+            .column("report.user.roleName", 2.0f, UserDTO::getRoleName)
+            .column("report.salary.salaryPerHour", 2.0f, UserDTO::getSalaryPerHour)
+            .column("report.salary.salaryCurrency", 1.5f, UserDTO::getSalaryCurrency)
+            .build();
+
+    public static final ReportDefinition<LectureResultRowDTO> LECTURE_RESULTS = ReportDefinition.<LectureResultRowDTO>builder("report.lectureResult.reportName")
+            .column("report.lectureResult.lecture", 4.0f, LectureResultRowDTO::getLectureName)
+            .column("report.user.firstName", 2.5f, LectureResultRowDTO::getFirstName)
+            .column("report.user.lastName", 2.5f, LectureResultRowDTO::getLastName)
+            .column("report.lectureResult.hoursInLecture", 1.5f, LectureResultRowDTO::getHoursInLecture)
+            .column("report.lectureResult.userLeading", 1.5f, LectureResultRowDTO::getIsUserLeading)
+            .column("report.lectureResult.wasAtLecture", 1.5f, LectureResultRowDTO::getWasAtLecture)
+            .column("report.lectureResult.otherUserWasOnLecture", 2.0f, LectureResultRowDTO::getOtherUserWasOnLecture)
+            .column("report.lectureResult.otherUserHoursOnLecture", 2.0f, LectureResultRowDTO::getOtherUserHoursOnLecture)
+            .column("report.lectureResult.comment", 4.0f, LectureResultRowDTO::getComment)
+            .build();
+}
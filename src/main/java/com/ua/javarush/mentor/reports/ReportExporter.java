@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+public interface ReportExporter {
+
+    ReportFormat getFormat();
+
+    <T> void export(OutputStream outputStream, ReportDefinition<T> definition, Stream<T> rows, AppLocale appLocale) throws IOException;
+}
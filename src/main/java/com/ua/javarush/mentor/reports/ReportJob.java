@@ -0,0 +1,78 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportJobStatus;
+import com.ua.javarush.mentor.enums.ReportType;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory state of one asynchronous report job. Fields are written by the worker thread
+ * and read by status requests, hence volatile. Only its owners see the job: the user who
+ * submitted it and those who submitted the same report while it was rendering.
+ */
+@Getter
+public class ReportJob {
+    private final UUID id = UUID.randomUUID();
+    private final ReportType reportType;
+    private final ReportFormat reportFormat;
+    private final AppLocale appLocale;
+    private final String fileName;
+    private final String owner;
+    private final Set<String> owners = ConcurrentHashMap.newKeySet();
+    private final Instant createdAt = Instant.now();
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile int total;
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile Path file;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public ReportJob(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale, String fileName, String owner) {
+        this.reportType = reportType;
+        this.reportFormat = reportFormat;
+        this.appLocale = appLocale;
+        this.fileName = fileName;
+        this.owner = owner;
+        this.owners.add(owner);
+    }
+
+    public void addOwner(String owner) {
+        owners.add(owner);
+    }
+
+    public boolean isOwnedBy(String user) {
+        return owners.contains(user);
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public void start() {
+        status = ReportJobStatus.RUNNING;
+    }
+
+    public void complete(Path file) {
+        this.file = file;
+        this.finishedAt = Instant.now();
+        this.status = ReportJobStatus.DONE;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = ReportJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ReportJobStatus.DONE || status == ReportJobStatus.FAILED;
+    }
+}
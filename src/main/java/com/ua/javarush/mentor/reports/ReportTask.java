@@ -0,0 +1,15 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the file of a report job and returns the version of the data it was built from.
+ */
+@FunctionalInterface
+public interface ReportTask {
+
+    long write(OutputStream outputStream, ReportJob job) throws GeneralException, IOException;
+}
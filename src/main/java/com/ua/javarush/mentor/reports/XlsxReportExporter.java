@@ -0,0 +1,98 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class XlsxReportExporter implements ReportExporter {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    private final MessageSource messageSource;
+
+    public XlsxReportExporter(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    public ReportFormat getFormat() {
+        return ReportFormat.XLSX;
+    }
+
+    /**
+     * Only the last {@link #ROW_ACCESS_WINDOW} rows are kept on the heap; older rows are flushed
+     * to a compressed temporary file that is streamed into the response by {@code write}.
+     */
+    @Override
+    public <T> void export(OutputStream outputStream, ReportDefinition<T> definition, Stream<T> rows, AppLocale appLocale) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            String title = messageSource.getMessage(definition.getTitleKey(), null, appLocale.getLocaleObject());
+            Sheet sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(title));
+            List<ReportColumn<T>> columns = definition.getColumns();
+
+            writeHeader(sheet, columns, createHeaderStyle(workbook), appLocale);
+
+            int rowNumber = 1;
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                Row row = sheet.createRow(rowNumber++);
+                for (int i = 0; i < columns.size(); i++) {
+                    writeCell(row.createCell(i), columns.get(i).valueOf(item));
+                }
+            }
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private <T> void writeHeader(Sheet sheet, List<ReportColumn<T>> columns, CellStyle headerStyle, AppLocale appLocale) {
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(messageSource.getMessage(columns.get(i).getHeaderKey(), null, appLocale.getLocaleObject()));
+            cell.setCellStyle(headerStyle);
+        }
+        sheet.createFreezePane(0, 1);
+    }
+
+    private void writeCell(Cell cell, Object value) {
+        if (value == null) {
+            cell.setBlank();
+        } else if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    private CellStyle createHeaderStyle(SXSSFWorkbook workbook) {
+        Font font = workbook.createFont();
+        font.setBold(true);
+        CellStyle style = workbook.createCellStyle();
+        style.setFont(font);
+        return style;
+    }
+}
@@ -0,0 +1,172 @@
+package com.ua.javarush.mentor.roster;
+
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+/**
+ * Reads a roster file row by row, so only the parsed rows are kept in memory and not the file. The first
+ * record names the columns in any order, case, with or without underscores and spaces: first name, last name,
+ * email, username and country are required, telegram nickname and password are optional. Values follow
+ * RFC 4180: separated by commas, quoted with double quotes when they hold commas, quotes or line breaks.
+ */
+public class RosterCsvReader {
+
+    static final String FIRST_NAME = "firstname";
+    static final String LAST_NAME = "lastname";
+    static final String EMAIL = "email";
+    static final String USERNAME = "username";
+    static final String COUNTRY = "country";
+    static final String TELEGRAM_NICKNAME = "telegramnickname";
+    static final String PASSWORD = "password";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(FIRST_NAME, LAST_NAME, EMAIL, USERNAME, COUNTRY);
+    private static final List<String> OPTIONAL_COLUMNS = List.of(TELEGRAM_NICKNAME, PASSWORD);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int line = 1;
+    private int recordLine;
+    private int pushedBack = NONE;
+
+    public RosterCsvReader(Reader reader) throws IOException, GeneralException {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        readHeader();
+    }
+
+    /**
+     * Next row of the file, null at its end. Blank lines are skipped.
+     */
+    public RosterRow next() throws IOException, GeneralException {
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.stream().allMatch(value -> value == null));
+        if (values.size() > columns.size()) {
+            throw error(recordLine, "expected " + columns.size() + " values, found " + values.size());
+        }
+        return new RosterRow(recordLine, value(values, FIRST_NAME), value(values, LAST_NAME), value(values, EMAIL),
+                value(values, USERNAME), value(values, COUNTRY), value(values, TELEGRAM_NICKNAME), value(values, PASSWORD));
+    }
+
+    private void readHeader() throws IOException, GeneralException {
+        int first = read();
+        if (first != BYTE_ORDER_MARK) {
+            pushedBack = first;
+        }
+        List<String> header = readRecord();
+        if (header == null) {
+            throw error(1, "the file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i) == null ? "" : header.get(i).toLowerCase(Locale.ROOT).replaceAll("[_\\s]", "");
+            if (!REQUIRED_COLUMNS.contains(column) && !OPTIONAL_COLUMNS.contains(column)) {
+                throw error(1, "unknown column '" + header.get(i) + "'");
+            }
+            if (columns.put(column, i) != null) {
+                throw error(1, "column '" + header.get(i) + "' is repeated");
+            }
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw error(1, "column '" + column + "' is missing");
+            }
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    /**
+     * Values of the next record, trimmed and null when blank, or null at the end of the file.
+     */
+    private List<String> readRecord() throws IOException, GeneralException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean started = false;
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw error(recordLine, "quoted value is not closed");
+                }
+                if (c == QUOTE) {
+                    c = read();
+                    if (c != QUOTE) {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                value.append((char) c);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                values.add(clean(value));
+                return values;
+            } else if (c == SEPARATOR) {
+                values.add(clean(value));
+                value.setLength(0);
+                started = false;
+            } else if (c == QUOTE && !started) {
+                quoted = true;
+                started = true;
+            } else {
+                value.append((char) c);
+                started = true;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static String clean(StringBuilder value) {
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static GeneralException error(int line, String message) {
+        return createGeneralException("Line " + line + ": " + message, HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID);
+    }
+}
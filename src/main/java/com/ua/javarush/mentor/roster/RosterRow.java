@@ -0,0 +1,60 @@
+package com.ua.javarush.mentor.roster;
+
+/**
+ * One student of a roster file as it was written there, blank values are read as null.
+ */
+public class RosterRow {
+
+    private final int lineNumber;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String username;
+    private final String country;
+    private final String telegramNickname;
+    private final String password;
+
+    public RosterRow(int lineNumber, String firstName, String lastName, String email, String username,
+                     String country, String telegramNickname, String password) {
+        this.lineNumber = lineNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.username = username;
+        this.country = country;
+        this.telegramNickname = telegramNickname;
+        this.password = password;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public String getTelegramNickname() {
+        return telegramNickname;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+}
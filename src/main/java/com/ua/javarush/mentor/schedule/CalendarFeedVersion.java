@@ -0,0 +1,25 @@
+package com.ua.javarush.mentor.schedule;
+
+import java.time.Instant;
+
+/**
+ * Version of a calendar feed, known before the feed is rendered so polls of an unchanged feed end with 304.
+ */
+public class CalendarFeedVersion {
+
+    private final String eTag;
+    private final Instant lastModified;
+
+    public CalendarFeedVersion(String eTag, Instant lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+}
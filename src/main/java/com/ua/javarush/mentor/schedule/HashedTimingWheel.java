@@ -0,0 +1,101 @@
+package com.ua.javarush.mentor.schedule;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel: tasks are put into one of {@code wheelSize} buckets by their deadline tick,
+ * with the number of full turns left. Scheduling is O(1) from any thread, and each tick only looks
+ * at one bucket, so any number of pending tasks costs one clock, not one timer per task.
+ * <p>
+ * Tasks fire on the first tick at or after their deadline, late by at most one tick. Tasks with a
+ * deadline in the past fire on the next {@link #advance(Instant)}.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<Queue<Entry<T>>> buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, Instant start) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size have to be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = start.toEpochMilli();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    public void schedule(T task, Instant deadline) {
+        pending.add(new Entry<>(task, deadline.toEpochMilli()));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Moves the wheel to {@code now} and returns the tasks that are due, in deadline tick order.
+     */
+    public synchronized List<T> advance(Instant now) {
+        transferPending();
+        long targetTick = Math.floorDiv(now.toEpochMilli() - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= targetTick) {
+            Iterator<Entry<T>> iterator = buckets.get(bucketIndex(currentTick)).iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.remainingRounds <= 0) {
+                    iterator.remove();
+                    expired.add(entry.task);
+                } else {
+                    entry.remainingRounds--;
+                }
+            }
+            currentTick++;
+        }
+        size.addAndGet(-expired.size());
+        return expired;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long deadlineTick = Math.max(ceilDiv(entry.deadlineMillis - startMillis, tickMillis), currentTick);
+            entry.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get(bucketIndex(deadlineTick)).add(entry);
+        }
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.size());
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static class Entry<T> {
+        private final T task;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ua.javarush.mentor.schedule;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Reminder of one lecture at one offset. The start of the lecture is part of the reminder, so a
+ * moved lecture gets a new reminder and the one scheduled for the old start is dropped when it fires.
+ */
+public class LectureReminder {
+
+    private final Long timetableId;
+    private final int offsetMinutes;
+    private final Instant startDateTime;
+
+    public LectureReminder(Long timetableId, int offsetMinutes, Instant startDateTime) {
+        this.timetableId = timetableId;
+        this.offsetMinutes = offsetMinutes;
+        this.startDateTime = startDateTime;
+    }
+
+    public Long getTimetableId() {
+        return timetableId;
+    }
+
+    public int getOffsetMinutes() {
+        return offsetMinutes;
+    }
+
+    public Instant getStartDateTime() {
+        return startDateTime;
+    }
+
+    public Instant getFireDateTime() {
+        return startDateTime.minus(offsetMinutes, ChronoUnit.MINUTES);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LectureReminder that = (LectureReminder) o;
+        return offsetMinutes == that.offsetMinutes
+                && Objects.equals(timetableId, that.timetableId)
+                && Objects.equals(startDateTime, that.startDateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timetableId, offsetMinutes, startDateTime);
+    }
+
+    @Override
+    public String toString() {
+        return "LectureReminder{timetableId=" + timetableId + ", offsetMinutes=" + offsetMinutes
+                + ", startDateTime=" + startDateTime + '}';
+    }
+}
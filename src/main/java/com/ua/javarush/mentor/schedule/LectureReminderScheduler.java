@@ -0,0 +1,121 @@
+package com.ua.javarush.mentor.schedule;
+
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import com.ua.javarush.mentor.persist.model.TimeTable;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.services.ReminderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fires lecture reminders at {@code reminder.offsetsMinutes} before the start of every lecture.
+ * <p>
+ * Only the next {@code reminder.windowMinutes} are held in memory, in a timing wheel, and the window is
+ * loaded again from the timetable every {@code reminder.reloadDelayMs}, so nothing is lost on restart:
+ * a restarted node loads its window again, including reminders up to {@code reminder.graceMinutes} late.
+ * Every node schedules every reminder, {@link ReminderService} makes sure only one of them sends it.
+ */
+@Slf4j
+@Component
+public class LectureReminderScheduler {
+
+    private final TimeTableRepository timeTableRepository;
+    private final ReminderService reminderService;
+    private final TaskExecutor reminderExecutor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final HashedTimingWheel<LectureReminder> wheel;
+    private final Set<LectureReminder> scheduled = ConcurrentHashMap.newKeySet();
+    private final int[] offsetsMinutes;
+    private final long windowMinutes;
+    private final long graceMinutes;
+
+    public LectureReminderScheduler(TimeTableRepository timeTableRepository, ReminderService reminderService,
+                                    @Qualifier(ExecutorConfig.REMINDER_EXECUTOR) TaskExecutor reminderExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${reminder.offsetsMinutes}") int[] offsetsMinutes,
+                                    @Value("${reminder.windowMinutes}") long windowMinutes,
+                                    @Value("${reminder.graceMinutes}") long graceMinutes,
+                                    @Value("${reminder.tickMs}") long tickMillis,
+                                    @Value("${reminder.wheelSize}") int wheelSize) {
+        this.timeTableRepository = timeTableRepository;
+        this.reminderService = reminderService;
+        this.reminderExecutor = reminderExecutor;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, Instant.now());
+        this.offsetsMinutes = Arrays.stream(offsetsMinutes).distinct().toArray();
+        this.windowMinutes = windowMinutes;
+        this.graceMinutes = graceMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Each offset is one range scan of the start_datetime index. Reminders already in the wheel or
+     * fired are skipped, a moved lecture is scheduled again for its new start.
+     */
+    @Scheduled(fixedDelayString = "${reminder.reloadDelayMs}", initialDelayString = "${reminder.reloadDelayMs}")
+    public synchronized void reload() {
+        Instant now = Instant.now();
+        Instant from = now.minus(graceMinutes, ChronoUnit.MINUTES);
+        Instant to = now.plus(windowMinutes, ChronoUnit.MINUTES);
+        List<LectureReminder> reminders = readOnlyTransactionTemplate.execute(status -> {
+            List<LectureReminder> window = new ArrayList<>();
+            for (int offset : offsetsMinutes) {
+                Instant fromStart = from.plus(offset, ChronoUnit.MINUTES);
+                Instant toStart = to.plus(offset, ChronoUnit.MINUTES);
+                for (TimeTable lecture : timeTableRepository.findAllStartingBetween(fromStart, toStart)) {
+                    window.add(new LectureReminder(lecture.getId(), offset, lecture.getStartDateTime()));
+                }
+            }
+            return window;
+        });
+        scheduled.removeIf(reminder -> reminder.getFireDateTime().isBefore(from));
+        int added = 0;
+        for (LectureReminder reminder : reminders) {
+            if (scheduled.add(reminder)) {
+                wheel.schedule(reminder, reminder.getFireDateTime());
+                added++;
+            }
+        }
+        log.info("Reminder window loaded until {}: {} reminders added, {} pending", to, added, wheel.size());
+    }
+
+    @Scheduled(fixedRateString = "${reminder.tickMs}")
+    public void tick() {
+        for (LectureReminder reminder : wheel.advance(Instant.now())) {
+            reminderExecutor.execute(() -> fire(reminder));
+        }
+    }
+
+    /**
+     * A failed reminder is forgotten, so the next reload schedules it again while it is within the grace period.
+     */
+    private void fire(LectureReminder reminder) {
+        try {
+            reminderService.send(reminder);
+        } catch (RuntimeException e) {
+            log.error("Reminder {} was not sent", reminder, e);
+            scheduled.remove(reminder);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ua.javarush.mentor.schedule;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Mentor who can be asked to substitute, with the weekend days of the mentor's group.
+ */
+public class MentorAvailability {
+
+    private final Long userId;
+    private final String firstName;
+    private final String lastName;
+    private final String telegramNickname;
+    private final Set<DayOfWeek> weekendDays;
+
+    MentorAvailability(Long userId, String firstName, String lastName, String telegramNickname, Set<DayOfWeek> weekendDays) {
+        this.userId = userId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.telegramNickname = telegramNickname;
+        this.weekendDays = weekendDays.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(weekendDays));
+    }
+
+    public boolean isWorkingDay(DayOfWeek day) {
+        return !weekendDays.contains(day);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getTelegramNickname() {
+        return telegramNickname;
+    }
+
+    public Set<DayOfWeek> getWeekendDays() {
+        return weekendDays;
+    }
+}
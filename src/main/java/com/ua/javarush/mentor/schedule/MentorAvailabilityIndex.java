@@ -0,0 +1,113 @@
+package com.ua.javarush.mentor.schedule;
+
+import com.ua.javarush.mentor.cache.DataChangedEvent;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.MentorWeekendRow;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory roster of mentors with their weekend days, the other half of the availability index next to
+ * {@link MentorScheduleIndex}. Rebuilt the same way, when the mentors data version moved.
+ */
+@Slf4j
+@Component
+public class MentorAvailabilityIndex {
+
+    private final UserRepository userRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private volatile Snapshot snapshot = new Snapshot(-1, Collections.emptyList());
+
+    public MentorAvailabilityIndex(UserRepository userRepository, DataVersionRepository dataVersionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public List<MentorAvailability> getMentors() {
+        return snapshot.mentors;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.concerns(DataSets.MENTORS)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.index.refreshDelayMs:5000}")
+    public synchronized void refresh() {
+        long currentVersion = currentVersion();
+        if (currentVersion == snapshot.version) {
+            return;
+        }
+        Snapshot rebuilt = snapshotTransactionTemplate.execute(status -> build());
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            log.info("Mentor availability index rebuilt at version {}: {} mentors", rebuilt.version, rebuilt.mentors.size());
+        }
+    }
+
+    private Snapshot build() {
+        long version = currentVersion();
+        List<MentorAvailability> mentors = new ArrayList<>();
+        MentorWeekendRow mentor = null;
+        Set<DayOfWeek> weekendDays = EnumSet.noneOf(DayOfWeek.class);
+        for (MentorWeekendRow row : userRepository.findAllMentorWeekends()) {
+            if (mentor != null && !mentor.getUserId().equals(row.getUserId())) {
+                mentors.add(toAvailability(mentor, weekendDays));
+                weekendDays = EnumSet.noneOf(DayOfWeek.class);
+            }
+            mentor = row;
+            if (row.getNumberOfDay() != null) {
+                weekendDays.add(DayOfWeek.of(row.getNumberOfDay()));
+            }
+        }
+        if (mentor != null) {
+            mentors.add(toAvailability(mentor, weekendDays));
+        }
+        return new Snapshot(version, Collections.unmodifiableList(mentors));
+    }
+
+    private MentorAvailability toAvailability(MentorWeekendRow row, Set<DayOfWeek> weekendDays) {
+        return new MentorAvailability(row.getUserId(), row.getFirstName(), row.getLastName(), row.getTelegramNickname(), weekendDays);
+    }
+
+    private long currentVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.MENTORS).orElse(0L);
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final List<MentorAvailability> mentors;
+
+        private Snapshot(long version, List<MentorAvailability> mentors) {
+            this.version = version;
+            this.mentors = mentors;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ua.javarush.mentor.schedule;
+
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Bookings of one mentor ordered by start. Bookings of a mentor never overlap (the database rejects
+ * it), so a slot is free exactly when the last booking starting before its end finishes before its
+ * start: one lookup in the tree, O(log n). Not modified after it is built.
+ */
+public class MentorSchedule {
+
+    private final NavigableMap<Instant, MentorBooking> bookings = new TreeMap<>();
+
+    MentorSchedule(List<MentorBooking> bookings) {
+        bookings.forEach(booking -> this.bookings.put(booking.getStartDateTime(), booking));
+    }
+
+    public boolean isFree(Instant start, Instant finish) {
+        return findOverlap(start, finish).isEmpty();
+    }
+
+    public Optional<MentorBooking> findOverlap(Instant start, Instant finish) {
+        Map.Entry<Instant, MentorBooking> last = bookings.lowerEntry(finish);
+        if (last == null || !last.getValue().getFinishDateTime().isAfter(start)) {
+            return Optional.empty();
+        }
+        return Optional.of(last.getValue());
+    }
+
+    /**
+     * All bookings overlapping the slot, O(log n + k).
+     */
+    public List<MentorBooking> findOverlaps(Instant start, Instant finish) {
+        if (isFree(start, finish)) {
+            return Collections.emptyList();
+        }
+        Instant from = Optional.ofNullable(bookings.floorKey(start)).orElse(start);
+        List<MentorBooking> overlaps = new ArrayList<>();
+        for (MentorBooking booking : bookings.subMap(from, true, finish, false).values()) {
+            if (booking.getFinishDateTime().isAfter(start)) {
+                overlaps.add(booking);
+            }
+        }
+        return overlaps;
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ua.javarush.mentor.schedule;
+
+import com.ua.javarush.mentor.cache.DataChangedEvent;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.MentorBookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory schedules of all mentors. The bookings table carries a data version bumped by every
+ * committed change, the index polls it and rebuilds itself when it moved. Lookups read an immutable
+ * snapshot and never wait for a rebuild.
+ */
+@Slf4j
+@Component
+public class MentorScheduleIndex {
+
+    private static final MentorSchedule EMPTY_SCHEDULE = new MentorSchedule(Collections.emptyList());
+
+    private final MentorBookingRepository mentorBookingRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private volatile Snapshot snapshot = new Snapshot(-1, Collections.emptyMap());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MentorScheduleIndex(MentorBookingRepository mentorBookingRepository, DataVersionRepository dataVersionRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.mentorBookingRepository = mentorBookingRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public MentorSchedule getSchedule(Long userId) {
+        return snapshot.schedules.getOrDefault(userId, EMPTY_SCHEDULE);
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * The version and the bookings are read in one repeatable-read transaction, so a change
+     * committed during the rebuild moves the version past the snapshot and is picked up next time.
+     */
+    @EventListener
+    public void onDataChanged(DataChangedEvent event) {
+        if (event.concerns(DataSets.MENTOR_BOOKINGS)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.index.refreshDelayMs:5000}")
+    public synchronized void refresh() {
+        long currentVersion = currentVersion();
+        if (currentVersion == snapshot.version) {
+            return;
+        }
+        Snapshot rebuilt = snapshotTransactionTemplate.execute(status -> build());
+        if (rebuilt != null) {
+            snapshot = rebuilt;
+            log.info("Mentor schedule index rebuilt at version {}: {} mentors", rebuilt.version, rebuilt.schedules.size());
+        }
+    }
+
+    private Snapshot build() {
+        long version = currentVersion();
+        Map<Long, MentorSchedule> schedules = new HashMap<>();
+        try (Stream<MentorBooking> bookings = mentorBookingRepository.streamAllOrdered()) {
+            Long userId = null;
+            List<MentorBooking> userBookings = new ArrayList<>();
+            for (MentorBooking booking : (Iterable<MentorBooking>) bookings::iterator) {
+                entityManager.detach(booking);
+                if (userId != null && !userId.equals(booking.getUserId())) {
+                    schedules.put(userId, new MentorSchedule(userBookings));
+                    userBookings = new ArrayList<>();
+                }
+                userId = booking.getUserId();
+                userBookings.add(booking);
+            }
+            if (userId != null) {
+                schedules.put(userId, new MentorSchedule(userBookings));
+            }
+        }
+        return new Snapshot(version, schedules);
+    }
+
+    private long currentVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.MENTOR_BOOKINGS).orElse(0L);
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Map<Long, MentorSchedule> schedules;
+
+        private Snapshot(long version, Map<Long, MentorSchedule> schedules) {
+            this.version = version;
+            this.schedules = schedules;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ua.javarush.mentor.services.impl.UserServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.BeanIds;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -32,6 +33,9 @@ public class SecurityConfig {
     private static final String API_REGISTER_ENDPOINTS = "/api/user/create";
     public static final String API_EMAIL_ENDPOINTS = "/api/user/email/confirm/**/**";
     public static final String API_RESET_PASSWORD_ENDPOINTS = "/api/user/password/reset/**";
+    private static final String[] API_FEED_ENDPOINTS = {
+            "/api/feed/*/group/*",
+            "/api/feed/*/mentor/*"};
     public static final String WEB_SIGN_UP_ENDPOINTS = "/sign-up";
     public static final String WEB_EMPTY = "/";
     public static final String WEB_LOGIN = "/login";
@@ -86,6 +90,7 @@ public class SecurityConfig {
                     .antMatchers(API_AUTH_ENDPOINTS, API_REGISTER_ENDPOINTS, API_EMAIL_ENDPOINTS, API_RESET_PASSWORD_ENDPOINTS).permitAll()
                     .antMatchers(WEB_SIGN_UP_ENDPOINTS, WEB_LOGIN).permitAll()
                     .antMatchers(OPEN_API_ENDPOINTS).permitAll()
+                    .antMatchers(HttpMethod.GET, API_FEED_ENDPOINTS).permitAll()
                     .anyRequest().authenticated()
                 .and()
                     .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
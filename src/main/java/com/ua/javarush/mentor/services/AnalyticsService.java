@@ -0,0 +1,18 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.GroupAttendanceDTO;
+import com.ua.javarush.mentor.dto.MentorAttendanceDTO;
+import com.ua.javarush.mentor.dto.ModuleRetentionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    List<GroupAttendanceDTO> getGroupAttendance(Long groupId, LocalDate from, LocalDate to) throws GeneralException;
+
+    List<MentorAttendanceDTO> getMentorAttendance(Long userId, LocalDate from, LocalDate to) throws GeneralException;
+
+    List<ModuleRetentionDTO> getModuleRetention();
+}
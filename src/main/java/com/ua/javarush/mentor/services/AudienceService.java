@@ -0,0 +1,13 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.audience.UserIdBitmap;
+import com.ua.javarush.mentor.command.AudienceCommand;
+import com.ua.javarush.mentor.dto.AudienceDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+public interface AudienceService {
+
+    UserIdBitmap select(AudienceCommand audienceCommand);
+
+    AudienceDTO selectAudience(AudienceCommand audienceCommand, int limit) throws GeneralException;
+}
@@ -0,0 +1,20 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.FeedTokenDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.schedule.CalendarFeedVersion;
+
+import java.security.Principal;
+
+public interface CalendarFeedService {
+
+    FeedTokenDTO rotateToken(Principal principal) throws GeneralException;
+
+    CalendarFeedVersion getGroupFeedVersion(String token, Long groupId) throws GeneralException;
+
+    byte[] getGroupFeed(Long groupId, CalendarFeedVersion version) throws GeneralException;
+
+    CalendarFeedVersion getMentorFeedVersion(String token, Long userId) throws GeneralException;
+
+    byte[] getMentorFeed(Long userId, CalendarFeedVersion version) throws GeneralException;
+}
@@ -0,0 +1,21 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.CatalogModuleDTO;
+import com.ua.javarush.mentor.dto.LectureDTO;
+import com.ua.javarush.mentor.dto.LectureSearchResultDTO;
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.util.List;
+
+public interface CatalogService {
+
+    long getCatalogVersion();
+
+    List<CatalogModuleDTO> getModules(String locale) throws GeneralException;
+
+    LectureDTO getLecture(String locale, Long lectureId) throws GeneralException;
+
+    PageDTO<LectureSearchResultDTO> searchLectures(String query, AppLocale appLocale, int page, int size) throws GeneralException;
+}
@@ -12,6 +12,8 @@ public interface EmailService {
 
     void sendResetPasswordEmail(SendEmailCommand sendEmailCommand) throws GeneralException;
 
+    void sendLectureReminderEmail(SendEmailCommand sendEmailCommand) throws GeneralException;
+
     SendEmailCommand buildEmail(String email, AppLocale appLocale, EmailTemplates emailTemplates, Map<String, String> newParams);
 }
 
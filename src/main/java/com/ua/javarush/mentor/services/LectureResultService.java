@@ -0,0 +1,12 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.command.LectureResultCommand;
+import com.ua.javarush.mentor.dto.LectureResultSubmissionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.util.List;
+
+public interface LectureResultService {
+
+    LectureResultSubmissionDTO submit(Long timetableId, List<LectureResultCommand> lectureResultCommands) throws GeneralException;
+}
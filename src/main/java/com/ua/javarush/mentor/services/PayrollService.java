@@ -0,0 +1,23 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.dto.PayrollCalculationDTO;
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.dto.PayrollRollupMismatchDTO;
+import com.ua.javarush.mentor.dto.WorkloadDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.util.List;
+
+public interface PayrollService {
+
+    PayrollCalculationDTO calculate(int year, int month) throws GeneralException;
+
+    PageDTO<PayrollDTO> getPayroll(int year, int month, int page, int size, String sortBy) throws GeneralException;
+
+    PageDTO<WorkloadDTO> getWorkload(int year, int month, int page, int size, String sortBy) throws GeneralException;
+
+    int rebuildRollup();
+
+    List<PayrollRollupMismatchDTO> checkRollup();
+}
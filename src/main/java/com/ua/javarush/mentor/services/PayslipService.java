@@ -0,0 +1,17 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+
+public interface PayslipService {
+
+    StreamingResponseBody export(int year, int month, AppLocale appLocale) throws GeneralException;
+
+    ReportJobDTO submit(int year, int month, AppLocale appLocale, Principal principal) throws GeneralException;
+
+    String generateFileName(int year, int month) throws GeneralException;
+}
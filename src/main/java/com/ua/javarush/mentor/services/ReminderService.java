@@ -0,0 +1,8 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.schedule.LectureReminder;
+
+public interface ReminderService {
+
+    void send(LectureReminder reminder);
+}
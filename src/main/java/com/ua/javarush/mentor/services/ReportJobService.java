@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.reports.ReportJob;
+import com.ua.javarush.mentor.reports.ReportTask;
+
+import java.security.Principal;
+import java.util.UUID;
+
+public interface ReportJobService {
+
+    ReportJobDTO submit(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale, Principal principal) throws GeneralException;
+
+    /**
+     * Runs a report that is not built from a report definition, with the same caching,
+     * de-duplication and download as the others. The cache key has to identify the report
+     * apart from the data version. The job has to be created for the submitting user.
+     */
+    ReportJobDTO submit(ReportJob job, String cacheKey, long dataVersion, ReportTask task) throws GeneralException;
+
+    /**
+     * Jobs of other users are reported as not found.
+     */
+    ReportJobDTO getJob(UUID jobId, Principal principal) throws GeneralException;
+
+    ReportJob fetchCompletedJob(UUID jobId, Principal principal) throws GeneralException;
+}
@@ -0,0 +1,31 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+
+public interface ReportService {
+
+    StreamingResponseBody export(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException;
+
+    void export(OutputStream outputStream, ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException;
+
+    /**
+     * Writes the report and returns the version of its data set the rows were read at,
+     * the version and the rows come from the same database snapshot.
+     */
+    long exportSnapshot(OutputStream outputStream, ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException;
+
+    /**
+     * Fails with a bad request when the report cannot be exported in the format.
+     */
+    void checkSupported(ReportType reportType, ReportFormat reportFormat) throws GeneralException;
+
+    long currentDataVersion(ReportType reportType);
+
+    String generateFileName(ReportType reportType, ReportFormat reportFormat);
+}
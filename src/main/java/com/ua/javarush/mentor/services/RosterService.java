@@ -0,0 +1,12 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.RosterImportDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.io.InputStream;
+
+public interface RosterService {
+
+    RosterImportDTO importRoster(InputStream roster, Long groupId, Long roleId, AppLocale appLocale) throws GeneralException;
+}
@@ -0,0 +1,18 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.dto.MentorSlotDTO;
+import com.ua.javarush.mentor.dto.ScheduleConflictDTO;
+import com.ua.javarush.mentor.dto.SubstituteMentorDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ScheduleService {
+
+    MentorSlotDTO checkSlot(Long userId, Instant start, Instant finish) throws GeneralException;
+
+    List<ScheduleConflictDTO> validateGroupTimetable(Long groupId, Long userId);
+
+    List<SubstituteMentorDTO> findSubstitutes(Long timetableId) throws GeneralException;
+}
@@ -0,0 +1,34 @@
+package com.ua.javarush.mentor.services;
+
+import com.ua.javarush.mentor.command.HolidayCommand;
+import com.ua.javarush.mentor.command.TimetableGenerationCommand;
+import com.ua.javarush.mentor.dto.CalendarLectureDTO;
+import com.ua.javarush.mentor.dto.HolidayDTO;
+import com.ua.javarush.mentor.dto.TimetableGenerationDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TimetableService {
+
+    List<TimetableGenerationDTO> generate(TimetableGenerationCommand timetableGenerationCommand) throws GeneralException;
+
+    List<HolidayDTO> getHolidays(int year);
+
+    HolidayDTO saveHoliday(HolidayCommand holidayCommand) throws GeneralException;
+
+    void removeHoliday(LocalDate day) throws GeneralException;
+
+    List<CalendarLectureDTO> getGroupCalendar(Long groupId, LocalDate from, LocalDate to) throws GeneralException;
+
+    List<CalendarLectureDTO> getMentorCalendar(Long userId, LocalDate from, LocalDate to) throws GeneralException;
+
+    List<CalendarLectureDTO> getCalendar(LocalDate from, LocalDate to) throws GeneralException;
+
+    long getGroupScheduleVersion(Long groupId);
+
+    long getMentorScheduleVersion();
+
+    long getScheduleVersion();
+}
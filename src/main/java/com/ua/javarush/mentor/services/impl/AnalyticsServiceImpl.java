@@ -0,0 +1,93 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.GroupAttendanceDTO;
+import com.ua.javarush.mentor.dto.MentorAttendanceDTO;
+import com.ua.javarush.mentor.dto.ModuleRetentionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.AnalyticsMapper;
+import com.ua.javarush.mentor.persist.repository.GroupAttendanceWeekRepository;
+import com.ua.javarush.mentor.persist.repository.MentorAttendanceWeekRepository;
+import com.ua.javarush.mentor.persist.repository.ModuleRetentionRepository;
+import com.ua.javarush.mentor.persist.routing.ReplicaRead;
+import com.ua.javarush.mentor.services.AnalyticsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+/**
+ * Reads the attendance and retention rollups only. The database recomputes the rows of the groups, mentors
+ * and weeks a transaction changed when it commits, in {@code flush_attendance_rollup}.
+ */
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    public static final String ANALYTICS_RANGE_NOT_VALID = "Analytics range has to start before its end and span at most %d weeks";
+
+    private final GroupAttendanceWeekRepository groupAttendanceWeekRepository;
+    private final MentorAttendanceWeekRepository mentorAttendanceWeekRepository;
+    private final ModuleRetentionRepository moduleRetentionRepository;
+    private final AnalyticsMapper analyticsMapper;
+    private final int maxRangeWeeks;
+
+    public AnalyticsServiceImpl(GroupAttendanceWeekRepository groupAttendanceWeekRepository,
+                                MentorAttendanceWeekRepository mentorAttendanceWeekRepository,
+                                ModuleRetentionRepository moduleRetentionRepository, AnalyticsMapper analyticsMapper,
+                                @Value("${analytics.maxRangeWeeks}") int maxRangeWeeks) {
+        this.groupAttendanceWeekRepository = groupAttendanceWeekRepository;
+        this.mentorAttendanceWeekRepository = mentorAttendanceWeekRepository;
+        this.moduleRetentionRepository = moduleRetentionRepository;
+        this.analyticsMapper = analyticsMapper;
+        this.maxRangeWeeks = maxRangeWeeks;
+    }
+
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<GroupAttendanceDTO> getGroupAttendance(Long groupId, LocalDate from, LocalDate to) throws GeneralException {
+        LocalDate firstWeek = validateRange(from, to);
+        return groupAttendanceWeekRepository.findAllByGroupIdAndWeekBetweenOrderByWeek(groupId, firstWeek, to).stream()
+                .map(analyticsMapper::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<MentorAttendanceDTO> getMentorAttendance(Long userId, LocalDate from, LocalDate to) throws GeneralException {
+        LocalDate firstWeek = validateRange(from, to);
+        return mentorAttendanceWeekRepository.findAllByUserIdAndWeekBetweenOrderByWeek(userId, firstWeek, to).stream()
+                .map(analyticsMapper::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<ModuleRetentionDTO> getModuleRetention() {
+        return moduleRetentionRepository.findAllByOrderByModuleNumberAscModuleIdAsc().stream()
+                .map(analyticsMapper::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Weeks are keyed by their Monday, so the range starts at the Monday of the week of its first day.
+     */
+    private LocalDate validateRange(LocalDate from, LocalDate to) throws GeneralException {
+        if (from == null || to == null || from.isAfter(to) || ChronoUnit.WEEKS.between(from, to) >= maxRangeWeeks) {
+            throw createGeneralException(String.format(ANALYTICS_RANGE_NOT_VALID, maxRangeWeeks),
+                    HttpStatus.BAD_REQUEST, UiError.ANALYTICS_RANGE_NOT_VALID);
+        }
+        return from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,85 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.audience.AudienceIndex;
+import com.ua.javarush.mentor.audience.UserIdBitmap;
+import com.ua.javarush.mentor.command.AudienceCommand;
+import com.ua.javarush.mentor.dto.AudienceDTO;
+import com.ua.javarush.mentor.enums.AudienceAttribute;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.services.AudienceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+/**
+ * Audiences are answered from the audience index only, no query reaches the database.
+ */
+@Service
+public class AudienceServiceImpl implements AudienceService {
+
+    public static final String AUDIENCE_LIMIT_NOT_VALID = "Audience limit has to be from 0 to %d";
+
+    private final AudienceIndex audienceIndex;
+    private final int maxLimit;
+
+    public AudienceServiceImpl(AudienceIndex audienceIndex, @Value("${audience.maxLimit}") int maxLimit) {
+        this.audienceIndex = audienceIndex;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Intersection of the conditions given: groups, active groups, roles and every attribute, without the
+     * excluded users.
+     */
+    @Override
+    public UserIdBitmap select(AudienceCommand audienceCommand) {
+        UserIdBitmap audience = isEmpty(audienceCommand.getGroupIds())
+                ? audienceIndex.getAll()
+                : audienceIndex.getGroupMembers(audienceCommand.getGroupIds());
+        if (audienceCommand.isActiveGroupsOnly()) {
+            audience = audience.and(audienceIndex.getActiveGroupMembers(Instant.now()));
+        }
+        if (!isEmpty(audienceCommand.getRoles())) {
+            audience = audience.and(audienceIndex.getRoleMembers(audienceCommand.getRoles()));
+        }
+        if (audienceCommand.getAttributes() != null) {
+            for (AudienceAttribute attribute : audienceCommand.getAttributes()) {
+                audience = audience.and(audienceIndex.getWithAttribute(attribute));
+            }
+        }
+        if (!isEmpty(audienceCommand.getExcludedUserIds())) {
+            audience = audience.andNot(UserIdBitmap.of(audienceCommand.getExcludedUserIds().stream()
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .filter(id -> id >= 0)
+                    .toArray()));
+        }
+        return audience;
+    }
+
+    @Override
+    public AudienceDTO selectAudience(AudienceCommand audienceCommand, int limit) throws GeneralException {
+        if (limit < 0 || limit > maxLimit) {
+            throw createGeneralException(String.format(AUDIENCE_LIMIT_NOT_VALID, maxLimit), HttpStatus.BAD_REQUEST, UiError.AUDIENCE_NOT_VALID);
+        }
+        long version = audienceIndex.getVersion();
+        UserIdBitmap audience = select(audienceCommand);
+        return AudienceDTO.builder()
+                .version(version)
+                .count(audience.cardinality())
+                .userIds(audience.stream().limit(limit).boxed().collect(Collectors.toList()))
+                .build();
+    }
+
+    private boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
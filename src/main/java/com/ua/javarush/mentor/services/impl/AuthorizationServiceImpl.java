@@ -10,7 +10,6 @@ import com.ua.javarush.mentor.mapper.UserMapper;
 import com.ua.javarush.mentor.persist.model.RefreshSessions;
 import com.ua.javarush.mentor.persist.model.User;
 import com.ua.javarush.mentor.persist.repository.RefreshSessionsRepository;
-import com.ua.javarush.mentor.persist.repository.UserRepository;
 import com.ua.javarush.mentor.security.jwt.JwtTokenProvider;
 import com.ua.javarush.mentor.services.AuthorizationService;
 import com.ua.javarush.mentor.services.UserService;
@@ -21,7 +20,6 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Set;
 import java.util.UUID;
 
 import static com.google.common.hash.Hashing.sha256;
@@ -40,15 +38,13 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     private static final int COUNT_SESSIONS = 3;
     private static final int TIME_SESSION_SECONDS = 10 * 24 * 60 * 60 ;
     private final UserService userService;
-    private final UserRepository userRepository;
     private final RefreshSessionsRepository refreshSessionsRepository;
     private final JwtTokenProvider jwtTokenGenerator;
 
     private final UserMapper userMapper;
 
-    public AuthorizationServiceImpl(UserService userService, UserRepository userRepository, RefreshSessionsRepository refreshSessionsRepository, JwtTokenProvider jwtTokenGenerator, UserMapper userMapper) {
+    public AuthorizationServiceImpl(UserService userService, RefreshSessionsRepository refreshSessionsRepository, JwtTokenProvider jwtTokenGenerator, UserMapper userMapper) {
         this.userService = userService;
-        this.userRepository = userRepository;
         this.refreshSessionsRepository = refreshSessionsRepository;
         this.jwtTokenGenerator = jwtTokenGenerator;
         this.userMapper = userMapper;
@@ -74,7 +70,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         User user = refreshSession.getUser();
         String fingerPrint = generateFingerPrint(refreshToken, user.getId());
 
-        removeUserRefreshSessions(user, refreshSession);
+        refreshSessionsRepository.deleteById(refreshSession.getId());
         validateRefreshToken(refreshSession, fingerPrint);
 
         return generateRefreshSession(user, deviceType);
@@ -106,18 +102,11 @@ public class AuthorizationServiceImpl implements AuthorizationService {
         }
     }
 
-    private void removeUserRefreshSessions(User user, RefreshSessions refreshSession) {
-        user.getRefreshSessions().removeIf(session -> session.getId().equals(refreshSession.getId()));
-        refreshSessionsRepository.deleteById(refreshSession.getId());
-    }
-
     private UserDTO generateRefreshSession(User user, DeviceType deviceType) {
         Instant expiredDate = now().plusSeconds(TIME_SESSION_SECONDS);
         UUID refreshToken = generateRefreshToken();
         String fingerPrint = generateFingerPrint(valueOf(refreshToken), user.getId());
-        RefreshSessions refreshSessions = generateRefreshSession(user, refreshToken, fingerPrint, expiredDate, deviceType);
-        user.getRefreshSessions().add(refreshSessions);
-        userRepository.save(user);
+        refreshSessionsRepository.save(generateRefreshSession(user, refreshToken, fingerPrint, expiredDate, deviceType));
         return mapUserToUserDto(user, expiredDate);
     }
 
@@ -142,14 +131,12 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     }
 
     private void checkCountSessions(User user) {
-        Set<RefreshSessions> refreshSessions = user.getRefreshSessions();
-        if (isCountSessionsValid(refreshSessions.size())) {
-            user.getRefreshSessions().removeAll(refreshSessions);
+        if (isCountSessionsValid(refreshSessionsRepository.countByUserId(user.getId()))) {
             refreshSessionsRepository.deleteByUserId(user.getId());
         }
     }
 
-    private boolean isCountSessionsValid(int currentCountSessions) {
+    private boolean isCountSessionsValid(long currentCountSessions) {
         return currentCountSessions >= COUNT_SESSIONS;
     }
 
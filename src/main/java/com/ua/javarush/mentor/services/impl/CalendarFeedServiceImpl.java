@@ -0,0 +1,227 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.FeedTokenDTO;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.persist.model.DataVersion;
+import com.ua.javarush.mentor.persist.model.Group;
+import com.ua.javarush.mentor.persist.model.GroupScheduleVersion;
+import com.ua.javarush.mentor.persist.model.User;
+import com.ua.javarush.mentor.persist.repository.CalendarFeedRow;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.GroupRepository;
+import com.ua.javarush.mentor.persist.repository.GroupScheduleVersionRepository;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import com.ua.javarush.mentor.reports.IcsCalendarWriter;
+import com.ua.javarush.mentor.schedule.CalendarFeedVersion;
+import com.ua.javarush.mentor.services.CalendarFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.Principal;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    public static final String FEED_TOKEN_NOT_VALID = "Feed token is not valid";
+    public static final String NOT_FOUND_USER_ERROR = "Didn't found user: ";
+    public static final String NOT_FOUND_GROUP_ERROR = "Didn't found group: ";
+    public static final String CALENDAR_FEED_ERROR = "Calendar feed was not rendered: ";
+    private static final int TOKEN_BYTES = 32;
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final TimeTableRepository timeTableRepository;
+    private final GroupScheduleVersionRepository groupScheduleVersionRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final IcsCalendarWriter icsCalendarWriter;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Duration pastPeriod;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<String, CachedFeed> feeds = new ConcurrentHashMap<>();
+
+    public CalendarFeedServiceImpl(UserRepository userRepository, GroupRepository groupRepository,
+                                   TimeTableRepository timeTableRepository,
+                                   GroupScheduleVersionRepository groupScheduleVersionRepository,
+                                   DataVersionRepository dataVersionRepository, IcsCalendarWriter icsCalendarWriter,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${feed.pastDays}") int pastDays) {
+        this.userRepository = userRepository;
+        this.groupRepository = groupRepository;
+        this.timeTableRepository = timeTableRepository;
+        this.groupScheduleVersionRepository = groupScheduleVersionRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.icsCalendarWriter = icsCalendarWriter;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.pastPeriod = Duration.ofDays(pastDays);
+    }
+
+    /**
+     * Calendar apps cannot send bearer tokens, so feed URLs carry a token of their own. A new token
+     * replaces the old one, which is how a leaked feed URL is revoked.
+     */
+    @Override
+    @Transactional(rollbackFor = GeneralException.class)
+    public FeedTokenDTO rotateToken(Principal principal) throws GeneralException {
+        User user = userRepository.findByUsername(principal.getName())
+                .orElseThrow(() -> createGeneralException(NOT_FOUND_USER_ERROR + principal.getName(), HttpStatus.NOT_FOUND, UiError.USER_NOT_FOUND));
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        user.setFeedToken(Base64.getUrlEncoder().withoutPadding().encodeToString(random));
+        userRepository.save(user);
+        log.info("Calendar feed token rotated for user {}", user.getId());
+        return FeedTokenDTO.builder()
+                .userId(user.getId())
+                .token(user.getFeedToken())
+                .build();
+    }
+
+    /**
+     * Answers polls with index lookups only: the token, the membership and the versions. A group feed is
+     * only served to members of the group and mentors booked on its lectures. The feed itself is rendered
+     * only when the client does not have this version yet.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CalendarFeedVersion getGroupFeedVersion(String token, Long groupId) throws GeneralException {
+        Long userId = checkToken(token);
+        if (!groupRepository.existsById(groupId)) {
+            throw createGeneralException(NOT_FOUND_GROUP_ERROR + groupId, HttpStatus.NOT_FOUND, UiError.GROUP_NOT_FOUND);
+        }
+        if (!userRepository.isMemberOrBookedInGroup(userId, groupId)) {
+            throw createGeneralException(FEED_TOKEN_NOT_VALID, HttpStatus.NOT_FOUND, UiError.FEED_TOKEN_NOT_VALID);
+        }
+        GroupScheduleVersion schedule = groupScheduleVersionRepository.findById(groupId).orElse(null);
+        return version("group-" + groupId,
+                schedule == null ? 0L : schedule.getVersion(),
+                schedule == null ? Instant.EPOCH : schedule.getUpdatedAt(),
+                DataSets.CATALOG);
+    }
+
+    @Override
+    public byte[] getGroupFeed(Long groupId, CalendarFeedVersion version) throws GeneralException {
+        return cached("group-" + groupId, version, () -> {
+            String name = groupRepository.findById(groupId).map(Group::getNickname).orElse(String.valueOf(groupId));
+            return render(name, version, timeTableRepository.streamFeedByGroupId(Math.toIntExact(groupId), feedStart()));
+        });
+    }
+
+    /**
+     * A mentor feed is only served to the token of that mentor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CalendarFeedVersion getMentorFeedVersion(String token, Long userId) throws GeneralException {
+        if (!userId.equals(checkToken(token))) {
+            throw createGeneralException(FEED_TOKEN_NOT_VALID, HttpStatus.NOT_FOUND, UiError.FEED_TOKEN_NOT_VALID);
+        }
+        DataVersion bookings = dataVersionRepository.findById(DataSets.MENTOR_BOOKINGS).orElse(null);
+        return version("mentor-" + userId,
+                bookings == null ? 0L : bookings.getVersion(),
+                bookings == null ? Instant.EPOCH : bookings.getUpdatedAt(),
+                DataSets.CATALOG, DataSets.USERS);
+    }
+
+    @Override
+    public byte[] getMentorFeed(Long userId, CalendarFeedVersion version) throws GeneralException {
+        return cached("mentor-" + userId, version, () -> {
+            String name = userRepository.findById(userId)
+                    .map(user -> user.getFirstName() + " " + user.getLastName())
+                    .orElse(String.valueOf(userId));
+            Instant from = feedStart();
+            return render(name, version, timeTableRepository.streamFeedByMentor(userId, from));
+        });
+    }
+
+    private Long checkToken(String token) throws GeneralException {
+        return userRepository.findEnabledIdByFeedToken(token)
+                .orElseThrow(() -> createGeneralException(FEED_TOKEN_NOT_VALID, HttpStatus.NOT_FOUND, UiError.FEED_TOKEN_NOT_VALID));
+    }
+
+    /**
+     * Lecture names come with every feed from the catalog and a mentor feed is named after the mentor,
+     * so the versions of those data sets are part of the feed version.
+     */
+    private CalendarFeedVersion version(String key, long scheduleVersion, Instant scheduleUpdatedAt,
+                                        String... dataSets) {
+        StringBuilder eTag = new StringBuilder("\"").append(key).append('-').append(scheduleVersion);
+        Instant lastModified = scheduleUpdatedAt;
+        for (String dataSet : dataSets) {
+            DataVersion data = dataVersionRepository.findById(dataSet).orElse(null);
+            eTag.append('-').append(data == null ? 0L : data.getVersion());
+            if (data != null && data.getUpdatedAt().isAfter(lastModified)) {
+                lastModified = data.getUpdatedAt();
+            }
+        }
+        return new CalendarFeedVersion(eTag.append('"').toString(), lastModified.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * One rendered feed per group or mentor is kept, replaced when a poll brings a newer version.
+     */
+    private byte[] cached(String key, CalendarFeedVersion version, FeedRenderer renderer) throws GeneralException {
+        CachedFeed cached = feeds.get(key);
+        if (cached != null && cached.eTag.equals(version.getETag())) {
+            return cached.body;
+        }
+        try {
+            CachedFeed rendered = new CachedFeed(version.getETag(), readOnlyTransactionTemplate.execute(status -> renderer.render()));
+            feeds.put(key, rendered);
+            return rendered.body;
+        } catch (UncheckedIOException e) {
+            log.error("Calendar feed {} was not rendered", key, e);
+            throw createGeneralException(CALENDAR_FEED_ERROR + key, HttpStatus.INTERNAL_SERVER_ERROR, UiError.CALENDAR_FEED_ERROR);
+        }
+    }
+
+    private byte[] render(String name, CalendarFeedVersion version, Stream<CalendarFeedRow> rows) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (rows) {
+            icsCalendarWriter.write(outputStream, name, version.getLastModified(), rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private Instant feedStart() {
+        return Instant.now().minus(pastPeriod);
+    }
+
+    @FunctionalInterface
+    private interface FeedRenderer {
+        byte[] render();
+    }
+
+    private static class CachedFeed {
+        private final String eTag;
+        private final byte[] body;
+
+        private CachedFeed(String eTag, byte[] body) {
+            this.eTag = eTag;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.catalog.LectureCatalog;
+import com.ua.javarush.mentor.catalog.LocaleCatalog;
+import com.ua.javarush.mentor.dto.CatalogModuleDTO;
+import com.ua.javarush.mentor.dto.LectureDTO;
+import com.ua.javarush.mentor.dto.LectureSearchResultDTO;
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.LectureMapper;
+import com.ua.javarush.mentor.persist.repository.LectureRepository;
+import com.ua.javarush.mentor.persist.routing.ReplicaRead;
+import com.ua.javarush.mentor.services.CatalogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+/**
+ * Catalog browsing is answered from the in-memory catalog only, search goes to the text search indexes.
+ */
+@Slf4j
+@Service
+public class CatalogServiceImpl implements CatalogService {
+
+    public static final String NOT_FOUND_CATALOG_LOCALE_ERROR = "Didn't found catalog of locale: ";
+    public static final String NOT_FOUND_LECTURE_ERROR = "Didn't found lecture: ";
+    public static final String SEARCH_QUERY_NOT_VALID = "Search query has to be not blank and not longer than ";
+
+    private final LectureCatalog lectureCatalog;
+    private final LectureRepository lectureRepository;
+    private final LectureMapper lectureMapper;
+    private final int maxQueryLength;
+
+    public CatalogServiceImpl(LectureCatalog lectureCatalog, LectureRepository lectureRepository, LectureMapper lectureMapper,
+                              @Value("${search.maxQueryLength}") int maxQueryLength) {
+        this.lectureCatalog = lectureCatalog;
+        this.lectureRepository = lectureRepository;
+        this.lectureMapper = lectureMapper;
+        this.maxQueryLength = maxQueryLength;
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return lectureCatalog.getVersion();
+    }
+
+    @Override
+    public List<CatalogModuleDTO> getModules(String locale) throws GeneralException {
+        return getLocaleCatalog(locale).getModules();
+    }
+
+    @Override
+    public LectureDTO getLecture(String locale, Long lectureId) throws GeneralException {
+        return getLocaleCatalog(locale).getLecture(lectureId)
+                .orElseThrow(() -> createGeneralException(NOT_FOUND_LECTURE_ERROR + lectureId, HttpStatus.NOT_FOUND, UiError.LECTURE_NOT_FOUND));
+    }
+
+    /**
+     * Searches lectures of the locale, or of all locales when it is not given, most relevant first. The query
+     * is in web search syntax: quoted phrases, "or" and "-" to exclude a word.
+     */
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public PageDTO<LectureSearchResultDTO> searchLectures(String query, AppLocale appLocale, int page, int size) throws GeneralException {
+        if (query == null || query.isBlank() || query.length() > maxQueryLength) {
+            throw createGeneralException(SEARCH_QUERY_NOT_VALID + maxQueryLength, HttpStatus.BAD_REQUEST, UiError.SEARCH_QUERY_NOT_VALID);
+        }
+        List<AppLocale> locales = appLocale != null ? List.of(appLocale) : Arrays.asList(AppLocale.values());
+        String configs = locales.stream()
+                .map(AppLocale::getSearchConfig)
+                .distinct()
+                .collect(Collectors.joining(","));
+        List<String> localeNames = locales.stream()
+                .map(AppLocale::name)
+                .collect(Collectors.toList());
+
+        Pageable paging = PageRequest.of(page, size);
+        Page<LectureSearchResultDTO> result = lectureRepository.search(query.trim(), configs, localeNames, paging)
+                .map(lectureMapper::mapToSearchDto);
+        log.debug("Lecture search in {} found {} lectures", localeNames, result.getTotalElements());
+        return new PageDTO<>(result, paging);
+    }
+
+    private LocaleCatalog getLocaleCatalog(String locale) throws GeneralException {
+        return lectureCatalog.getLocale(locale)
+                .orElseThrow(() -> createGeneralException(NOT_FOUND_CATALOG_LOCALE_ERROR + locale, HttpStatus.NOT_FOUND, UiError.CATALOG_LOCALE_NOT_FOUND));
+    }
+}
@@ -0,0 +1,211 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.command.LectureResultCommand;
+import com.ua.javarush.mentor.dto.LectureResultSubmissionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.persist.model.LectureResult;
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import com.ua.javarush.mentor.persist.model.TimeTable;
+import com.ua.javarush.mentor.persist.repository.LectureResultRepository;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.schedule.MentorAvailability;
+import com.ua.javarush.mentor.schedule.MentorAvailabilityIndex;
+import com.ua.javarush.mentor.schedule.MentorScheduleIndex;
+import com.ua.javarush.mentor.services.LectureResultService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.EXCLUSION_VIOLATION;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.isViolation;
+
+@Slf4j
+@Service
+public class LectureResultServiceImpl implements LectureResultService {
+
+    public static final String NOT_FOUND_TIMETABLE_ERROR = "Didn't found timetable: ";
+    public static final String LECTURE_RESULTS_COUNT_NOT_VALID = "Lecture results have to contain from 1 to %d results";
+    public static final String LECTURE_RESULT_NOT_VALID = "Lecture result of mentor %d not valid: %s";
+    public static final String MENTOR_BOOKING_CONFLICT = "Mentor %d has lecture %d at the same time";
+    public static final String MENTOR_BOOKING_CONFLICT_ERROR = "Lecture results overlap with other lectures of their mentors";
+    private static final String MENTOR_BOOKING_NO_OVERLAP = "mentor_booking_no_overlap";
+
+    private final TimeTableRepository timeTableRepository;
+    private final LectureResultRepository lectureResultRepository;
+    private final MentorAvailabilityIndex mentorAvailabilityIndex;
+    private final MentorScheduleIndex mentorScheduleIndex;
+    private final int maxBatchSize;
+
+    public LectureResultServiceImpl(TimeTableRepository timeTableRepository, LectureResultRepository lectureResultRepository,
+                                    MentorAvailabilityIndex mentorAvailabilityIndex, MentorScheduleIndex mentorScheduleIndex,
+                                    @Value("${lectureResult.maxBatchSize}") int maxBatchSize) {
+        this.timeTableRepository = timeTableRepository;
+        this.lectureResultRepository = lectureResultRepository;
+        this.mentorAvailabilityIndex = mentorAvailabilityIndex;
+        this.mentorScheduleIndex = mentorScheduleIndex;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Replaces the results of the lecture with the submitted ones, one result per mentor. The submission is
+     * validated in memory against the timetable and the mentor indexes, then compared with the stored results:
+     * unchanged results are not written, changed ones are updated, new ones inserted with ids taken in one
+     * round trip, and results of mentors missing from the submission removed, each kind in one JDBC batch.
+     * Submitting the same results again writes nothing.
+     */
+    @Override
+    @Transactional(rollbackFor = GeneralException.class)
+    public LectureResultSubmissionDTO submit(Long timetableId, List<LectureResultCommand> lectureResultCommands) throws GeneralException {
+        TimeTable lecture = timeTableRepository.findByIdForUpdate(timetableId)
+                .orElseThrow(() -> createGeneralException(NOT_FOUND_TIMETABLE_ERROR + timetableId, HttpStatus.NOT_FOUND, UiError.TIMETABLE_NOT_FOUND));
+        validate(lecture, lectureResultCommands);
+
+        Map<Integer, LectureResult> stored = new HashMap<>();
+        for (LectureResult result : lectureResultRepository.findAllByTimetableId(timetableId)) {
+            stored.put(result.getUserId(), result);
+        }
+        List<LectureResult> inserted = new ArrayList<>();
+        List<LectureResult> updated = new ArrayList<>();
+        int unchanged = 0;
+        for (LectureResultCommand command : lectureResultCommands) {
+            LectureResult existing = stored.remove(Math.toIntExact(command.getUserId()));
+            LectureResult result = toLectureResult(lecture, command, existing != null ? existing.getId() : null);
+            if (existing == null) {
+                inserted.add(result);
+            } else if (sameValues(existing, result)) {
+                unchanged++;
+            } else {
+                updated.add(result);
+            }
+        }
+        List<Long> deleted = stored.values().stream()
+                .map(LectureResult::getId)
+                .collect(Collectors.toList());
+
+        Iterator<Long> ids = lectureResultRepository.allocateIds(inserted.size()).iterator();
+        inserted.forEach(result -> result.setId(ids.next()));
+        try {
+            lectureResultRepository.deleteAll(timetableId, deleted);
+            lectureResultRepository.updateAll(updated);
+            lectureResultRepository.insertAll(timetableId, inserted);
+        } catch (DataIntegrityViolationException e) {
+            if (!isViolation(e, EXCLUSION_VIOLATION, MENTOR_BOOKING_NO_OVERLAP)) {
+                throw e;
+            }
+            log.warn("Lecture results of timetable {} rejected by the database: {}", timetableId, e.getMostSpecificCause().getMessage());
+            throw createGeneralException(MENTOR_BOOKING_CONFLICT_ERROR, HttpStatus.CONFLICT, UiError.MENTOR_BOOKING_CONFLICT);
+        }
+        log.info("Lecture results of timetable {} submitted: {} inserted, {} updated, {} unchanged, {} deleted",
+                timetableId, inserted.size(), updated.size(), unchanged, deleted.size());
+        return LectureResultSubmissionDTO.builder()
+                .timetableId(timetableId)
+                .inserted(inserted.size())
+                .updated(updated.size())
+                .unchanged(unchanged)
+                .deleted(deleted.size())
+                .build();
+    }
+
+    /**
+     * Mentors and their bookings come from the in-memory indexes, the exclusion constraint of mentor bookings
+     * still guards against overlaps the indexes have not seen yet.
+     */
+    private void validate(TimeTable lecture, List<LectureResultCommand> commands) throws GeneralException {
+        if (commands == null || commands.isEmpty() || commands.size() > maxBatchSize) {
+            throw createGeneralException(String.format(LECTURE_RESULTS_COUNT_NOT_VALID, maxBatchSize),
+                    HttpStatus.BAD_REQUEST, UiError.LECTURE_RESULTS_NOT_VALID);
+        }
+        Instant start = lecture.getStartDateTime();
+        Instant finish = lecture.getFinishDateTime();
+        long lectureHours = (Duration.between(start, finish).toMinutes() + 59) / 60;
+        Set<Long> mentorIds = mentorAvailabilityIndex.getMentors().stream()
+                .map(MentorAvailability::getUserId)
+                .collect(Collectors.toSet());
+
+        Set<Long> userIds = new HashSet<>();
+        int leading = 0;
+        for (LectureResultCommand command : commands) {
+            Optional<String> error = validateValues(command, lectureHours);
+            if (error.isEmpty() && !userIds.add(command.getUserId())) {
+                error = Optional.of("mentor is submitted twice");
+            }
+            if (error.isEmpty() && !mentorIds.contains(command.getUserId())) {
+                error = Optional.of("user is not an active mentor");
+            }
+            if (error.isPresent()) {
+                throw createGeneralException(String.format(LECTURE_RESULT_NOT_VALID, command.getUserId(), error.get()),
+                        HttpStatus.BAD_REQUEST, UiError.LECTURE_RESULTS_NOT_VALID);
+            }
+            if (Boolean.TRUE.equals(command.getIsUserLeading()) && ++leading > 1) {
+                throw createGeneralException(String.format(LECTURE_RESULT_NOT_VALID, command.getUserId(), "lecture has one leading mentor"),
+                        HttpStatus.BAD_REQUEST, UiError.LECTURE_RESULTS_NOT_VALID);
+            }
+            Optional<MentorBooking> overlap = mentorScheduleIndex.getSchedule(command.getUserId()).findOverlaps(start, finish).stream()
+                    .filter(booking -> !booking.getTimetableId().equals(lecture.getId()))
+                    .findFirst();
+            if (overlap.isPresent()) {
+                throw createGeneralException(String.format(MENTOR_BOOKING_CONFLICT, command.getUserId(), overlap.get().getTimetableId()),
+                        HttpStatus.CONFLICT, UiError.MENTOR_BOOKING_CONFLICT);
+            }
+        }
+    }
+
+    private Optional<String> validateValues(LectureResultCommand command, long lectureHours) {
+        if (command.getUserId() == null) {
+            return Optional.of("mentor is not set");
+        }
+        if (command.getHoursInLecture() == null || command.getHoursInLecture() < 0 || command.getHoursInLecture() > lectureHours) {
+            return Optional.of("hours have to be from 0 to " + lectureHours);
+        }
+        if (command.getIsUserLeading() == null || command.getWasAtLecture() == null) {
+            return Optional.of("leading and presence have to be set");
+        }
+        int otherUserHours = Objects.requireNonNullElse(command.getOtherUserHoursOnLecture(), 0);
+        if (otherUserHours < 0 || otherUserHours > command.getHoursInLecture()) {
+            return Optional.of("hours of the other mentor have to be from 0 to the hours of the mentor");
+        }
+        return Optional.empty();
+    }
+
+    private LectureResult toLectureResult(TimeTable lecture, LectureResultCommand command, Long id) {
+        LectureResult result = new LectureResult();
+        result.setId(id);
+        result.setLectureId(lecture.getLectureId());
+        result.setUserId(Math.toIntExact(command.getUserId()));
+        result.setHoursInLecture(command.getHoursInLecture());
+        result.setIsUserLeading(command.getIsUserLeading());
+        result.setWasAtLecture(command.getWasAtLecture());
+        result.setOtherUserWasOnLecture(Objects.requireNonNullElse(command.getOtherUserWasOnLecture(), false));
+        result.setOtherUserHoursOnLecture(Objects.requireNonNullElse(command.getOtherUserHoursOnLecture(), 0));
+        result.setComment(command.getComment());
+        return result;
+    }
+
+    private boolean sameValues(LectureResult stored, LectureResult submitted) {
+        return Objects.equals(stored.getLectureId(), submitted.getLectureId())
+                && Objects.equals(stored.getHoursInLecture(), submitted.getHoursInLecture())
+                && Objects.equals(stored.getIsUserLeading(), submitted.getIsUserLeading())
+                && Objects.equals(stored.getWasAtLecture(), submitted.getWasAtLecture())
+                && Objects.equals(stored.getOtherUserWasOnLecture(), submitted.getOtherUserWasOnLecture())
+                && Objects.equals(stored.getOtherUserHoursOnLecture(), submitted.getOtherUserHoursOnLecture())
+                && Objects.equals(stored.getComment(), submitted.getComment());
+    }
+}
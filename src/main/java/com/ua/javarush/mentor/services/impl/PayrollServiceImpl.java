@@ -0,0 +1,133 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.PageDTO;
+import com.ua.javarush.mentor.dto.PayrollCalculationDTO;
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.dto.PayrollRollupMismatchDTO;
+import com.ua.javarush.mentor.dto.WorkloadDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.PayrollMapper;
+import com.ua.javarush.mentor.persist.repository.PayrollRepository;
+import com.ua.javarush.mentor.persist.repository.PayrollRollupRepository;
+import com.ua.javarush.mentor.persist.routing.ReplicaRead;
+import com.ua.javarush.mentor.services.PayrollService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class PayrollServiceImpl implements PayrollService {
+
+    public static final String PAYROLL_PERIOD_NOT_VALID = "Payroll period is not valid: ";
+    private static final int PAYROLL_LOCK_NAMESPACE = 30;
+
+    public static final String LOG_ROLLUP_REBUILT = "Payroll rollup rebuilt: {} rows";
+    public static final String LOG_ROLLUP_MISMATCHES = "Payroll rollup differs from lecture results in {} rows";
+
+    private final PayrollRepository payrollRepository;
+    private final PayrollRollupRepository payrollRollupRepository;
+    private final PayrollMapper payrollMapper;
+
+    public PayrollServiceImpl(PayrollRepository payrollRepository, PayrollRollupRepository payrollRollupRepository,
+                              PayrollMapper payrollMapper) {
+        this.payrollRepository = payrollRepository;
+        this.payrollRollupRepository = payrollRollupRepository;
+        this.payrollMapper = payrollMapper;
+    }
+
+    /**
+     * Recalculates the whole month in one statement from the rollup: the previous result of the period
+     * is replaced, so calling it again for the same month gives the same rows. Concurrent calculations
+     * of one period wait for each other on an advisory lock.
+     */
+    @Override
+    @Transactional(rollbackFor = GeneralException.class)
+    public PayrollCalculationDTO calculate(int year, int month) throws GeneralException {
+        YearMonth yearMonth = toYearMonth(year, month);
+        LocalDate period = yearMonth.atDay(1);
+        Instant calculatedAt = Instant.now();
+
+        payrollRepository.lockPeriod(PAYROLL_LOCK_NAMESPACE, year * 100 + month);
+        payrollRepository.deleteAllByPeriod(period);
+        int mentorCount = payrollRepository.calculate(period, calculatedAt);
+        log.info("Payroll for {} calculated for {} mentors", yearMonth, mentorCount);
+
+        return PayrollCalculationDTO.builder()
+                .period(period)
+                .mentorCount(mentorCount)
+                .calculatedAt(calculatedAt)
+                .build();
+    }
+
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true, rollbackFor = GeneralException.class)
+    public PageDTO<PayrollDTO> getPayroll(int year, int month, int page, int size, String sortBy) throws GeneralException {
+        LocalDate period = toYearMonth(year, month).atDay(1);
+        Pageable paging = PageRequest.of(page, size, Sort.by(sortBy));
+        Page<PayrollDTO> payroll = payrollRepository.findAllByPeriod(period, paging)
+                .map(payrollMapper::mapToDto);
+        return new PageDTO<>(payroll, paging);
+    }
+
+    @Override
+    @ReplicaRead
+    @Transactional(readOnly = true, rollbackFor = GeneralException.class)
+    public PageDTO<WorkloadDTO> getWorkload(int year, int month, int page, int size, String sortBy) throws GeneralException {
+        LocalDate period = toYearMonth(year, month).atDay(1);
+        Pageable paging = PageRequest.of(page, size, Sort.by(sortBy));
+        Page<WorkloadDTO> workload = payrollRollupRepository.findAllByMonth(period, paging)
+                .map(payrollMapper::mapToWorkloadDto);
+        return new PageDTO<>(workload, paging);
+    }
+
+    /**
+     * Rebuilds the rollup from lecture results, for backfills and after a failed consistency check.
+     * Writes to lecture results wait until the rebuild is committed.
+     */
+    @Override
+    @Transactional
+    public int rebuildRollup() {
+        payrollRollupRepository.lockSources();
+        payrollRollupRepository.deleteAllRows();
+        int rows = payrollRollupRepository.insertFromSource();
+        log.info(LOG_ROLLUP_REBUILT, rows);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PayrollRollupMismatchDTO> checkRollup() {
+        List<PayrollRollupMismatchDTO> mismatches = payrollRollupRepository.findMismatches().stream()
+                .map(payrollMapper::mapToMismatchDto)
+                .collect(Collectors.toList());
+        if (!mismatches.isEmpty()) {
+            log.warn(LOG_ROLLUP_MISMATCHES, mismatches.size());
+        }
+        return mismatches;
+    }
+
+    private YearMonth toYearMonth(int year, int month) throws GeneralException {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw createGeneralException(PAYROLL_PERIOD_NOT_VALID + year + "-" + month, HttpStatus.BAD_REQUEST, UiError.PAYROLL_PERIOD_NOT_VALID);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.PayrollMapper;
+import com.ua.javarush.mentor.persist.model.Payroll;
+import com.ua.javarush.mentor.persist.repository.PayrollRepository;
+import com.ua.javarush.mentor.reports.PayslipRenderer;
+import com.ua.javarush.mentor.reports.ReportJob;
+import com.ua.javarush.mentor.services.PayslipService;
+import com.ua.javarush.mentor.services.ReportJobService;
+import com.ua.javarush.mentor.services.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class PayslipServiceImpl implements PayslipService {
+
+    public static final String PAYROLL_PERIOD_NOT_VALID = "Payroll period is not valid: ";
+    public static final String PAYROLL_NOT_CALCULATED = "Payroll is not calculated for ";
+    private static final String PAYSLIP_FILE_PREFIX = "payslip_";
+    private static final String FILE_NAME_SEPARATOR = "_";
+    private static final String UNSAFE_FILE_NAME_CHARACTERS = "[^\\p{L}\\p{N}]+";
+
+    private final PayrollRepository payrollRepository;
+    private final PayrollMapper payrollMapper;
+    private final PayslipRenderer payslipRenderer;
+    private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final TaskExecutor payslipExecutor;
+    private final int maxInFlight;
+    private final TransactionTemplate snapshotTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PayslipServiceImpl(PayrollRepository payrollRepository, PayrollMapper payrollMapper, PayslipRenderer payslipRenderer,
+                              ReportService reportService, ReportJobService reportJobService,
+                              @Qualifier(ExecutorConfig.PAYSLIP_EXECUTOR) TaskExecutor payslipExecutor,
+                              @Value("${payslip.maxInFlight:16}") int maxInFlight,
+                              PlatformTransactionManager transactionManager) {
+        this.payrollRepository = payrollRepository;
+        this.payrollMapper = payrollMapper;
+        this.payslipRenderer = payslipRenderer;
+        this.reportService = reportService;
+        this.reportJobService = reportJobService;
+        this.payslipExecutor = payslipExecutor;
+        this.maxInFlight = maxInFlight;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public StreamingResponseBody export(int year, int month, AppLocale appLocale) throws GeneralException {
+        YearMonth yearMonth = fetchCalculatedPeriod(year, month);
+        return outputStream -> writeArchive(outputStream, yearMonth, appLocale, null);
+    }
+
+    /**
+     * The archive is cached like the other reports: the payroll data version changes with every
+     * recalculation, so a cached archive is served until the payroll of any month is recalculated.
+     */
+    @Override
+    public ReportJobDTO submit(int year, int month, AppLocale appLocale, Principal principal) throws GeneralException {
+        YearMonth yearMonth = fetchCalculatedPeriod(year, month);
+        long dataVersion = reportService.currentDataVersion(ReportType.PAYSLIPS);
+        ReportJob job = new ReportJob(ReportType.PAYSLIPS, ReportFormat.ZIP, appLocale, generateFileName(yearMonth),
+                principal.getName());
+        String cacheKey = ReportType.PAYSLIPS.getFilePrefix() + yearMonth + FILE_NAME_SEPARATOR + appLocale.name().toLowerCase();
+        return reportJobService.submit(job, cacheKey, dataVersion,
+                (outputStream, reportJob) -> writeArchive(outputStream, yearMonth, appLocale, reportJob));
+    }
+
+    @Override
+    public String generateFileName(int year, int month) throws GeneralException {
+        return generateFileName(toYearMonth(year, month));
+    }
+
+    /**
+     * Payroll rows are read through a forward-only cursor on this thread and rendered on the payslip pool.
+     * At most {@code maxInFlight} payslips are submitted at a time: once the window is full, the next
+     * finished payslip is written to the archive before another one is submitted, so memory does not
+     * grow with the number of mentors. Entries are zipped in the order they finish.
+     * Returns the payroll data version seen by the transaction.
+     */
+    private long writeArchive(OutputStream outputStream, YearMonth yearMonth, AppLocale appLocale, ReportJob job) throws IOException {
+        LocalDate period = yearMonth.atDay(1);
+        try {
+            Long version = snapshotTransactionTemplate.execute(status -> {
+                long dataVersion = reportService.currentDataVersion(ReportType.PAYSLIPS);
+                if (job != null) {
+                    job.setTotal((int) payrollRepository.countByPeriod(period));
+                }
+                try (Stream<Payroll> payroll = payrollRepository.streamAllByPeriod(period)) {
+                    writePayslips(outputStream, payroll.map(this::mapToDtoAndDetach), appLocale, job);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return dataVersion;
+            });
+            log.info("Payslips for {} written", yearMonth);
+            return version == null ? 0L : version;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writePayslips(OutputStream outputStream, Stream<PayrollDTO> payroll, AppLocale appLocale, ReportJob job) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        zipOutputStream.setLevel(Deflater.BEST_SPEED);
+        CompletionService<Payslip> completionService = new ExecutorCompletionService<>(payslipExecutor);
+        Set<Future<Payslip>> inFlight = new HashSet<>();
+        try {
+            Iterator<PayrollDTO> iterator = payroll.iterator();
+            while (iterator.hasNext()) {
+                PayrollDTO payrollDTO = iterator.next();
+                inFlight.add(completionService.submit(() -> new Payslip(entryName(payrollDTO), payslipRenderer.render(payrollDTO, appLocale))));
+                if (inFlight.size() == maxInFlight) {
+                    writeNextFinished(zipOutputStream, completionService, inFlight, job);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeNextFinished(zipOutputStream, completionService, inFlight, job);
+            }
+            zipOutputStream.finish();
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void writeNextFinished(ZipOutputStream zipOutputStream, CompletionService<Payslip> completionService,
+                                   Set<Future<Payslip>> inFlight, ReportJob job) throws IOException {
+        Payslip payslip;
+        try {
+            Future<Payslip> future = completionService.take();
+            inFlight.remove(future);
+            payslip = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Payslip generation was interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Cannot render payslip", e.getCause());
+        }
+        zipOutputStream.putNextEntry(new ZipEntry(payslip.name));
+        zipOutputStream.write(payslip.content);
+        zipOutputStream.closeEntry();
+        if (job != null) {
+            job.getProcessed().incrementAndGet();
+        }
+    }
+
+    private YearMonth fetchCalculatedPeriod(int year, int month) throws GeneralException {
+        YearMonth yearMonth = toYearMonth(year, month);
+        if (payrollRepository.countByPeriod(yearMonth.atDay(1)) == 0) {
+            throw createGeneralException(PAYROLL_NOT_CALCULATED + yearMonth, HttpStatus.NOT_FOUND, UiError.PAYROLL_NOT_CALCULATED);
+        }
+        return yearMonth;
+    }
+
+    private YearMonth toYearMonth(int year, int month) throws GeneralException {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw createGeneralException(PAYROLL_PERIOD_NOT_VALID + year + "-" + month, HttpStatus.BAD_REQUEST, UiError.PAYROLL_PERIOD_NOT_VALID);
+        }
+    }
+
+    private String generateFileName(YearMonth yearMonth) {
+        return ReportType.PAYSLIPS.getFilePrefix() + yearMonth + ReportFormat.ZIP.getExtension();
+    }
+
+    private String entryName(PayrollDTO payroll) {
+        String name = String.join(FILE_NAME_SEPARATOR, String.valueOf(payroll.getUserId()),
+                Objects.toString(payroll.getLastName(), ""), Objects.toString(payroll.getFirstName(), ""), payroll.getSalaryCurrency());
+        return PAYSLIP_FILE_PREFIX + name.replaceAll(UNSAFE_FILE_NAME_CHARACTERS, FILE_NAME_SEPARATOR) + ReportFormat.PDF.getExtension();
+    }
+
+    private PayrollDTO mapToDtoAndDetach(Payroll payroll) {
+        PayrollDTO payrollDTO = payrollMapper.mapToDto(payroll);
+        entityManager.detach(payroll.getUser());
+        entityManager.detach(payroll);
+        return payrollDTO;
+    }
+
+    private static class Payslip {
+        private final String name;
+        private final byte[] content;
+
+        private Payslip(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
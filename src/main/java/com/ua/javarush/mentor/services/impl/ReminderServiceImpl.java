@@ -0,0 +1,140 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.EmailTemplates;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.persist.repository.CalendarFeedRow;
+import com.ua.javarush.mentor.persist.repository.LectureReminderSentRepository;
+import com.ua.javarush.mentor.persist.repository.ReminderRecipientRow;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import com.ua.javarush.mentor.schedule.LectureReminder;
+import com.ua.javarush.mentor.services.EmailService;
+import com.ua.javarush.mentor.services.ReminderService;
+import com.ua.javarush.mentor.services.TelegramService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class ReminderServiceImpl implements ReminderService {
+
+    private static final DateTimeFormatter START_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private final TimeTableRepository timeTableRepository;
+    private final LectureReminderSentRepository lectureReminderSentRepository;
+    private final UserRepository userRepository;
+    private final TelegramService telegramService;
+    private final EmailService emailService;
+    private final MessageSource messageSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zoneId;
+    private final AppLocale appLocale;
+    private final long leaseSeconds;
+    private final String node = ManagementFactory.getRuntimeMXBean().getName();
+
+    public ReminderServiceImpl(TimeTableRepository timeTableRepository,
+                               LectureReminderSentRepository lectureReminderSentRepository,
+                               UserRepository userRepository, TelegramService telegramService, EmailService emailService,
+                               MessageSource messageSource, PlatformTransactionManager transactionManager,
+                               @Value("${timetable.zoneId}") String zoneId,
+                               @Value("${reminder.locale}") AppLocale appLocale,
+                               @Value("${reminder.leaseSeconds}") long leaseSeconds) {
+        this.timeTableRepository = timeTableRepository;
+        this.lectureReminderSentRepository = lectureReminderSentRepository;
+        this.userRepository = userRepository;
+        this.telegramService = telegramService;
+        this.emailService = emailService;
+        this.messageSource = messageSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zoneId = ZoneId.of(zoneId);
+        this.appLocale = appLocale;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * The claim is committed before the reminder is sent and the reminder is marked sent afterwards, so no
+     * transaction or row lock is held while Telegram and mail are called. Delivery is at least once: a node
+     * that dies or stalls past the lease leaves the claim to the next node firing the reminder within the
+     * grace period, which sends it again. A failed recipient is logged and does not undo the others.
+     */
+    @Override
+    public void send(LectureReminder reminder) {
+        CalendarFeedRow lecture = transactionTemplate.execute(status -> claim(reminder));
+        if (lecture == null) {
+            return;
+        }
+        try {
+            List<ReminderRecipientRow> recipients = userRepository.findReminderRecipients(
+                    reminder.getTimetableId(), lecture.getGroupId().longValue());
+            String start = START_FORMAT.format(lecture.getStartDateTime().atZone(zoneId));
+            String text = messageSource.getMessage("reminder.lecture.text", new Object[]{lecture.getLectureName(), start},
+                    appLocale.getLocaleObject());
+            for (ReminderRecipientRow recipient : recipients) {
+                sendTelegram(recipient, text, lecture);
+                sendEmail(recipient, text, lecture);
+            }
+            log.info("Reminder {} sent to {} users", reminder, recipients.size());
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> lectureReminderSentRepository.release(
+                    reminder.getTimetableId(), reminder.getOffsetMinutes(), reminder.getStartDateTime(), node));
+            throw e;
+        }
+        Integer marked = transactionTemplate.execute(status -> lectureReminderSentRepository.markSent(
+                reminder.getTimetableId(), reminder.getOffsetMinutes(), reminder.getStartDateTime(), node));
+        if (marked == null || marked == 0) {
+            log.warn("Reminder {} was sent after its lease ran out, another node may have sent it too", reminder);
+        }
+    }
+
+    private CalendarFeedRow claim(LectureReminder reminder) {
+        CalendarFeedRow lecture = timeTableRepository.findFeedRowById(reminder.getTimetableId()).orElse(null);
+        if (lecture == null || !lecture.getStartDateTime().equals(reminder.getStartDateTime())) {
+            log.info("Reminder {} dropped, the lecture was removed or moved", reminder);
+            return null;
+        }
+        if (lectureReminderSentRepository.claim(reminder.getTimetableId(), reminder.getOffsetMinutes(),
+                reminder.getStartDateTime(), leaseSeconds, node) == 0) {
+            log.debug("Reminder {} was claimed by another node", reminder);
+            return null;
+        }
+        return lecture;
+    }
+
+    private void sendTelegram(ReminderRecipientRow recipient, String text, CalendarFeedRow lecture) {
+        if (recipient.getTelegramId() == null) {
+            return;
+        }
+        String message = lecture.getLinkToLesson() == null ? text : text + "\n" + lecture.getLinkToLesson();
+        try {
+            telegramService.sendMessage(recipient.getTelegramId(), message);
+        } catch (GeneralException e) {
+            log.warn("Telegram reminder was not sent to user {}", recipient.getUserId());
+        }
+    }
+
+    private void sendEmail(ReminderRecipientRow recipient, String text, CalendarFeedRow lecture) {
+        if (recipient.getEmail() == null) {
+            return;
+        }
+        try {
+            emailService.sendLectureReminderEmail(emailService.buildEmail(recipient.getEmail(), appLocale, EmailTemplates.LECTURE_REMINDER,
+                    Map.of("firstName", Objects.toString(recipient.getFirstName(), ""),
+                            "reminderText", text,
+                            "linkToLesson", Objects.toString(lecture.getLinkToLesson(), ""))));
+        } catch (GeneralException e) {
+            log.warn("Email reminder was not sent to user {}", recipient.getUserId());
+        }
+    }
+}
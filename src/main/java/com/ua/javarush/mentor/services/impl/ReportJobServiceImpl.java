@@ -0,0 +1,223 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportJobStatus;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.reports.ReportJob;
+import com.ua.javarush.mentor.reports.ReportTask;
+import com.ua.javarush.mentor.services.ReportJobService;
+import com.ua.javarush.mentor.services.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    public static final String REPORT_JOB_NOT_FOUND = "Report job not found: ";
+    public static final String REPORT_JOB_NOT_READY = "Report job is not finished: ";
+    public static final String REPORT_QUEUE_FULL = "Too many reports are being generated, try again later";
+    public static final String CANNOT_CREATE_REPORT = "Cannot create report";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> inFlightJobs = new ConcurrentHashMap<>();
+    private final ReportService reportService;
+    private final TaskExecutor reportJobExecutor;
+    private final Path cacheDir;
+    private final Duration jobTtl;
+    private final Duration cacheTtl;
+
+    public ReportJobServiceImpl(ReportService reportService,
+                                @Qualifier(ExecutorConfig.REPORT_JOB_EXECUTOR) TaskExecutor reportJobExecutor,
+                                @Value("${report.cache.dir}") String cacheDir,
+                                @Value("${report.job.ttlMinutes:60}") long jobTtlMinutes,
+                                @Value("${report.cache.ttlHours:24}") long cacheTtlHours) {
+        this.reportService = reportService;
+        this.reportJobExecutor = reportJobExecutor;
+        this.cacheDir = Paths.get(cacheDir);
+        this.jobTtl = Duration.ofMinutes(jobTtlMinutes);
+        this.cacheTtl = Duration.ofHours(cacheTtlHours);
+        try {
+            Files.createDirectories(this.cacheDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create report cache directory " + cacheDir, e);
+        }
+    }
+
+    @Override
+    public ReportJobDTO submit(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale, Principal principal) throws GeneralException {
+        reportService.checkSupported(reportType, reportFormat);
+        long dataVersion = reportService.currentDataVersion(reportType);
+        ReportJob job = new ReportJob(reportType, reportFormat, appLocale, reportService.generateFileName(reportType, reportFormat),
+                principal.getName());
+        return submit(job, cacheKey(reportType, reportFormat, appLocale), dataVersion,
+                (outputStream, reportJob) -> reportService.exportSnapshot(outputStream, reportType, reportFormat, appLocale));
+    }
+
+    /**
+     * Returns a finished job straight away when a report of the current data version is cached,
+     * joins a job already rendering the same report as one more owner, otherwise queues a new one.
+     */
+    @Override
+    public ReportJobDTO submit(ReportJob job, String cacheKey, long dataVersion, ReportTask task) throws GeneralException {
+        Path cachedFile = cacheDir.resolve(cacheFileName(cacheKey, job.getReportFormat(), dataVersion));
+        if (Files.isRegularFile(cachedFile)) {
+            job.complete(cachedFile);
+            jobs.put(job.getId(), job);
+            log.info("Report {} served from cache {}", job.getReportType(), cachedFile);
+            return mapToDto(job);
+        }
+
+        ReportJob inFlightJob = inFlightJobs.putIfAbsent(cacheKey, job);
+        if (inFlightJob != null) {
+            inFlightJob.addOwner(job.getOwner());
+            return mapToDto(inFlightJob);
+        }
+        jobs.put(job.getId(), job);
+        try {
+            reportJobExecutor.execute(() -> render(job, cacheKey, task));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            inFlightJobs.remove(cacheKey, job);
+            throw createGeneralException(REPORT_QUEUE_FULL, HttpStatus.SERVICE_UNAVAILABLE, UiError.REPORT_QUEUE_FULL);
+        }
+        return mapToDto(job);
+    }
+
+    @Override
+    public ReportJobDTO getJob(UUID jobId, Principal principal) throws GeneralException {
+        return mapToDto(fetchJob(jobId, principal));
+    }
+
+    @Override
+    public ReportJob fetchCompletedJob(UUID jobId, Principal principal) throws GeneralException {
+        ReportJob job = fetchJob(jobId, principal);
+        if (job.getStatus() != ReportJobStatus.DONE) {
+            throw createGeneralException(REPORT_JOB_NOT_READY + jobId, HttpStatus.CONFLICT, UiError.REPORT_JOB_NOT_READY);
+        }
+        if (!Files.isRegularFile(job.getFile())) {
+            throw createGeneralException(REPORT_JOB_NOT_FOUND + jobId, HttpStatus.NOT_FOUND, UiError.REPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${report.job.cleanupDelayMs:600000}")
+    public void cleanUp() {
+        Instant jobsExpiredBefore = Instant.now().minus(jobTtl);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(jobsExpiredBefore));
+
+        Instant filesExpiredBefore = Instant.now().minus(cacheTtl);
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            files.filter(file -> isModifiedBefore(file, filesExpiredBefore)).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Cannot clean report cache {}", cacheDir, e);
+        }
+    }
+
+    /**
+     * The file is written under a temporary name and moved into place only when complete, so a
+     * concurrent reader never sees a half-written report. The final name carries the data version
+     * the rows were actually read at, which may be newer than the one seen on submit.
+     */
+    private void render(ReportJob job, String cacheKey, ReportTask task) {
+        job.start();
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(cacheDir, cacheKey, TEMP_FILE_SUFFIX);
+            long dataVersion;
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                dataVersion = task.write(outputStream, job);
+            }
+            Path target = cacheDir.resolve(cacheFileName(cacheKey, job.getReportFormat(), dataVersion));
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(target);
+            log.info("Report job {} finished: {}", job.getId(), target);
+        } catch (Exception e) {
+            log.error("Report job {} failed", job.getId(), e);
+            job.fail(CANNOT_CREATE_REPORT);
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        } finally {
+            inFlightJobs.remove(cacheKey, job);
+        }
+    }
+
+    private String cacheKey(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) {
+        return reportType.name().toLowerCase() + "_" + reportFormat.name().toLowerCase() + "_" + appLocale.name().toLowerCase();
+    }
+
+    private String cacheFileName(String cacheKey, ReportFormat reportFormat, long dataVersion) {
+        return cacheKey + "_v" + dataVersion + reportFormat.getExtension();
+    }
+
+    private ReportJob fetchJob(UUID jobId, Principal principal) throws GeneralException {
+        ReportJob job = jobs.get(jobId);
+        if (job == null || !job.isOwnedBy(principal.getName())) {
+            throw createGeneralException(REPORT_JOB_NOT_FOUND + jobId, HttpStatus.NOT_FOUND, UiError.REPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private boolean isModifiedBefore(Path file, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cannot delete report file {}", file, e);
+        }
+    }
+
+    private ReportJobDTO mapToDto(ReportJob job) {
+        return ReportJobDTO.builder()
+                .id(job.getId())
+                .reportType(job.getReportType())
+                .reportFormat(job.getReportFormat())
+                .locale(job.getAppLocale())
+                .status(job.getStatus())
+                .processed(job.getProcessed().get())
+                .total(job.getTotal())
+                .fileName(job.getFileName())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+}
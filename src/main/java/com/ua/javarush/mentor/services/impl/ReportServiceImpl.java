@@ -0,0 +1,190 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.LectureResultRowDTO;
+import com.ua.javarush.mentor.dto.UserDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.UserMapper;
+import com.ua.javarush.mentor.persist.model.User;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.LectureResultRepository;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import com.ua.javarush.mentor.persist.routing.ReplicaRoutingDataSource;
+import com.ua.javarush.mentor.reports.ReportDefinitions;
+import com.ua.javarush.mentor.reports.ReportExporter;
+import com.ua.javarush.mentor.services.ReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class ReportServiceImpl implements ReportService {
+
+    private static final String CANNOT_CREATE_REPORT = "Cannot create report";
+    private static final String REPORT_FORMAT_NOT_SUPPORTED = "Report format is not supported: ";
+    private static final String REPORT_TYPE_NOT_SUPPORTED = "Report type is not supported: ";
+    private static final String DATETIME_PATTERN_FOR_REPORT = "yyyy-MM-dd_HH:mm:ss";
+    private static final String USER_REPORT_SORT_TYPE_DEFAULT = "firstName";
+
+    private final Map<ReportFormat, ReportExporter> exporters = new EnumMap<>(ReportFormat.class);
+    private final UserRepository userRepository;
+    private final LectureResultRepository lectureResultRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final UserMapper userMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate snapshotTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ReportServiceImpl(List<ReportExporter> reportExporters, UserRepository userRepository, LectureResultRepository lectureResultRepository,
+                             DataVersionRepository dataVersionRepository, UserMapper userMapper, PlatformTransactionManager transactionManager) {
+        reportExporters.forEach(exporter -> exporters.put(exporter.getFormat(), exporter));
+        this.userRepository = userRepository;
+        this.lectureResultRepository = lectureResultRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.userMapper = userMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public StreamingResponseBody export(ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException {
+        ReportExporter exporter = fetchExporter(reportType, reportFormat);
+        return outputStream -> writeReport(readOnlyTransactionTemplate, outputStream, reportType, exporter, appLocale);
+    }
+
+    @Override
+    public void export(OutputStream outputStream, ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException {
+        ReportExporter exporter = fetchExporter(reportType, reportFormat);
+        try {
+            writeReport(readOnlyTransactionTemplate, outputStream, reportType, exporter, appLocale);
+        } catch (IOException e) {
+            log.error("Error while exporting {} report as {}", reportType, reportFormat, e);
+            throw createGeneralException(CANNOT_CREATE_REPORT, HttpStatus.BAD_REQUEST, UiError.REPORT_EXPORT_ERROR);
+        }
+    }
+
+    @Override
+    public long exportSnapshot(OutputStream outputStream, ReportType reportType, ReportFormat reportFormat, AppLocale appLocale) throws GeneralException {
+        ReportExporter exporter = fetchExporter(reportType, reportFormat);
+        try {
+            return writeReport(snapshotTransactionTemplate, outputStream, reportType, exporter, appLocale);
+        } catch (IOException e) {
+            log.error("Error while exporting {} report as {}", reportType, reportFormat, e);
+            throw createGeneralException(CANNOT_CREATE_REPORT, HttpStatus.BAD_REQUEST, UiError.REPORT_EXPORT_ERROR);
+        }
+    }
+
+    @Override
+    public void checkSupported(ReportType reportType, ReportFormat reportFormat) throws GeneralException {
+        fetchExporter(reportType, reportFormat);
+    }
+
+    @Override
+    public long currentDataVersion(ReportType reportType) {
+        return dataVersionRepository.findVersionByName(reportType.getDataSet()).orElse(0L);
+    }
+
+    @Override
+    public String generateFileName(ReportType reportType, ReportFormat reportFormat) {
+        DateFormat dateFormatter = new SimpleDateFormat(DATETIME_PATTERN_FOR_REPORT);
+        return reportType.getFilePrefix() + dateFormatter.format(new Date()) + reportFormat.getExtension();
+    }
+
+    /**
+     * Rows are read through a forward-only cursor, so the report has to be written inside
+     * one read-only transaction that stays open until the last row is flushed. It may run on a replica.
+     * Returns the data set version seen by that transaction.
+     */
+    private long writeReport(TransactionTemplate transactionTemplate, OutputStream outputStream, ReportType reportType,
+                             ReportExporter exporter, AppLocale appLocale) throws IOException {
+        try {
+            Long version = ReplicaRoutingDataSource.readFromReplica(() -> transactionTemplate.execute(status -> {
+                long dataVersion = currentDataVersion(reportType);
+                try {
+                    writeRows(outputStream, reportType, exporter, appLocale);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return dataVersion;
+            }));
+            return version == null ? 0L : version;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRows(OutputStream outputStream, ReportType reportType, ReportExporter exporter, AppLocale appLocale) throws IOException {
+        switch (reportType) {
+            case USERS:
+                try (Stream<User> users = streamUsers()) {
+                    exporter.export(outputStream, ReportDefinitions.USERS, users.map(this::mapToDtoAndDetach), appLocale);
+                }
+                break;
+            case SALARIES:
+                try (Stream<User> users = streamUsers()) {
+                    exporter.export(outputStream, ReportDefinitions.SALARIES, users.map(this::mapToDtoAndDetach), appLocale);
+                }
+                break;
+            case LECTURE_RESULTS:
+                try (Stream<LectureResultRowDTO> lectureResults = lectureResultRepository.streamReportRows()) {
+                    exporter.export(outputStream, ReportDefinitions.LECTURE_RESULTS, lectureResults, appLocale);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown report type " + reportType);
+        }
+    }
+
+    private Stream<User> streamUsers() {
+        return userRepository.streamAllBy(Sort.by(USER_REPORT_SORT_TYPE_DEFAULT).ascending());
+    }
+
+    private UserDTO mapToDtoAndDetach(User user) {
+        UserDTO userDTO = userMapper.mapToDto(user);
+        entityManager.detach(user);
+        return userDTO;
+    }
+
+    /**
+     * Payslips are an archive of documents rather than a table of rows, they are built by the payslip service.
+     */
+    private ReportExporter fetchExporter(ReportType reportType, ReportFormat reportFormat) throws GeneralException {
+        if (reportType == ReportType.PAYSLIPS) {
+            throw createGeneralException(REPORT_TYPE_NOT_SUPPORTED + reportType, HttpStatus.BAD_REQUEST, UiError.REPORT_TYPE_NOT_SUPPORTED);
+        }
+        ReportExporter exporter = exporters.get(reportFormat);
+        if (exporter == null) {
+            throw createGeneralException(REPORT_FORMAT_NOT_SUPPORTED + reportFormat, HttpStatus.BAD_REQUEST, UiError.REPORT_FORMAT_NOT_SUPPORTED);
+        }
+        return exporter;
+    }
+}
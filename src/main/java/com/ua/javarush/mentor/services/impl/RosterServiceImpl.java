@@ -0,0 +1,315 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import com.ua.javarush.mentor.dto.RosterImportDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.EmailTemplates;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.persist.model.Role;
+import com.ua.javarush.mentor.persist.model.User;
+import com.ua.javarush.mentor.persist.repository.GroupRepository;
+import com.ua.javarush.mentor.persist.repository.UserRepository;
+import com.ua.javarush.mentor.roster.RosterCsvReader;
+import com.ua.javarush.mentor.roster.RosterRow;
+import com.ua.javarush.mentor.services.EmailService;
+import com.ua.javarush.mentor.services.RoleService;
+import com.ua.javarush.mentor.services.RosterService;
+import com.ua.javarush.mentor.services.ValidationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.UNIQUE_VIOLATION;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.isViolation;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Service
+public class RosterServiceImpl implements RosterService {
+
+    public static final String NOT_FOUND_GROUP_ERROR = "Didn't found group: ";
+    public static final String ROSTER_CANNOT_BE_READ = "Roster cannot be read";
+    public static final String ROSTER_IS_EMPTY = "Roster has no users";
+    public static final String ROSTER_TOO_LARGE = "Roster has more than %d users";
+    public static final String ROSTER_NOT_VALID = "Roster not valid: %s";
+    public static final String ROSTER_HASHING_ERROR = "Roster passwords were not hashed";
+    public static final String ROSTER_REJECTED = "Roster rejected, some of its users were created meanwhile";
+    private static final String USER_CONFIRM_PATH = "/api/user/email/confirm/";
+    private static final String SLASH = "/";
+    private static final String NAME_PATTERN = "[A-Za-zА-Яа-яЁё]{2,100}";
+    private static final int MAX_EMAIL_LENGTH = 50;
+    private static final int MAX_TELEGRAM_NICKNAME_LENGTH = 200;
+    private static final int MAX_REPORTED_PROBLEMS = 20;
+    private static final String USER_EMAIL_KEY = "user_email_key";
+
+    @Value("${app.host}")
+    private String host;
+
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final RoleService roleService;
+    private final ValidationService validationService;
+    private final EmailService emailService;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final TaskExecutor rosterHashExecutor;
+    private final TaskExecutor invitationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRows;
+
+    public RosterServiceImpl(UserRepository userRepository, GroupRepository groupRepository, RoleService roleService,
+                             ValidationService validationService, EmailService emailService,
+                             BCryptPasswordEncoder bCryptPasswordEncoder,
+                             @Qualifier(ExecutorConfig.ROSTER_HASH_EXECUTOR) TaskExecutor rosterHashExecutor,
+                             @Qualifier(ExecutorConfig.INVITATION_EXECUTOR) TaskExecutor invitationExecutor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${roster.maxRows}") int maxRows) {
+        this.userRepository = userRepository;
+        this.groupRepository = groupRepository;
+        this.roleService = roleService;
+        this.validationService = validationService;
+        this.emailService = emailService;
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.rosterHashExecutor = rosterHashExecutor;
+        this.invitationExecutor = invitationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Creates the users of a roster file and enrolls them in the group, all of them or none. The file is read
+     * row by row and checked in memory, existing emails and usernames are looked up with one query each, and
+     * all problems are reported together. Passwords and confirmation tokens are hashed in parallel before
+     * a connection is taken, then ids are allocated in one round trip and users and memberships loaded with
+     * one COPY each in a single transaction. Invitations are queued once the transaction has committed.
+     * Users without a password in the file get a random one and set their own with the password reset.
+     */
+    @Override
+    public RosterImportDTO importRoster(InputStream roster, Long groupId, Long roleId, AppLocale appLocale) throws GeneralException {
+        if (!groupRepository.existsById(groupId)) {
+            throw createGeneralException(NOT_FOUND_GROUP_ERROR + groupId, HttpStatus.NOT_FOUND, UiError.GROUP_NOT_FOUND);
+        }
+        Role role = roleService.fetchRole(roleId);
+        List<RosterRow> rows = readRows(roster);
+        validate(rows);
+
+        List<ImportedUser> importedUsers = hash(rows, role);
+        List<User> users = importedUsers.stream()
+                .map(ImportedUser::getUser)
+                .collect(Collectors.toList());
+        List<Long> userIds;
+        try {
+            userIds = transactionTemplate.execute(status -> {
+                List<Long> ids = userRepository.allocateIds(users.size());
+                for (int i = 0; i < users.size(); i++) {
+                    users.get(i).setId(ids.get(i));
+                }
+                userRepository.copyUsers(users);
+                userRepository.copyMemberships(groupId, ids);
+                return ids;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isViolation(e, UNIQUE_VIOLATION, USER_EMAIL_KEY)) {
+                throw e;
+            }
+            log.warn("Roster of group {} rejected by the database: {}", groupId, e.getMostSpecificCause().getMessage());
+            throw createGeneralException(ROSTER_REJECTED, HttpStatus.CONFLICT, UiError.USER_EMAIL_ALREADY_EXISTS);
+        }
+        log.info("Roster of {} users imported into group {}", users.size(), groupId);
+
+        for (ImportedUser importedUser : importedUsers) {
+            invitationExecutor.execute(() -> sendInvitation(importedUser, appLocale));
+        }
+        return RosterImportDTO.builder()
+                .groupId(groupId)
+                .importedCount(users.size())
+                .userIds(userIds)
+                .invitationsQueued(importedUsers.size())
+                .build();
+    }
+
+    private List<RosterRow> readRows(InputStream roster) throws GeneralException {
+        List<RosterRow> rows = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(roster, UTF_8)) {
+            RosterCsvReader csvReader = new RosterCsvReader(reader);
+            RosterRow row;
+            while ((row = csvReader.next()) != null) {
+                if (rows.size() == maxRows) {
+                    throw createGeneralException(String.format(ROSTER_TOO_LARGE, maxRows), HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID);
+                }
+                rows.add(row);
+            }
+        } catch (IOException e) {
+            throw createGeneralException(ROSTER_CANNOT_BE_READ, HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID, e);
+        }
+        if (rows.isEmpty()) {
+            throw createGeneralException(ROSTER_IS_EMPTY, HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID);
+        }
+        return rows;
+    }
+
+    private void validate(List<RosterRow> rows) throws GeneralException {
+        List<String> problems = new ArrayList<>();
+        Map<String, Integer> emails = new HashMap<>();
+        Map<String, Integer> usernames = new HashMap<>();
+        for (RosterRow row : rows) {
+            validateRow(row, problems);
+            if (row.getEmail() != null) {
+                Integer previous = emails.putIfAbsent(row.getEmail().toLowerCase(Locale.ROOT), row.getLineNumber());
+                if (previous != null) {
+                    problems.add(problem(row, "email " + row.getEmail() + " repeats line " + previous));
+                }
+            }
+            if (row.getUsername() != null) {
+                Integer previous = usernames.putIfAbsent(row.getUsername().toLowerCase(Locale.ROOT), row.getLineNumber());
+                if (previous != null) {
+                    problems.add(problem(row, "username " + row.getUsername() + " repeats line " + previous));
+                }
+            }
+        }
+        if (!emails.isEmpty()) {
+            for (String email : userRepository.findExistingEmails(emails.keySet())) {
+                problems.add("line " + emails.get(email) + ": user with email " + email + " already exists");
+            }
+        }
+        if (!usernames.isEmpty()) {
+            for (String username : userRepository.findExistingUsernames(usernames.keySet())) {
+                problems.add("line " + usernames.get(username) + ": username " + username + " already exists");
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw createGeneralException(String.format(ROSTER_NOT_VALID, describe(problems)), HttpStatus.BAD_REQUEST, UiError.ROSTER_NOT_VALID);
+        }
+    }
+
+    /**
+     * The same rules as for a user created one by one, since COPY does not run the entity validation.
+     */
+    private void validateRow(RosterRow row, List<String> problems) {
+        if (row.getFirstName() == null || !row.getFirstName().matches(NAME_PATTERN)) {
+            problems.add(problem(row, "first name has to contain from 2 to 100 letters"));
+        }
+        if (row.getLastName() == null || !row.getLastName().matches(NAME_PATTERN)) {
+            problems.add(problem(row, "last name has to contain from 2 to 100 letters"));
+        }
+        if (row.getEmail() == null || row.getEmail().length() > MAX_EMAIL_LENGTH || !validationService.isValidEmail(row.getEmail())) {
+            problems.add(problem(row, "invalid email"));
+        }
+        if (row.getUsername() == null || !validationService.isValidUsername(row.getUsername())) {
+            problems.add(problem(row, "invalid username"));
+        }
+        if (row.getCountry() == null || !validationService.isValidCountry(row.getCountry())) {
+            problems.add(problem(row, "country is not supported"));
+        }
+        if (row.getTelegramNickname() != null && row.getTelegramNickname().length() > MAX_TELEGRAM_NICKNAME_LENGTH) {
+            problems.add(problem(row, "telegram nickname is too long"));
+        }
+        if (row.getPassword() != null && !validationService.isValidPassword(row.getPassword())) {
+            problems.add(problem(row, "invalid password"));
+        }
+    }
+
+    private List<ImportedUser> hash(List<RosterRow> rows, Role role) throws GeneralException {
+        Date now = new Date();
+        List<CompletableFuture<ImportedUser>> hashings = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> toUser(row, role, now), rosterHashExecutor))
+                .collect(Collectors.toList());
+        try {
+            return hashings.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            log.error("Roster passwords were not hashed", e.getCause());
+            throw createGeneralException(ROSTER_HASHING_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, UiError.APPLICATION_ERROR);
+        }
+    }
+
+    private ImportedUser toUser(RosterRow row, Role role, Date now) {
+        String password = row.getPassword() != null ? row.getPassword() : UUID.randomUUID().toString();
+        String confirmationToken = UUID.randomUUID().toString();
+        User user = new User();
+        user.setFirstName(row.getFirstName());
+        user.setLastName(row.getLastName());
+        user.setEmail(row.getEmail().toLowerCase(Locale.ROOT));
+        user.setUsername(row.getUsername().toLowerCase(Locale.ROOT));
+        user.setCountry(row.getCountry());
+        user.setTelegramNickname(row.getTelegramNickname());
+        user.setPassword(bCryptPasswordEncoder.encode(password));
+        user.setRegisteredAt(now);
+        user.setSecretPhrase(UUID.randomUUID().toString());
+        user.setEnabled(false);
+        user.setLocked(false);
+        user.setEmailConfirmationToken(bCryptPasswordEncoder.encode(confirmationToken));
+        user.setDateOfSendingEmailConfirmation(now);
+        user.setRoleId(role);
+        return new ImportedUser(user, host + USER_CONFIRM_PATH + confirmationToken + SLASH + user.getEmail());
+    }
+
+    private void sendInvitation(ImportedUser importedUser, AppLocale appLocale) {
+        User user = importedUser.getUser();
+        try {
+            emailService.sendConfirmationEmail(emailService.buildEmail(user.getEmail(), appLocale, EmailTemplates.CONFIRMATION,
+                    Map.of("confirmationLink", importedUser.getConfirmationLink(),
+                            "firstName", user.getFirstName())));
+        } catch (GeneralException e) {
+            log.warn("Invitation was not sent to user {}", user.getId());
+        }
+    }
+
+    private static String problem(RosterRow row, String message) {
+        return "line " + row.getLineNumber() + ": " + message;
+    }
+
+    private static String describe(List<String> problems) {
+        String described = problems.stream()
+                .limit(MAX_REPORTED_PROBLEMS)
+                .collect(Collectors.joining("; "));
+        return problems.size() > MAX_REPORTED_PROBLEMS
+                ? described + " and " + (problems.size() - MAX_REPORTED_PROBLEMS) + " more"
+                : described;
+    }
+
+    /**
+     * User ready to be copied, with the link of its invitation: the token is only kept hashed in the database.
+     */
+    private static class ImportedUser {
+        private final User user;
+        private final String confirmationLink;
+
+        private ImportedUser(User user, String confirmationLink) {
+            this.user = user;
+            this.confirmationLink = confirmationLink;
+        }
+
+        private User getUser() {
+            return user;
+        }
+
+        private String getConfirmationLink() {
+            return confirmationLink;
+        }
+    }
+}
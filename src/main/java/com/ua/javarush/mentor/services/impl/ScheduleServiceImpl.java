@@ -0,0 +1,172 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.MentorBookingDTO;
+import com.ua.javarush.mentor.dto.MentorSlotDTO;
+import com.ua.javarush.mentor.dto.ScheduleConflictDTO;
+import com.ua.javarush.mentor.dto.SubstituteMentorDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.MentorBookingMapper;
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import com.ua.javarush.mentor.persist.model.TimeTable;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.schedule.MentorAvailability;
+import com.ua.javarush.mentor.schedule.MentorAvailabilityIndex;
+import com.ua.javarush.mentor.schedule.MentorSchedule;
+import com.ua.javarush.mentor.schedule.MentorScheduleIndex;
+import com.ua.javarush.mentor.services.ScheduleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class ScheduleServiceImpl implements ScheduleService {
+
+    public static final String SCHEDULE_SLOT_NOT_VALID = "Slot start has to be before its finish";
+    public static final String NOT_FOUND_TIMETABLE_ERROR = "Didn't found timetable: ";
+    private static final Comparator<SubstituteMentorDTO> BY_MONTH_LOAD = Comparator
+            .comparingLong(SubstituteMentorDTO::getMonthLoadMinutes)
+            .thenComparingInt(SubstituteMentorDTO::getMonthLectureCount)
+            .thenComparing(SubstituteMentorDTO::getUserId);
+
+    private final MentorScheduleIndex mentorScheduleIndex;
+    private final TimeTableRepository timeTableRepository;
+    private final MentorAvailabilityIndex mentorAvailabilityIndex;
+    private final MentorBookingMapper mentorBookingMapper;
+    private final ZoneId zoneId;
+
+    public ScheduleServiceImpl(MentorScheduleIndex mentorScheduleIndex, TimeTableRepository timeTableRepository,
+                               MentorAvailabilityIndex mentorAvailabilityIndex, MentorBookingMapper mentorBookingMapper,
+                               @Value("${timetable.zoneId}") String zoneId) {
+        this.mentorScheduleIndex = mentorScheduleIndex;
+        this.timeTableRepository = timeTableRepository;
+        this.mentorAvailabilityIndex = mentorAvailabilityIndex;
+        this.mentorBookingMapper = mentorBookingMapper;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    @Override
+    public MentorSlotDTO checkSlot(Long userId, Instant start, Instant finish) throws GeneralException {
+        if (start == null || finish == null || !start.isBefore(finish)) {
+            throw createGeneralException(SCHEDULE_SLOT_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.SCHEDULE_SLOT_NOT_VALID);
+        }
+        List<MentorBookingDTO> conflicts = mentorScheduleIndex.getSchedule(userId).findOverlaps(start, finish).stream()
+                .map(mentorBookingMapper::mapToDto)
+                .collect(Collectors.toList());
+        return MentorSlotDTO.builder()
+                .userId(userId)
+                .startDateTime(start)
+                .finishDateTime(finish)
+                .free(conflicts.isEmpty())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * Checks whether the mentor can take every lecture of the group timetable: each lecture against
+     * the bookings of the mentor, ignoring bookings of that same lecture, and against the next
+     * lectures of the timetable itself. Returns the lectures that conflict.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleConflictDTO> validateGroupTimetable(Long groupId, Long userId) {
+        MentorSchedule schedule = mentorScheduleIndex.getSchedule(userId);
+        List<TimeTable> timetable = timeTableRepository.findAllByGroupIdOrderByStartDateTime(Math.toIntExact(groupId));
+
+        List<ScheduleConflictDTO> result = new ArrayList<>();
+        for (int i = 0; i < timetable.size(); i++) {
+            TimeTable lecture = timetable.get(i);
+            Instant start = lecture.getStartDateTime();
+            Instant finish = lecture.getFinishDateTime();
+
+            List<MentorBookingDTO> conflicts = schedule.findOverlaps(start, finish).stream()
+                    .filter(booking -> !booking.getTimetableId().equals(lecture.getId()))
+                    .map(mentorBookingMapper::mapToDto)
+                    .collect(Collectors.toList());
+            for (int j = i + 1; j < timetable.size() && timetable.get(j).getStartDateTime().isBefore(finish); j++) {
+                conflicts.add(mapToDto(timetable.get(j)));
+            }
+            if (!conflicts.isEmpty()) {
+                result.add(ScheduleConflictDTO.builder()
+                        .timetableId(lecture.getId())
+                        .startDateTime(start)
+                        .finishDateTime(finish)
+                        .conflicts(conflicts)
+                        .build());
+            }
+        }
+        log.info("Timetable of group {} validated for mentor {}: {} conflicts", groupId, userId, result.size());
+        return result;
+    }
+
+    /**
+     * Mentors who work on the day of the lecture and have nothing overlapping it, least loaded in the month
+     * of the lecture first. Answered from the in-memory indexes: one tree lookup per mentor for the slot
+     * and one range walk over the month of the mentor for the load.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SubstituteMentorDTO> findSubstitutes(Long timetableId) throws GeneralException {
+        TimeTable lecture = timeTableRepository.findById(timetableId)
+                .orElseThrow(() -> createGeneralException(NOT_FOUND_TIMETABLE_ERROR + timetableId, HttpStatus.NOT_FOUND, UiError.TIMETABLE_NOT_FOUND));
+        Instant start = lecture.getStartDateTime();
+        Instant finish = lecture.getFinishDateTime();
+        DayOfWeek day = start.atZone(zoneId).getDayOfWeek();
+        YearMonth month = YearMonth.from(start.atZone(zoneId));
+        Instant monthStart = month.atDay(1).atStartOfDay(zoneId).toInstant();
+        Instant monthFinish = month.plusMonths(1).atDay(1).atStartOfDay(zoneId).toInstant();
+
+        List<SubstituteMentorDTO> result = new ArrayList<>();
+        for (MentorAvailability mentor : mentorAvailabilityIndex.getMentors()) {
+            MentorSchedule schedule = mentorScheduleIndex.getSchedule(mentor.getUserId());
+            if (!mentor.isWorkingDay(day) || !schedule.isFree(start, finish)) {
+                continue;
+            }
+            List<MentorBooking> monthBookings = schedule.findOverlaps(monthStart, monthFinish);
+            result.add(SubstituteMentorDTO.builder()
+                    .userId(mentor.getUserId())
+                    .firstName(mentor.getFirstName())
+                    .lastName(mentor.getLastName())
+                    .telegramNickname(mentor.getTelegramNickname())
+                    .monthLectureCount(monthBookings.size())
+                    .monthLoadMinutes(loadMinutes(monthBookings, monthStart, monthFinish))
+                    .build());
+        }
+        result.sort(BY_MONTH_LOAD);
+        return result;
+    }
+
+    private long loadMinutes(List<MentorBooking> bookings, Instant from, Instant to) {
+        long minutes = 0;
+        for (MentorBooking booking : bookings) {
+            Instant start = booking.getStartDateTime().isBefore(from) ? from : booking.getStartDateTime();
+            Instant finish = booking.getFinishDateTime().isAfter(to) ? to : booking.getFinishDateTime();
+            minutes += Duration.between(start, finish).toMinutes();
+        }
+        return minutes;
+    }
+
+    private MentorBookingDTO mapToDto(TimeTable lecture) {
+        return MentorBookingDTO.builder()
+                .timetableId(lecture.getId())
+                .groupId(lecture.getGroupId().longValue())
+                .startDateTime(lecture.getStartDateTime())
+                .finishDateTime(lecture.getFinishDateTime())
+                .build();
+    }
+}
@@ -0,0 +1,256 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.command.HolidayCommand;
+import com.ua.javarush.mentor.command.TimetableGenerationCommand;
+import com.ua.javarush.mentor.config.ExecutorConfig;
+import com.ua.javarush.mentor.dto.CalendarLectureDTO;
+import com.ua.javarush.mentor.dto.HolidayDTO;
+import com.ua.javarush.mentor.dto.TimetableGenerationDTO;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.exceptions.UiError;
+import com.ua.javarush.mentor.mapper.HolidayMapper;
+import com.ua.javarush.mentor.mapper.TimeTableMapper;
+import com.ua.javarush.mentor.persist.model.Group;
+import com.ua.javarush.mentor.persist.model.TimeTable;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import com.ua.javarush.mentor.persist.repository.GroupRepository;
+import com.ua.javarush.mentor.persist.repository.GroupScheduleVersionRepository;
+import com.ua.javarush.mentor.persist.repository.HolidayRepository;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.services.TimetableService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
+
+@Slf4j
+@Service
+public class TimetableServiceImpl implements TimetableService {
+
+    public static final String NOT_FOUND_GROUP_ERROR = "Didn't found group: ";
+    public static final String NOT_FOUND_HOLIDAY_ERROR = "Didn't found holiday: ";
+    public static final String GROUP_NOT_STARTED = "Group start date is not set: ";
+    public static final String TIMETABLE_COMMAND_NOT_VALID = "Group ids, lecture locale and start time are required";
+    public static final String HOLIDAY_COMMAND_NOT_VALID = "Holiday day and name are required";
+    public static final String TIMETABLE_GENERATION_ERROR = "Timetable was not generated for groups: ";
+    public static final String CALENDAR_RANGE_NOT_VALID = "Calendar range has to start before its end and span at most %d days";
+    public static final String LOG_TIMETABLE_GENERATED = "Timetable of group {} generated: {} lectures removed, {} generated";
+    private static final int TIMETABLE_LOCK_NAMESPACE = 33;
+
+    private final TimeTableRepository timeTableRepository;
+    private final GroupRepository groupRepository;
+    private final HolidayRepository holidayRepository;
+    private final HolidayMapper holidayMapper;
+    private final TimeTableMapper timeTableMapper;
+    private final GroupScheduleVersionRepository groupScheduleVersionRepository;
+    private final DataVersionRepository dataVersionRepository;
+    private final TaskExecutor timetableExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final String zoneId;
+    private final int calendarMaxRangeDays;
+
+    public TimetableServiceImpl(TimeTableRepository timeTableRepository, GroupRepository groupRepository,
+                                HolidayRepository holidayRepository, HolidayMapper holidayMapper,
+                                TimeTableMapper timeTableMapper, GroupScheduleVersionRepository groupScheduleVersionRepository,
+                                DataVersionRepository dataVersionRepository,
+                                @Qualifier(ExecutorConfig.TIMETABLE_EXECUTOR) TaskExecutor timetableExecutor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${timetable.zoneId}") String zoneId,
+                                @Value("${timetable.calendar.maxRangeDays}") int calendarMaxRangeDays) {
+        this.timeTableRepository = timeTableRepository;
+        this.groupRepository = groupRepository;
+        this.holidayRepository = holidayRepository;
+        this.holidayMapper = holidayMapper;
+        this.timeTableMapper = timeTableMapper;
+        this.groupScheduleVersionRepository = groupScheduleVersionRepository;
+        this.dataVersionRepository = dataVersionRepository;
+        this.timetableExecutor = timetableExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zoneId = ZoneId.of(zoneId).getId();
+        this.calendarMaxRangeDays = calendarMaxRangeDays;
+    }
+
+    /**
+     * Every group is generated in its own transaction on the timetable pool, so a wave of new groups
+     * is generated in parallel and a failed group does not roll back the others. The call returns when
+     * all groups are done and fails if any of them failed.
+     */
+    @Override
+    public List<TimetableGenerationDTO> generate(TimetableGenerationCommand timetableGenerationCommand) throws GeneralException {
+        Set<Long> groupIds = validate(timetableGenerationCommand);
+        String locale = timetableGenerationCommand.getLectureLocale();
+        LocalTime startTime = timetableGenerationCommand.getStartTime();
+
+        Map<Long, CompletableFuture<TimetableGenerationDTO>> generations = new LinkedHashMap<>();
+        for (Long groupId : groupIds) {
+            generations.put(groupId, CompletableFuture.supplyAsync(
+                    () -> transactionTemplate.execute(status -> generateGroup(groupId, locale, startTime)), timetableExecutor));
+        }
+
+        List<TimetableGenerationDTO> result = new ArrayList<>();
+        List<Long> failedGroupIds = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<TimetableGenerationDTO>> generation : generations.entrySet()) {
+            try {
+                result.add(generation.getValue().join());
+            } catch (CompletionException e) {
+                log.error("Timetable of group {} was not generated", generation.getKey(), e.getCause());
+                failedGroupIds.add(generation.getKey());
+            }
+        }
+        if (!failedGroupIds.isEmpty()) {
+            throw createGeneralException(TIMETABLE_GENERATION_ERROR + failedGroupIds, HttpStatus.INTERNAL_SERVER_ERROR, UiError.TIMETABLE_GENERATION_ERROR);
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HolidayDTO> getHolidays(int year) {
+        return holidayRepository.findAllByDayBetweenOrderByDay(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).stream()
+                .map(holidayMapper::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Holidays affect timetables generated after the change, existing timetables are not moved.
+     */
+    @Override
+    @Transactional(rollbackFor = GeneralException.class)
+    public HolidayDTO saveHoliday(HolidayCommand holidayCommand) throws GeneralException {
+        if (holidayCommand.getDay() == null || holidayCommand.getName() == null || holidayCommand.getName().isBlank()) {
+            throw createGeneralException(HOLIDAY_COMMAND_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.TIMETABLE_COMMAND_NOT_VALID);
+        }
+        return holidayMapper.mapToDto(holidayRepository.save(holidayMapper.mapToEntity(holidayCommand)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = GeneralException.class)
+    public void removeHoliday(LocalDate day) throws GeneralException {
+        if (!holidayRepository.existsById(day)) {
+            throw createGeneralException(NOT_FOUND_HOLIDAY_ERROR + day, HttpStatus.NOT_FOUND, UiError.HOLIDAY_NOT_FOUND);
+        }
+        holidayRepository.deleteById(day);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarLectureDTO> getGroupCalendar(Long groupId, LocalDate from, LocalDate to) throws GeneralException {
+        validateRange(from, to);
+        if (!groupRepository.existsById(groupId)) {
+            throw createGeneralException(NOT_FOUND_GROUP_ERROR + groupId, HttpStatus.NOT_FOUND, UiError.GROUP_NOT_FOUND);
+        }
+        return mapToCalendar(timeTableRepository.findAllByGroupIdStartingBetween(
+                Math.toIntExact(groupId), startOf(from), startOf(to.plusDays(1))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarLectureDTO> getMentorCalendar(Long userId, LocalDate from, LocalDate to) throws GeneralException {
+        validateRange(from, to);
+        return mapToCalendar(timeTableRepository.findAllByMentorStartingBetween(userId, startOf(from), startOf(to.plusDays(1))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarLectureDTO> getCalendar(LocalDate from, LocalDate to) throws GeneralException {
+        validateRange(from, to);
+        return mapToCalendar(timeTableRepository.findAllStartingBetween(startOf(from), startOf(to.plusDays(1))));
+    }
+
+    /**
+     * Versions are read before the calendar, so a change committed in between gives a newer calendar
+     * under the older version and the client only downloads it once more.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getGroupScheduleVersion(Long groupId) {
+        return groupScheduleVersionRepository.findVersionByGroupId(groupId).orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getMentorScheduleVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.MENTOR_BOOKINGS).orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getScheduleVersion() {
+        return dataVersionRepository.findVersionByName(DataSets.TIMETABLE).orElse(0L);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) throws GeneralException {
+        if (from == null || to == null || to.isBefore(from) || from.plusDays(calendarMaxRangeDays).isBefore(to)) {
+            throw createGeneralException(String.format(CALENDAR_RANGE_NOT_VALID, calendarMaxRangeDays),
+                    HttpStatus.BAD_REQUEST, UiError.CALENDAR_RANGE_NOT_VALID);
+        }
+    }
+
+    /**
+     * Calendar days are days of the timetable zone.
+     */
+    private Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneId.of(zoneId)).toInstant();
+    }
+
+    private List<CalendarLectureDTO> mapToCalendar(List<TimeTable> lectures) {
+        return lectures.stream()
+                .map(timeTableMapper::mapToCalendarDto)
+                .collect(Collectors.toList());
+    }
+
+    private TimetableGenerationDTO generateGroup(Long groupId, String locale, LocalTime startTime) {
+        timeTableRepository.lockGroup(TIMETABLE_LOCK_NAMESPACE, Math.toIntExact(groupId));
+        int removedCount = timeTableRepository.deleteNotHeldByGroupId(groupId);
+        int generatedCount = timeTableRepository.generate(groupId, locale, startTime, zoneId);
+        log.info(LOG_TIMETABLE_GENERATED, groupId, removedCount, generatedCount);
+        return TimetableGenerationDTO.builder()
+                .groupId(groupId)
+                .removedCount(removedCount)
+                .generatedCount(generatedCount)
+                .build();
+    }
+
+    private Set<Long> validate(TimetableGenerationCommand command) throws GeneralException {
+        if (command.getGroupIds() == null || command.getGroupIds().isEmpty() || command.getLectureLocale() == null
+                || command.getStartTime() == null) {
+            throw createGeneralException(TIMETABLE_COMMAND_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.TIMETABLE_COMMAND_NOT_VALID);
+        }
+        Set<Long> groupIds = new LinkedHashSet<>(command.getGroupIds());
+        Map<Long, Group> groups = groupRepository.findAllById(groupIds).stream()
+                .collect(Collectors.toMap(Group::getId, Function.identity()));
+        for (Long groupId : groupIds) {
+            Group group = groups.get(groupId);
+            if (group == null) {
+                throw createGeneralException(NOT_FOUND_GROUP_ERROR + groupId, HttpStatus.NOT_FOUND, UiError.GROUP_NOT_FOUND);
+            }
+            if (group.getDateStarted() == null) {
+                throw createGeneralException(GROUP_NOT_STARTED + groupId, HttpStatus.BAD_REQUEST, UiError.GROUP_NOT_STARTED);
+            }
+        }
+        return groupIds;
+    }
+}
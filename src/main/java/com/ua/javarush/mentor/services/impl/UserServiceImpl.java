@@ -1,20 +1,21 @@
 package com.ua.javarush.mentor.services.impl;
 
+import com.ua.javarush.mentor.cache.ConfigCache;
 import com.ua.javarush.mentor.command.*;
 import com.ua.javarush.mentor.dto.PageDTO;
 import com.ua.javarush.mentor.dto.UserDTO;
 import com.ua.javarush.mentor.enums.AppLocale;
 import com.ua.javarush.mentor.exceptions.UiError;
-import com.ua.javarush.mentor.enums.Configs;
 import com.ua.javarush.mentor.enums.EmailTemplates;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportType;
 import com.ua.javarush.mentor.exceptions.GeneralException;
 import com.ua.javarush.mentor.mapper.UserDetailsMapper;
 import com.ua.javarush.mentor.mapper.UserMapper;
 import com.ua.javarush.mentor.persist.model.Role;
 import com.ua.javarush.mentor.persist.model.User;
-import com.ua.javarush.mentor.persist.repository.ConfigRepository;
 import com.ua.javarush.mentor.persist.repository.UserRepository;
-import com.ua.javarush.mentor.reports.UserPDFExporter;
+import com.ua.javarush.mentor.persist.routing.ReplicaRead;
 import com.ua.javarush.mentor.services.RoleService;
 import com.ua.javarush.mentor.services.TelegramService;
 import com.ua.javarush.mentor.services.UserService;
@@ -37,16 +38,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.*;
 
 import javax.servlet.http.HttpServletResponse;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.stream.Collectors;
 
-import static com.ua.javarush.mentor.enums.PDFSubtype.USERS;
 import static com.ua.javarush.mentor.exceptions.GeneralExceptionUtils.createGeneralException;
 
 @Slf4j
@@ -59,17 +57,16 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     private static final String CODE_EXPIRED = "Code expired";
     private static final String TOKEN_IS_NOT_VALID = "Token is not valid";
     private static final String CODE_IS_NOT_VALID = "Code is not valid";
+    private static final String OLD_PASSWORD_IS_NOT_VALID = "Old password is not valid";
+    private static final String MAX_COUNT_OF_RESET_PASSWORD_REACHED = "Max count of reset password reached";
     private static final String USER_WITH_EMAIL = "User with email ";
     private static final String NOT_FOUND = " not found";
-    public static final String LOG_CHANGE_PERMISSION_USER_TO = "Change permission user {} {} to {}";
+    public static final String LOG_CHANGE_PERMISSION_USER_TO = "Change permission user {} to {}";
     public static final String LOG_RESPONSE_USER = "Response user: {} {}";
     public static final String LOG_USER_WAS_CREATED = "User '{} {}' was created";
     public static final String LOG_REMOVE_USER_ID_NAME = "Remove user: id={}, name={} {}";
     public static final String NOT_FOUND_USER_ERROR = "Didn't found user";
-    private static final String PDF_FORMAT = ".pdf";
-    private static final String DATETIME_PATTERN_FOR_REPORT = "yyyy-MM-dd_HH:mm:ss";
-    private static final String PDF_REPORT_SORT_TYPE_DEFAULT = "firstName";
-    private static final String CONTENT_TYPE_PDF = "application/pdf";
+    private static final String CANNOT_CREATE_USER_REPORT = "Cannot create user report";
     public static final String INVALID_EMAIL = "Invalid email";
     public static final String INVALID_PASSWORD = "Invalid password";
     public static final String INVALID_USERNAME = "Invalid username";
@@ -81,25 +78,25 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     private String host;
 
     private final UserRepository userRepository;
-    private final ConfigRepository configRepository;
+    private final ConfigCache configCache;
     private final UserMapper userMapper;
     private final UserDetailsMapper userDetailsMapper;
     private final RoleService roleService;
     private final ValidationService validationService;
     private final TelegramService telegramService;
-    private final UserPDFExporter userPDFExporter;
+    private final ReportService reportService;
     private final EmailService emailService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
-    public UserServiceImpl(UserRepository userRepository, ConfigRepository configRepository, UserMapper userMapper, UserDetailsMapper userDetailsMapper, UserPDFExporter userPDFExporter, RoleService roleService, ValidationService validationService, TelegramService telegramService, EmailService emailService, BCryptPasswordEncoder bCryptPasswordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, ConfigCache configCache, UserMapper userMapper, UserDetailsMapper userDetailsMapper, ReportService reportService, RoleService roleService, ValidationService validationService, TelegramService telegramService, EmailService emailService, BCryptPasswordEncoder bCryptPasswordEncoder) {
         this.userRepository = userRepository;
-        this.configRepository = configRepository;
+        this.configCache = configCache;
         this.userMapper = userMapper;
         this.userDetailsMapper = userDetailsMapper;
         this.roleService = roleService;
         this.validationService = validationService;
         this.telegramService = telegramService;
-        this.userPDFExporter = userPDFExporter;
+        this.reportService = reportService;
         this.emailService = emailService;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
     }
@@ -158,6 +155,8 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Override
+    @ReplicaRead
+    @Transactional(readOnly = true)
     public PageDTO<UserDTO> getAllUsers(int page, int size, String sortBy) {
         Pageable paging = PageRequest.of(page, size, Sort.by(sortBy));
         Page<UserDTO> users = userRepository.findAll(paging)
@@ -166,6 +165,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     @Override
+    @Transactional(readOnly = true, rollbackFor = GeneralException.class)
     public UserDTO getUserById(Long id) throws GeneralException {
         User user = fetchUser(id);
         log.info(LOG_RESPONSE_USER, user.getFirstName(), user.getLastName());
@@ -183,11 +183,11 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     @Override
     @Transactional(rollbackFor = GeneralException.class)
     public void changePermission(UserPermissionCommand userPermissionCommand) throws GeneralException {
-        User user = fetchUser(userPermissionCommand.getUserId());
         Role role = roleService.fetchRole(userPermissionCommand.getRoleId());
-        user.setRoleId(role);
-        userRepository.save(user);
-        log.info(LOG_CHANGE_PERMISSION_USER_TO, user.getFirstName(), user.getLastName(), role.getName());
+        if (userRepository.changeRole(userPermissionCommand.getUserId(), role) == 0) {
+            throw createGeneralException(NOT_FOUND_USER_ERROR, HttpStatus.NOT_FOUND, UiError.USER_NOT_FOUND);
+        }
+        log.info(LOG_CHANGE_PERMISSION_USER_TO, userPermissionCommand.getUserId(), role.getName());
     }
 
     @Override
@@ -203,18 +203,17 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
     @Override
     public void exportToPDF(HttpServletResponse response, AppLocale appLocale) throws GeneralException {
-        response.setContentType(CONTENT_TYPE_PDF);
+        response.setContentType(ReportFormat.PDF.getContentType());
 
         String headerKey = "Content-Disposition";
-        String headerValue = "attachment; filename=" + generateFileName(USERS);
+        String headerValue = "attachment; filename=" + reportService.generateFileName(ReportType.USERS, ReportFormat.PDF);
         response.setHeader(headerKey, headerValue);
 
-        userPDFExporter.export(response,
-                userRepository.findAll(Sort.by(PDF_REPORT_SORT_TYPE_DEFAULT).ascending())
-                        .stream()
-                        .map(userMapper::mapToDto)
-                        .collect(Collectors.toList()),
-                appLocale);
+        try {
+            reportService.export(response.getOutputStream(), ReportType.USERS, ReportFormat.PDF, appLocale);
+        } catch (IOException e) {
+            throw createGeneralException(CANNOT_CREATE_USER_REPORT, HttpStatus.BAD_REQUEST, UiError.PDF_EXPORT_ERROR);
+        }
     }
 
     @Override
@@ -237,13 +236,10 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         User user = findUserByEmail(email);
         if (bCryptPasswordEncoder.matches(token, user.getEmailConfirmationToken())) {
             if (Date.from(addTimeInMinutesToDate(user.getDateOfSendingEmailConfirmation(),
-                    Integer.parseInt(configRepository.findByName(Configs.TIME_TO_CONFIRM_EMAIL.name()).getValue())).toInstant()).after(new Date())) {
-                user.setEmailVerified(true);
-                user.setEnabled(true);
-                user.setEmailConfirmationToken(null);
-                user.setDateOfConfirmationEmail(new Date());
-                user.setDateOfSendingEmailConfirmation(null);
-                userRepository.save(user);
+                    configCache.getTimeToConfirmEmail()).toInstant()).after(new Date())) {
+                if (userRepository.confirmEmail(user.getId(), user.getEmailConfirmationToken(), new Date()) == 0) {
+                    throw createGeneralException(TOKEN_IS_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.TOKEN_NOT_VALID);
+                }
                 log.info("User {} {} confirmed email", user.getFirstName(), user.getLastName());
             } else {
                 throw createGeneralException(TOKEN_EXPIRED, HttpStatus.BAD_REQUEST, UiError.TOKEN_EXPIRED);
@@ -259,14 +255,14 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         User user = findUserByEmail(email);
         if (availableToChangePassword(user)) {
             Integer code = generateSixDigitCode();
-            user.setResetPasswordCode(bCryptPasswordEncoder.encode(String.valueOf(code)));
-            user.setDateOfResetPassword(new Date());
-            user.setCountOfResetPassword(incrementAndGet(user));
-            userRepository.save(user);
+            if (userRepository.startPasswordReset(user.getId(), bCryptPasswordEncoder.encode(String.valueOf(code)), new Date(),
+                    configCache.getMaxCountOfResetPassword()) == 0) {
+                throw createGeneralException(MAX_COUNT_OF_RESET_PASSWORD_REACHED, HttpStatus.BAD_REQUEST, UiError.MAX_COUNT_OF_RESET_PASSWORD_REACHED);
+            }
             emailService.sendResetPasswordEmail(createSendResetPasswordEmailCommand(user, AppLocale.EN, code));
             log.info("Reset password email was sent to user: {} {}", user.getFirstName(), user.getLastName());
         } else {
-            throw createGeneralException("Max count of reset password reached", HttpStatus.BAD_REQUEST, UiError.MAX_COUNT_OF_RESET_PASSWORD_REACHED);
+            throw createGeneralException(MAX_COUNT_OF_RESET_PASSWORD_REACHED, HttpStatus.BAD_REQUEST, UiError.MAX_COUNT_OF_RESET_PASSWORD_REACHED);
         }
     }
 
@@ -276,15 +272,16 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         User user = getUserByPrincipal(principal);
         if (bCryptPasswordEncoder.matches(changePasswordCommand.getOldPassword(), user.getPassword())) {
             if (validationService.isValidPassword(changePasswordCommand.getNewPassword())) {
-                user.setPassword(bCryptPasswordEncoder.encode(changePasswordCommand.getNewPassword()));
-                user.setLastPasswordChange(new Date());
-                userRepository.save(user);
+                if (userRepository.changePassword(user.getId(), user.getPassword(),
+                        bCryptPasswordEncoder.encode(changePasswordCommand.getNewPassword()), new Date()) == 0) {
+                    throw createGeneralException(OLD_PASSWORD_IS_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.OLD_PASSWORD_NOT_VALID);
+                }
                 log.info("Password was changed for user: {} {}", user.getFirstName(), user.getLastName());
             } else {
                 throw createGeneralException("New password is not valid", HttpStatus.BAD_REQUEST, UiError.PASSWORD_NOT_VALID);
             }
         } else {
-            throw createGeneralException("Old password is not valid", HttpStatus.BAD_REQUEST, UiError.OLD_PASSWORD_NOT_VALID);
+            throw createGeneralException(OLD_PASSWORD_IS_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.OLD_PASSWORD_NOT_VALID);
         }
     }
 
@@ -294,15 +291,12 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         User user = findUserByEmail(resetPasswordCommand.getEmail());
         if (bCryptPasswordEncoder.matches(resetPasswordCommand.getCode(), user.getResetPasswordCode())) {
             if (Date.from(addTimeInMinutesToDate(user.getDateOfResetPassword(),
-                    Integer.parseInt(configRepository.findByName(Configs.TIME_TO_RESET_PASSWORD.name()).getValue())).toInstant()).after(new Date())) {
+                    configCache.getTimeToResetPassword()).toInstant()).after(new Date())) {
                 if (validationService.isValidPassword(resetPasswordCommand.getNewPassword())) {
-                    user.setPassword(bCryptPasswordEncoder.encode(resetPasswordCommand.getNewPassword()));
-                    user.setResetPasswordCode(null);
-                    user.setCountOfResetPassword(0);
-                    user.setDateOfSendingResetPassword(null);
-                    user.setLastPasswordChange(new Date());
-                    user.setDateOfResetPassword(new Date());
-                    userRepository.save(user);
+                    if (userRepository.completePasswordReset(user.getId(), user.getResetPasswordCode(),
+                            bCryptPasswordEncoder.encode(resetPasswordCommand.getNewPassword()), new Date()) == 0) {
+                        throw createGeneralException(CODE_IS_NOT_VALID, HttpStatus.BAD_REQUEST, UiError.CODE_NOT_VALID);
+                    }
                     log.info("Password was reset for user: {} {}", user.getFirstName(), user.getLastName());
                 } else {
                     throw createGeneralException("New password is not valid", HttpStatus.BAD_REQUEST, UiError.PASSWORD_NOT_VALID);
@@ -324,7 +318,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         if (user.getCountOfResetPassword() == null) {
             return true;
         } else {
-            return user.getCountOfResetPassword() < Long.parseLong(configRepository.findByName(Configs.MAX_COUNT_OF_RESET_PASSWORD.name()).getValue());
+            return user.getCountOfResetPassword() < configCache.getMaxCountOfResetPassword();
         }
     }
 
@@ -334,16 +328,6 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         newUser.setLocked(false);
     }
 
-    private Integer incrementAndGet(User user) {
-        return user.getCountOfResetPassword() == null ? 1 : user.getCountOfResetPassword() + 1;
-    }
-
-    private String generateFileName(String filePrefix) {
-        DateFormat dateFormatter = new SimpleDateFormat(DATETIME_PATTERN_FOR_REPORT);
-        String currentDateTime = dateFormatter.format(new Date());
-        return filePrefix + currentDateTime + PDF_FORMAT;
-    }
-
     private String generateSecretPhrase() {
         return UUID.randomUUID().toString();
     }
@@ -0,0 +1,15 @@
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="UTF-8">
+    <meta content="width=device-width, initial-scale=1" name="viewport">
+    <title>${titleName}!</title>
+</head>
+<body style="font-family:arial, 'helvetica neue', helvetica, sans-serif;font-size:16px;line-height:24px;color:#333333">
+<p>Hello, ${firstName}!</p>
+<p>${reminderText}</p>
+<#if linkToLesson?has_content>
+<p><a href="${linkToLesson}" style="color:#121213">${linkToLesson}</a></p>
+</#if>
+</body>
+</html>
@@ -0,0 +1,84 @@
+package com.ua.javarush.mentor.audience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserIdBitmapTest {
+
+    @Test
+    void should_keep_ids_sorted_and_unique() {
+        UserIdBitmap bitmap = UserIdBitmap.of(70_000, 3, 3, 65_536, 1);
+
+        assertArrayEquals(new long[]{1, 3, 65_536, 70_000}, bitmap.toArray());
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.contains(65_536));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(-1));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    void should_answer_set_operations_like_sorted_sets() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Long> left = randomIds(random);
+            TreeSet<Long> right = randomIds(random);
+            UserIdBitmap leftBitmap = UserIdBitmap.of(left);
+            UserIdBitmap rightBitmap = UserIdBitmap.of(right);
+
+            TreeSet<Long> and = new TreeSet<>(left);
+            and.retainAll(right);
+            TreeSet<Long> or = new TreeSet<>(left);
+            or.addAll(right);
+            TreeSet<Long> andNot = new TreeSet<>(left);
+            andNot.removeAll(right);
+
+            assertArrayEquals(toArray(left), leftBitmap.toArray());
+            assertArrayEquals(toArray(and), leftBitmap.and(rightBitmap).toArray());
+            assertArrayEquals(toArray(or), leftBitmap.or(rightBitmap).toArray());
+            assertArrayEquals(toArray(andNot), leftBitmap.andNot(rightBitmap).toArray());
+            assertEquals(or.size(), leftBitmap.or(rightBitmap).cardinality());
+        }
+    }
+
+    @Test
+    void should_not_change_operands_when_result_is_changed() {
+        UserIdBitmap left = UserIdBitmap.of(1, 2);
+        UserIdBitmap right = UserIdBitmap.of(100_000);
+
+        UserIdBitmap union = left.or(right);
+        union.add(3);
+        union.add(100_001);
+
+        assertArrayEquals(new long[]{1, 2}, left.toArray());
+        assertArrayEquals(new long[]{100_000}, right.toArray());
+    }
+
+    /**
+     * Mixes sparse chunks, dense chunks above the array limit and chunks shared by both sets.
+     */
+    private TreeSet<Long> randomIds(Random random) {
+        TreeSet<Long> ids = new TreeSet<>();
+        int chunks = 1 + random.nextInt(4);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            long high = (long) random.nextInt(3) << 16;
+            int count = random.nextBoolean() ? random.nextInt(100) : 3000 + random.nextInt(30_000);
+            for (int i = 0; i < count; i++) {
+                ids.add(high | random.nextInt(65_536));
+            }
+        }
+        return ids;
+    }
+
+    private long[] toArray(TreeSet<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ua.javarush.mentor.cache;
+
+import com.ua.javarush.mentor.enums.Configs;
+import com.ua.javarush.mentor.enums.DataSets;
+import com.ua.javarush.mentor.persist.model.Config;
+import com.ua.javarush.mentor.persist.repository.ConfigRepository;
+import com.ua.javarush.mentor.persist.repository.DataVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConfigCacheTest {
+
+    private final ConfigRepository configRepository = mock(ConfigRepository.class);
+    private final DataVersionRepository dataVersionRepository = mock(DataVersionRepository.class);
+    private final ConfigCache configCache = new ConfigCache(configRepository, dataVersionRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void should_parse_configs_once() {
+        when(dataVersionRepository.findVersionByName(DataSets.CONFIG)).thenReturn(Optional.of(1L));
+        when(configRepository.findAll()).thenReturn(configs("30", "300", "3"));
+
+        configCache.load();
+
+        assertEquals(30, configCache.getTimeToConfirmEmail());
+        assertEquals(300, configCache.getTimeToResetPassword());
+        assertEquals(3, configCache.getMaxCountOfResetPassword());
+    }
+
+    @Test
+    void should_fail_load_on_malformed_or_missing_config() {
+        when(configRepository.findAll()).thenReturn(configs("30", "five", "3"));
+        assertThrows(IllegalStateException.class, configCache::load);
+
+        when(configRepository.findAll()).thenReturn(configs("30", "300", "0"));
+        assertThrows(IllegalStateException.class, configCache::load);
+
+        when(configRepository.findAll()).thenReturn(configs("30", "300", "3").subList(0, 2));
+        assertThrows(IllegalStateException.class, configCache::load);
+    }
+
+    @Test
+    void should_reload_on_change_and_keep_snapshot_when_malformed() {
+        when(dataVersionRepository.findVersionByName(DataSets.CONFIG)).thenReturn(Optional.of(1L));
+        when(configRepository.findAll()).thenReturn(configs("30", "300", "3"));
+        configCache.load();
+
+        when(dataVersionRepository.findVersionByName(DataSets.CONFIG)).thenReturn(Optional.of(2L));
+        when(configRepository.findAll()).thenReturn(configs("60", "300", "5"));
+        configCache.onDataChanged(new DataChangedEvent(Set.of(DataSets.CONFIG)));
+        assertEquals(60, configCache.getTimeToConfirmEmail());
+        assertEquals(5, configCache.getMaxCountOfResetPassword());
+
+        when(dataVersionRepository.findVersionByName(DataSets.CONFIG)).thenReturn(Optional.of(3L));
+        when(configRepository.findAll()).thenReturn(configs("-1", "300", "5"));
+        configCache.refresh();
+        assertEquals(60, configCache.getTimeToConfirmEmail());
+    }
+
+    private static List<Config> configs(String timeToConfirmEmail, String timeToResetPassword, String maxCountOfResetPassword) {
+        return List.of(config(Configs.TIME_TO_CONFIRM_EMAIL, timeToConfirmEmail),
+                config(Configs.TIME_TO_RESET_PASSWORD, timeToResetPassword),
+                config(Configs.MAX_COUNT_OF_RESET_PASSWORD, maxCountOfResetPassword));
+    }
+
+    private static Config config(Configs name, String value) {
+        Config config = new Config();
+        config.setName(name.name());
+        config.setValue(value);
+        return config;
+    }
+}
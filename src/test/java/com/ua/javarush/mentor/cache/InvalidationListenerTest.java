@@ -0,0 +1,81 @@
+package com.ua.javarush.mentor.cache;
+
+import com.ua.javarush.mentor.enums.DataSets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InvalidationListenerTest {
+
+    private static final long TIMEOUT_SECONDS = 15;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    Events events;
+
+    @Test
+    void should_publish_all_data_sets_on_connect_then_committed_changes() throws InterruptedException {
+        DataChangedEvent connected = events.await(event -> event.concerns(DataSets.USERS) && event.concerns(DataSets.PAYROLL));
+        assertNotNull(connected);
+        events.queue.clear();
+
+        jdbcTemplate.update("update config set value = value");
+
+        DataChangedEvent changed = events.await(event -> event.concerns(DataSets.CONFIG));
+        assertNotNull(changed);
+        assertTrue(changed.concerns(DataSets.CONFIG));
+        assertFalse(changed.concerns(DataSets.PAYROLL));
+        assertTrue(events.threads.stream().noneMatch("invalidation-listener"::equals));
+    }
+
+    @TestConfiguration
+    static class EventsConfig {
+
+        @Bean
+        Events events() {
+            return new Events();
+        }
+    }
+
+    static class Events {
+
+        private final BlockingQueue<DataChangedEvent> queue = new LinkedBlockingQueue<>();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @EventListener
+        public void onDataChanged(DataChangedEvent event) {
+            threads.add(Thread.currentThread().getName());
+            queue.add(event);
+        }
+
+        DataChangedEvent await(Predicate<DataChangedEvent> condition) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            DataChangedEvent event;
+            while ((event = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+                if (condition.test(event)) {
+                    return event;
+                }
+            }
+            return null;
+        }
+    }
+}
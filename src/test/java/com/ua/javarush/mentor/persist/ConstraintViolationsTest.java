@@ -0,0 +1,39 @@
+package com.ua.javarush.mentor.persist;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static com.ua.javarush.mentor.persist.ConstraintViolations.EXCLUSION_VIOLATION;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.UNIQUE_VIOLATION;
+import static com.ua.javarush.mentor.persist.ConstraintViolations.isViolation;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintViolationsTest {
+
+    @Test
+    void should_match_sql_state_and_constraint_of_the_cause() {
+        DataIntegrityViolationException exception = wrap(EXCLUSION_VIOLATION, "mentor_booking_no_overlap");
+
+        assertTrue(isViolation(exception, EXCLUSION_VIOLATION, "mentor_booking_no_overlap"));
+        assertFalse(isViolation(exception, UNIQUE_VIOLATION, "mentor_booking_no_overlap"));
+        assertFalse(isViolation(exception, EXCLUSION_VIOLATION, "user_email_key"));
+    }
+
+    @Test
+    void should_not_match_errors_without_a_server_message() {
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("rejected",
+                new SQLException("rejected", UNIQUE_VIOLATION));
+
+        assertFalse(isViolation(exception, UNIQUE_VIOLATION, "user_email_key"));
+    }
+
+    private static DataIntegrityViolationException wrap(String sqlState, String constraint) {
+        ServerErrorMessage serverError = new ServerErrorMessage("SERROR\0C" + sqlState + "\0Mrejected\0n" + constraint + "\0");
+        return new DataIntegrityViolationException("rejected", new PSQLException(serverError));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.enums.Configs;
+import com.ua.javarush.mentor.enums.DataSets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataVersionRepositoryTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    DataVersionRepository dataVersionRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void should_bump_version_once_per_transaction_at_commit() {
+        long before = version();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("update config set value = value");
+            jdbcTemplate.update("update config set value = value");
+            assertEquals(before, version());
+        });
+
+        assertEquals(before + 1, version());
+    }
+
+    @Test
+    void should_not_block_writers_of_the_same_data_set_until_commit() throws Exception {
+        long before = version();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> open = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.update("update config set value = value where name = ?", Configs.TIME_TO_CONFIRM_EMAIL.name());
+                written.countDown();
+                await(committed);
+            }));
+            await(written);
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.execute("set local lock_timeout = '" + TIMEOUT_SECONDS + "s'");
+                jdbcTemplate.update("update config set value = value where name = ?", Configs.TIME_TO_RESET_PASSWORD.name());
+            });
+            committed.countDown();
+            open.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            committed.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(before + 2, version());
+    }
+
+    private long version() {
+        return dataVersionRepository.findVersionByName(DataSets.CONFIG).orElse(0L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
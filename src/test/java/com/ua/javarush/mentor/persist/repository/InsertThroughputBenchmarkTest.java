@@ -0,0 +1,306 @@
+package com.ua.javarush.mentor.persist.repository;
+
+import com.ua.javarush.mentor.enums.DeviceType;
+import com.ua.javarush.mentor.enums.NotificationProvider;
+import com.ua.javarush.mentor.persist.model.IdAllocation;
+import com.ua.javarush.mentor.persist.model.LectureResult;
+import com.ua.javarush.mentor.persist.model.Notification;
+import com.ua.javarush.mentor.persist.model.RefreshSessions;
+import com.ua.javarush.mentor.persist.model.Role;
+import com.ua.javarush.mentor.persist.model.User;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares inserts with the settings before ids were allocated in blocks against the current ones. The old
+ * settings run on an entity manager factory of their own, over a pool of their own: ids from the entity sequences
+ * one nextval at a time ({@code hibernate.id.optimizer.pooled.preferred=none}, which forces an increment of 1),
+ * no JDBC batching and no rewriting of batched inserts by the driver. Notifications and refresh sessions are saved
+ * with {@code saveAllAndFlush} of their repositories. Lecture results are written the way submissions write them,
+ * ids allocated in one query and rows inserted in JDBC batches, as submissions of a few mentors to lectures on
+ * different days. Every run is rolled back; the tables written by the triggers of lecture results are vacuumed
+ * before each run, so a run does not pay for the rows rolled back before it. Excluded from the default build, run
+ * with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsertThroughputBenchmarkTest {
+
+    private static final int ROWS = 1000;
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 10;
+    private static final int MENTORS_PER_LECTURE = 10;
+    private static final int LECTURES = ROWS / MENTORS_PER_LECTURE;
+    private static final long FIXTURE_ID = 900_000_001L;
+    private static final String ALLOCATE_IDS_ONE_BY_ONE = "select nextval('lecture_result_seq') from generate_series(1, :count)";
+    private static final String VACUUM_LECTURE_RESULTS = "vacuum lecture_result, timetable_to_lecture_result, mentor_booking, " +
+            "payroll_rollup, attendance_rollup_pending";
+
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    RefreshSessionsRepository refreshSessionsRepository;
+    @Autowired
+    LectureResultRepository lectureResultRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    RoleRepository roleRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    HikariDataSource primaryDataSource;
+    @Autowired
+    JpaProperties jpaProperties;
+    @Autowired
+    HibernateProperties hibernateProperties;
+
+    private HikariDataSource rowByRowDataSource;
+    private LocalContainerEntityManagerFactoryBean rowByRowEntityManagerFactory;
+    private PlatformTransactionManager rowByRowTransactionManager;
+    private NotificationRepository rowByRowNotificationRepository;
+    private RefreshSessionsRepository rowByRowRefreshSessionsRepository;
+
+    @BeforeAll
+    void createRowByRowPersistenceUnit() {
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.copyStateTo(config);
+        config.setPoolName("row-by-row");
+        config.setMaximumPoolSize(2);
+        config.addDataSourceProperty("reWriteBatchedInserts", "false");
+        rowByRowDataSource = new HikariDataSource(config);
+
+        Map<String, Object> properties = hibernateProperties.determineHibernateProperties(jpaProperties.getProperties(),
+                new HibernateSettings().ddlAuto(() -> "none"));
+        properties.put("hibernate.id.optimizer.pooled.preferred", "none");
+        properties.put("hibernate.jdbc.batch_size", "0");
+        properties.put("hibernate.order_inserts", "false");
+        properties.put("hibernate.order_updates", "false");
+        rowByRowEntityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        rowByRowEntityManagerFactory.setPersistenceUnitName("row-by-row");
+        rowByRowEntityManagerFactory.setDataSource(rowByRowDataSource);
+        rowByRowEntityManagerFactory.setPackagesToScan(Notification.class.getPackageName());
+        rowByRowEntityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        rowByRowEntityManagerFactory.setJpaPropertyMap(properties);
+        rowByRowEntityManagerFactory.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = rowByRowEntityManagerFactory.getObject();
+        rowByRowTransactionManager = new JpaTransactionManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        rowByRowNotificationRepository = repositoryFactory.getRepository(NotificationRepository.class);
+        rowByRowRefreshSessionsRepository = repositoryFactory.getRepository(RefreshSessionsRepository.class);
+    }
+
+    @AfterAll
+    void closeRowByRowPersistenceUnit() {
+        rowByRowEntityManagerFactory.destroy();
+        rowByRowDataSource.close();
+    }
+
+    @Test
+    void measure_notification_inserts() {
+        List<Notification> saved = new TransactionTemplate(rowByRowTransactionManager).execute(status -> {
+            status.setRollbackOnly();
+            return rowByRowNotificationRepository.saveAllAndFlush(notifications().subList(0, 2));
+        });
+        assertEquals(IdAllocation.BLOCK_SIZE, saved.get(1).getId() - saved.get(0).getId(), "One nextval per id");
+
+        double before = measure(rowByRowTransactionManager,
+                () -> rowByRowNotificationRepository.saveAllAndFlush(notifications()));
+        double after = measure(transactionManager, () -> notificationRepository.saveAllAndFlush(notifications()));
+
+        print("Notification inserts", before, after);
+    }
+
+    @Test
+    void measure_refresh_session_inserts() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User user = transactionTemplate.execute(status -> userRepository.save(benchmarkUser(0)));
+        try {
+            double before = measure(rowByRowTransactionManager,
+                    () -> rowByRowRefreshSessionsRepository.saveAllAndFlush(refreshSessions(user)));
+            double after = measure(transactionManager, () -> refreshSessionsRepository.saveAllAndFlush(refreshSessions(user)));
+
+            print("Refresh session inserts", before, after);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(user.getId()));
+        }
+    }
+
+    @Test
+    void measure_lecture_result_inserts() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<User> mentors = transactionTemplate.execute(status -> userRepository.saveAll(IntStream.range(0, MENTORS_PER_LECTURE)
+                .mapToObj(this::benchmarkUser)
+                .collect(Collectors.toList())));
+        transactionTemplate.executeWithoutResult(status -> createTimetable());
+        try {
+            NamedParameterJdbcTemplate rowByRowJdbcTemplate = new NamedParameterJdbcTemplate(rowByRowDataSource);
+            LectureResultBatchRepositoryImpl rowByRowLectureResults = new LectureResultBatchRepositoryImpl(rowByRowJdbcTemplate);
+            Runnable vacuum = () -> jdbcTemplate.execute(VACUUM_LECTURE_RESULTS);
+            double before = measure(new DataSourceTransactionManager(rowByRowDataSource), vacuum, () -> {
+                for (long timetableId = FIXTURE_ID; timetableId < FIXTURE_ID + LECTURES; timetableId++) {
+                    rowByRowLectureResults.insertAll(timetableId, lectureResults(mentors, rowByRowJdbcTemplate.queryForList(
+                            ALLOCATE_IDS_ONE_BY_ONE, new MapSqlParameterSource("count", MENTORS_PER_LECTURE), Long.class)));
+                }
+            });
+            double after = measure(transactionManager, vacuum, () -> {
+                for (long timetableId = FIXTURE_ID; timetableId < FIXTURE_ID + LECTURES; timetableId++) {
+                    lectureResultRepository.insertAll(timetableId,
+                            lectureResults(mentors, lectureResultRepository.allocateIds(MENTORS_PER_LECTURE)));
+                }
+            });
+
+            print("Lecture result inserts", before, after);
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                deleteTimetable();
+                userRepository.deleteAllByIdInBatch(mentors.stream().map(User::getId).collect(Collectors.toList()));
+            });
+        }
+    }
+
+    private List<Notification> notifications() {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> Notification.builder()
+                        .notificationProvider(NotificationProvider.EMAIL)
+                        .data("benchmark " + i)
+                        .date(new Date())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<RefreshSessions> refreshSessions(User user) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> new RefreshSessions(user, UUID.randomUUID(), DeviceType.WEB, "benchmark " + i,
+                        Instant.now().plus(Duration.ofDays(30)), Instant.now()))
+                .collect(Collectors.toList());
+    }
+
+    private List<LectureResult> lectureResults(List<User> mentors, List<Long> ids) {
+        Iterator<Long> id = ids.iterator();
+        return mentors.stream()
+                .map(mentor -> {
+                    LectureResult result = new LectureResult();
+                    result.setId(id.next());
+                    result.setLectureId((int) FIXTURE_ID);
+                    result.setUserId(mentor.getId().intValue());
+                    result.setHoursInLecture(2);
+                    result.setIsUserLeading(false);
+                    result.setWasAtLecture(true);
+                    result.setOtherUserWasOnLecture(false);
+                    result.setOtherUserHoursOnLecture(0);
+                    return result;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void createTimetable() {
+        jdbcTemplate.update("insert into module (id, module_number, lecture_count, name, description, link_to_site) " +
+                "values (?, ?, 1, 'Benchmark', 'Benchmark', 'https://example.com')", FIXTURE_ID, FIXTURE_ID);
+        jdbcTemplate.update("insert into lecture (id, module_id, name, description, link_to_presentation, link_to_lesson, locale) " +
+                "values (?, ?, 'Benchmark', 'Benchmark', 'https://example.com', 'https://example.com', 'UA')", FIXTURE_ID, FIXTURE_ID);
+        jdbcTemplate.update("insert into \"group\" (id, name, date_created, slack_url, students_count_on_start, hours_per_lecture) " +
+                "values (?, 'Benchmark', now(), 'https://example.com', 10, 2)", FIXTURE_ID);
+        jdbcTemplate.update("insert into timetable (id, group_id, lecture_id, start_datetime, finish_datetime) " +
+                "select ? + i, ?, ?, now() + make_interval(days => i), now() + make_interval(days => i, hours => 2) " +
+                "from generate_series(0, ? - 1) i", FIXTURE_ID, FIXTURE_ID, FIXTURE_ID, LECTURES);
+    }
+
+    private void deleteTimetable() {
+        jdbcTemplate.update("delete from timetable where id between ? and ?", FIXTURE_ID, FIXTURE_ID + LECTURES - 1);
+        jdbcTemplate.update("delete from \"group\" where id = ?", FIXTURE_ID);
+        jdbcTemplate.update("delete from lecture where id = ?", FIXTURE_ID);
+        jdbcTemplate.update("delete from module where id = ?", FIXTURE_ID);
+    }
+
+    private User benchmarkUser(int number) {
+        Role role = roleRepository.findAll().get(0);
+        User user = new User();
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setCountry("UA");
+        user.setRegisteredAt(new Timestamp(System.currentTimeMillis()));
+        user.setSecretPhrase(UUID.randomUUID().toString());
+        user.setEmail("benchmark-" + UUID.randomUUID().toString().substring(0, 8) + "@mail.com");
+        user.setUsername("benchmark-" + number);
+        user.setPassword("benchmark");
+        user.setRoleId(role);
+        return user;
+    }
+
+    private double measure(PlatformTransactionManager transactionManager, Runnable work) {
+        return measure(transactionManager, () -> {
+        }, work);
+    }
+
+    /**
+     * Mean milliseconds of the work, every run in a transaction that is rolled back. The preparation runs before
+     * every run and is not timed.
+     */
+    private double measure(PlatformTransactionManager transactionManager, Runnable preparation, Runnable work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Runnable run = () -> transactionTemplate.executeWithoutResult(status -> {
+            work.run();
+            status.setRollbackOnly();
+        });
+        for (int i = 0; i < WARM_UP; i++) {
+            preparation.run();
+            run.run();
+        }
+        long nanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            preparation.run();
+            long start = System.nanoTime();
+            run.run();
+            nanos += System.nanoTime() - start;
+        }
+        return nanos / 1_000_000.0 / ITERATIONS;
+    }
+
+    private void print(String name, double beforeMillis, double afterMillis) {
+        System.out.printf("%s of %d rows: %.1f ms (%.0f rows/s) with the old settings, %.1f ms (%.0f rows/s) pooled and batched%n",
+                name, ROWS, beforeMillis, ROWS * 1000 / beforeMillis, afterMillis, ROWS * 1000 / afterMillis);
+    }
+}
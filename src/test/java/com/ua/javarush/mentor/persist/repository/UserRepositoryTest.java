@@ -22,7 +22,7 @@ class UserRepositoryTest {
     @Test
     void should_save_user() {
         Role newRole = new Role();
-        newRole.setName("ADMIN");
+        newRole.setName("REPOSITORY_TEST");
         Role role = roleRepository.save(newRole);
 
         User user = new User();
@@ -33,6 +33,9 @@ class UserRepositoryTest {
         user.setRegisteredAt(new Timestamp(System.currentTimeMillis()));
         user.setTelegramId(1L);
         user.setTelegramNickname("@johnsmith");
+        user.setUsername("johnsmith");
+        user.setEmail("john.smith@example.com");
+        user.setPassword("password");
         user.setSalaryPerHour(400);
         user.setSalaryCurrency("USD");
         user.setSecretPhrase("HelloAnton");
@@ -0,0 +1,63 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HoldTimingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Connection connection = mock(Connection.class);
+    private final HoldTimingDataSource dataSource;
+
+    HoldTimingDataSourceTest() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new HoldTimingDataSource(target, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void should_time_connection_by_endpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/user/{userId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        Connection held = dataSource.getConnection();
+        held.close();
+        held.close();
+
+        Timer timer = meterRegistry.find(HoldTimingDataSource.METRIC_NAME).tag("method", "GET").tag("uri", "/api/user/{userId}").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void should_tag_connections_outside_requests() throws Exception {
+        dataSource.getConnection().close();
+
+        Timer timer = meterRegistry.find(HoldTimingDataSource.METRIC_NAME).tag("method", "NONE").tag("uri", "NONE").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,169 @@
+package com.ua.javarush.mentor.persist.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Routes between two databases, Postgres containers unless {@code DB_PRIMARY_TEST} and {@code DB_REPLICA_TEST}
+ * name other ones. A database is told apart by its port and name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = System.getProperty("DB_PRIMARY_TEST", "jdbc:tc:postgresql:14:///routing-primary");
+    private static final String REPLICA_URL = System.getProperty("DB_REPLICA_TEST", "jdbc:tc:postgresql:14:///routing-replica");
+    private static final String USER = System.getProperty("DB_USER_TEST", "test");
+    private static final String PASSWORD = System.getProperty("DB_PASSWORD_TEST", "password");
+    private static final String IDENTITY = "select inet_server_port() || '/' || current_database()";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final DataSource primary = dataSource(PRIMARY_URL);
+    private final DataSource replica = dataSource(REPLICA_URL);
+    private final String primaryIdentity = new JdbcTemplate(primary).queryForObject(IDENTITY, String.class);
+    private final String replicaIdentity = new JdbcTemplate(replica).queryForObject(IDENTITY, String.class);
+    private final TaskDecorator taskDecorator = RoutingScope.taskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void should_send_only_marked_read_only_transactions_to_replica() {
+        assertNotEquals(primaryIdentity, replicaIdentity);
+        Routing routing = new Routing(List.of(replica));
+        startRequest();
+
+        assertEquals(replicaIdentity, routing.replicaRead());
+        assertEquals(primaryIdentity, routing.readOnly());
+        assertEquals(replicaIdentity, routing.replicaRead());
+    }
+
+    @Test
+    void should_keep_reads_of_request_on_primary_after_write() {
+        Routing routing = new Routing(List.of(replica));
+        startRequest();
+
+        assertEquals(replicaIdentity, routing.replicaRead());
+        assertEquals(primaryIdentity, routing.readWrite());
+        assertEquals(primaryIdentity, routing.replicaRead());
+
+        startRequest();
+        assertEquals(replicaIdentity, routing.replicaRead());
+    }
+
+    @Test
+    void should_fall_back_to_primary_when_replica_is_down() {
+        DataSource down = new DriverManagerDataSource("jdbc:postgresql://localhost:1/down", USER, PASSWORD);
+        Routing routing = new Routing(List.of(down, replica));
+        startRequest();
+
+        routing.dataSource.checkReplicas();
+
+        assertEquals(replicaIdentity, routing.replicaRead());
+        assertEquals(replicaIdentity, routing.replicaRead());
+
+        Routing onlyDown = new Routing(List.of(down));
+        assertEquals(primaryIdentity, onlyDown.replicaRead());
+    }
+
+    @Test
+    void should_read_from_primary_on_threads_without_scope() throws Exception {
+        Routing routing = new Routing(List.of(replica));
+
+        assertEquals(primaryIdentity, routing.replicaRead());
+        assertEquals(primaryIdentity, runOnOtherThread(routing::replicaRead, false));
+    }
+
+    @Test
+    void should_keep_tasks_of_request_on_primary_after_write() throws Exception {
+        Routing routing = new Routing(List.of(replica));
+        startRequest();
+
+        assertEquals(replicaIdentity, runOnOtherThread(routing::replicaRead, true));
+        assertEquals(primaryIdentity, runOnOtherThread(routing::readWrite, true));
+        assertEquals(primaryIdentity, runOnOtherThread(routing::replicaRead, true));
+        assertEquals(primaryIdentity, routing.replicaRead());
+    }
+
+    @Test
+    void should_pin_task_submitted_outside_request_after_its_write() throws Exception {
+        Routing routing = new Routing(List.of(replica));
+
+        String readAfterWrite = runOnOtherThread(() -> {
+            assertEquals(replicaIdentity, routing.replicaRead());
+            routing.readWrite();
+            return routing.replicaRead();
+        }, true);
+
+        assertEquals(primaryIdentity, readAfterWrite);
+        assertEquals(replicaIdentity, runOnOtherThread(routing::replicaRead, true));
+    }
+
+    private String runOnOtherThread(Supplier<String> read, boolean decorated) throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                result.complete(read.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+        Thread thread = new Thread(decorated ? taskDecorator.decorate(task) : task);
+        thread.start();
+        return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static DataSource dataSource(String url) {
+        return new DriverManagerDataSource(url, USER, PASSWORD);
+    }
+
+    private class Routing {
+
+        private final ReplicaRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSourceTransactionManager transactionManager;
+
+        private Routing(List<DataSource> replicas) {
+            dataSource = new ReplicaRoutingDataSource(primary, replicas, 5);
+            DataSource proxy = new LazyConnectionDataSourceProxy(dataSource);
+            jdbcTemplate = new JdbcTemplate(proxy);
+            transactionManager = new DataSourceTransactionManager(proxy);
+        }
+
+        private String replicaRead() {
+            return ReplicaRoutingDataSource.readFromReplica(this::readOnly);
+        }
+
+        private String readOnly() {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(IDENTITY, String.class));
+        }
+
+        private String readWrite() {
+            return new TransactionTemplate(transactionManager).execute(status -> jdbcTemplate.queryForObject(IDENTITY, String.class));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvReportExporterTest {
+
+    private static final ReportDefinition<String[]> DEFINITION = ReportDefinition.<String[]>builder("report.title")
+            .column("report.name", 1f, row -> row[0])
+            .column("report.comment", 1f, row -> row[1])
+            .build();
+
+    private CsvReportExporter csvReportExporter;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("report.name", AppLocale.EN.getLocaleObject(), "Name");
+        messageSource.addMessage("report.comment", AppLocale.EN.getLocaleObject(), "Comment");
+        csvReportExporter = new CsvReportExporter(messageSource);
+    }
+
+    @Test
+    void should_write_header_and_escape_values() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        csvReportExporter.export(outputStream, DEFINITION, Stream.of(
+                new String[]{"John", "plain"},
+                new String[]{"Smith, Jr.", "said \"hi\""},
+                new String[]{"=SUM(A1)", null},
+                new String[]{"\t=1+2", "\r=1+2"}), AppLocale.EN);
+
+        assertEquals("\uFEFFName,Comment\r\n"
+                + "John,plain\r\n"
+                + "\"Smith, Jr.\",\"said \"\"hi\"\"\"\r\n"
+                + "'=SUM(A1),\r\n"
+                + "'\t=1+2,\"'\r=1+2\"\r\n", outputStream.toString(UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ua.javarush.mentor.reports;
+
+import com.lowagie.text.pdf.BaseFont;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FontRegistryTest {
+
+    @Test
+    void should_load_default_fonts_with_cyrillic_glyphs() {
+        FontRegistry fontRegistry = new FontRegistry(FontRegistry.DEFAULT_REGULAR_FONT, FontRegistry.DEFAULT_BOLD_FONT);
+
+        BaseFont regular = fontRegistry.regular(10f, Color.BLACK).getBaseFont();
+        BaseFont bold = fontRegistry.bold(10f, Color.BLACK).getBaseFont();
+
+        assertEquals("LiberationSans", regular.getPostscriptFontName());
+        assertEquals("LiberationSans-Bold", bold.getPostscriptFontName());
+        assertTrue(regular.charExists('Ї'));
+        assertTrue(bold.charExists('Ї'));
+    }
+}
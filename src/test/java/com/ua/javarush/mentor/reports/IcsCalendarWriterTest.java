@@ -0,0 +1,100 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.persist.repository.CalendarFeedRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IcsCalendarWriterTest {
+
+    private final IcsCalendarWriter icsCalendarWriter = new IcsCalendarWriter();
+
+    @Test
+    void should_write_events_in_utc_with_escaped_text() throws Exception {
+        Instant start = Instant.parse("2022-09-05T16:00:00Z");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        icsCalendarWriter.write(outputStream, "Group 1", start, Stream.of(
+                new Row(7L, start, start.plusSeconds(7200), "Lists, maps; sets", "https://example.com/7")));
+
+        String feed = outputStream.toString(UTF_8);
+        assertTrue(feed.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(feed.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(feed.contains("UID:timetable-7@mentor-helper\r\n"));
+        assertTrue(feed.contains("DTSTART:20220905T160000Z\r\n"));
+        assertTrue(feed.contains("DTEND:20220905T180000Z\r\n"));
+        assertTrue(feed.contains("SUMMARY:Lists\\, maps\\; sets\r\n"));
+    }
+
+    @Test
+    void should_fold_long_lines_without_splitting_characters() throws Exception {
+        String name = "Лекція ".repeat(20);
+        StringWriter writer = new StringWriter();
+        IcsCalendarWriter.writeLine(writer, "SUMMARY:" + name);
+
+        String[] lines = writer.toString().split("\r\n");
+        StringBuilder unfolded = new StringBuilder(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].startsWith(" "));
+            unfolded.append(lines[i].substring(1));
+        }
+        for (String line : lines) {
+            assertTrue(line.getBytes(UTF_8).length <= 75);
+        }
+        assertEquals("SUMMARY:" + name, unfolded.toString());
+    }
+
+    private static class Row implements CalendarFeedRow {
+
+        private final Long timetableId;
+        private final Instant startDateTime;
+        private final Instant finishDateTime;
+        private final String lectureName;
+        private final String linkToLesson;
+
+        private Row(Long timetableId, Instant startDateTime, Instant finishDateTime,
+                    String lectureName, String linkToLesson) {
+            this.timetableId = timetableId;
+            this.startDateTime = startDateTime;
+            this.finishDateTime = finishDateTime;
+            this.lectureName = lectureName;
+            this.linkToLesson = linkToLesson;
+        }
+
+        @Override
+        public Long getTimetableId() {
+            return timetableId;
+        }
+
+        @Override
+        public Integer getGroupId() {
+            return 1;
+        }
+
+        @Override
+        public Instant getStartDateTime() {
+            return startDateTime;
+        }
+
+        @Override
+        public Instant getFinishDateTime() {
+            return finishDateTime;
+        }
+
+        @Override
+        public String getLectureName() {
+            return lectureName;
+        }
+
+        @Override
+        public String getLinkToLesson() {
+            return linkToLesson;
+        }
+    }
+}
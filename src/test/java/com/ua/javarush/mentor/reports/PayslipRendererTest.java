@@ -0,0 +1,72 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.dto.PayrollDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayslipRendererTest {
+
+    private static final int THREADS = 4;
+    private static final int PAYSLIPS = 40;
+
+    private PayslipRenderer payslipRenderer;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        messageSource.addMessage("payslip.title", AppLocale.UA.getLocaleObject(), "Розрахунковий лист");
+        payslipRenderer = new PayslipRenderer(messageSource, new FontRegistry(
+                FontRegistry.DEFAULT_REGULAR_FONT, FontRegistry.DEFAULT_BOLD_FONT));
+    }
+
+    @Test
+    void should_render_complete_payslips_on_several_threads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<byte[]>> payslips = new ArrayList<>();
+            for (long userId = 1; userId <= PAYSLIPS; userId++) {
+                PayrollDTO payroll = payroll(userId);
+                payslips.add(executor.submit(() -> payslipRenderer.render(payroll, AppLocale.UA)));
+            }
+            for (Future<byte[]> payslip : payslips) {
+                String pdf = new String(payslip.get(), ISO_8859_1);
+                assertTrue(pdf.startsWith("%PDF"));
+                assertTrue(pdf.trim().endsWith("%%EOF"));
+                assertTrue(pdf.contains("/Identity-H"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PayrollDTO payroll(long userId) {
+        return PayrollDTO.builder()
+                .period(LocalDate.of(2022, 9, 1))
+                .userId(userId)
+                .firstName("Тарас")
+                .lastName("Їжак")
+                .lectureCount(12)
+                .leadingHours(20L)
+                .assistingHours(4L)
+                .substitutedHours(2L)
+                .paidHours(22L)
+                .salaryCurrency("UAH")
+                .amount(220L)
+                .calculatedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the cost of one PDF export with the shared {@link FontRegistry} against parsing the
+ * font for every export. Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class PdfFontBenchmarkTest {
+
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+    private static final int ROWS = 50;
+
+    private static final ReportDefinition<String> DEFINITION = ReportDefinition.<String>builder("report.title")
+            .column("report.name", 1f, row -> row)
+            .build();
+
+    @Test
+    void measure_export_cost() throws IOException {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("report.title", AppLocale.UA.getLocaleObject(), "Звіт");
+        messageSource.addMessage("report.name", AppLocale.UA.getLocaleObject(), "Ім'я");
+        List<String> rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> "Тарас Шевченко " + i)
+                .collect(Collectors.toList());
+
+        PdfReportExporter sharedFonts = new PdfReportExporter(messageSource, fontRegistry());
+        double sharedMicros = measure(() -> sharedFonts.export(OutputStream.nullOutputStream(), DEFINITION, rows.stream(), AppLocale.UA));
+        double perExportMicros = measure(() -> {
+            PdfReportExporter exporter = new PdfReportExporter(messageSource, fontRegistry());
+            exporter.export(OutputStream.nullOutputStream(), DEFINITION, rows.stream(), AppLocale.UA);
+        });
+
+        System.out.printf("PDF export with shared fonts: %.1f us, with fonts parsed per export: %.1f us%n", sharedMicros, perExportMicros);
+    }
+
+    private static FontRegistry fontRegistry() {
+        return new FontRegistry(FontRegistry.DEFAULT_REGULAR_FONT, FontRegistry.DEFAULT_BOLD_FONT);
+    }
+
+    private double measure(Export export) throws IOException {
+        for (int i = 0; i < WARM_UP; i++) {
+            export.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            export.run();
+        }
+        return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+    }
+
+    private interface Export {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ua.javarush.mentor.reports;
+
+import com.ua.javarush.mentor.enums.AppLocale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfReportExporterTest {
+
+    private static final ReportDefinition<String> DEFINITION = ReportDefinition.<String>builder("report.title")
+            .column("report.name", 1f, row -> row)
+            .build();
+    private static final int MAX_SUBSET_REPORT_SIZE = 100 * 1024;
+
+    private PdfReportExporter pdfReportExporter;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("report.title", AppLocale.UA.getLocaleObject(), "Звіт");
+        messageSource.addMessage("report.name", AppLocale.UA.getLocaleObject(), "Ім'я");
+        pdfReportExporter = new PdfReportExporter(messageSource, new FontRegistry(
+                FontRegistry.DEFAULT_REGULAR_FONT, FontRegistry.DEFAULT_BOLD_FONT));
+    }
+
+    @Test
+    void should_embed_font_subset_for_cyrillic_text() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        pdfReportExporter.export(outputStream, DEFINITION,
+                Stream.of("Тарас", "Їжак"), AppLocale.UA);
+
+        String pdf = new String(outputStream.toByteArray(), ISO_8859_1);
+        assertTrue(pdf.contains("/Identity-H"));
+        assertTrue(pdf.matches("(?s).*/[A-Z]{6}\\+LiberationSans.*"));
+        assertTrue(outputStream.size() < MAX_SUBSET_REPORT_SIZE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ua.javarush.mentor.roster;
+
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RosterCsvReaderTest {
+
+    @Test
+    void should_read_columns_by_header_in_any_order() throws Exception {
+        List<RosterRow> rows = read("\uFEFFEmail,First Name,last_name,USERNAME,country\r\n" +
+                "ann@mail.com,Ann,Lee,ann,Ukraine\r\n" +
+                "\r\n" +
+                "bob@mail.com , Bob ,Stone,bob,Poland");
+
+        assertEquals(2, rows.size());
+        RosterRow ann = rows.get(0);
+        assertEquals(2, ann.getLineNumber());
+        assertEquals("ann@mail.com", ann.getEmail());
+        assertEquals("Ann", ann.getFirstName());
+        assertEquals("Lee", ann.getLastName());
+        assertEquals("ann", ann.getUsername());
+        assertEquals("Ukraine", ann.getCountry());
+        assertNull(ann.getPassword());
+        assertNull(ann.getTelegramNickname());
+        RosterRow bob = rows.get(1);
+        assertEquals(4, bob.getLineNumber());
+        assertEquals("bob@mail.com", bob.getEmail());
+        assertEquals("Bob", bob.getFirstName());
+    }
+
+    @Test
+    void should_read_quoted_values() throws Exception {
+        List<RosterRow> rows = read("first_name,last_name,email,username,country,telegram_nickname\n" +
+                "Ann,Lee,ann@mail.com,ann,Ukraine,\"@ann, \"\"the\"\"\nlee\"\n" +
+                "Bob,Stone,bob@mail.com,bob,Poland,\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("@ann, \"the\"\nlee", rows.get(0).getTelegramNickname());
+        assertNull(rows.get(1).getTelegramNickname());
+        assertEquals(4, rows.get(1).getLineNumber());
+    }
+
+    @Test
+    void should_reject_bad_header_and_rows() {
+        assertThrows(GeneralException.class, () -> read(""));
+        assertThrows(GeneralException.class, () -> read("first_name,last_name,email,username\n"));
+        assertThrows(GeneralException.class, () -> read("first_name,last_name,email,username,country,phone\n"));
+        assertThrows(GeneralException.class, () -> read("first_name,last_name,email,username,country,email\n"));
+        assertThrows(GeneralException.class, () -> read("first_name,last_name,email,username,country\n" +
+                "Ann,Lee,ann@mail.com,ann,Ukraine,extra\n"));
+        GeneralException e = assertThrows(GeneralException.class, () -> read("first_name,last_name,email,username,country\n" +
+                "Ann,Lee,ann@mail.com,ann,Ukraine\n" +
+                "Bob,\"Stone,bob@mail.com,bob,Poland\n"));
+        assertTrue(e.getMessage().startsWith("Line 3"));
+    }
+
+    private static List<RosterRow> read(String csv) throws IOException, GeneralException {
+        RosterCsvReader reader = new RosterCsvReader(new StringReader(csv));
+        List<RosterRow> rows = new ArrayList<>();
+        RosterRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ua.javarush.mentor.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    private static final Instant START = Instant.parse("2022-09-05T00:00:00Z");
+
+    @Test
+    void should_fire_tasks_on_the_first_tick_after_their_deadline() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 8, START);
+        wheel.schedule("past", START.minusSeconds(60));
+        wheel.schedule("soon", START.plusMillis(1500));
+        wheel.schedule("later", START.plusSeconds(20));
+
+        assertEquals(List.of("past"), wheel.advance(START));
+        assertTrue(wheel.advance(START.plusMillis(1999)).isEmpty());
+        assertEquals(List.of("soon"), wheel.advance(START.plusSeconds(2)));
+        assertTrue(wheel.advance(START.plusMillis(19999)).isEmpty());
+        assertEquals(List.of("later"), wheel.advance(START.plusSeconds(20)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void should_keep_many_tasks_over_several_turns_of_the_wheel() {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(1000, 16, START);
+        int tasks = 100_000;
+        for (int i = 0; i < tasks; i++) {
+            wheel.schedule(i, START.plusMillis(i * 7L % 600_000));
+        }
+        assertEquals(tasks, wheel.size());
+
+        int fired = 0;
+        for (long millis = 0; millis <= 600_000; millis += 2500) {
+            Instant now = START.plusMillis(millis);
+            for (Integer task : wheel.advance(now)) {
+                assertTrue(!START.plusMillis(task * 7L % 600_000).isAfter(now));
+                fired++;
+            }
+        }
+        assertEquals(tasks, fired);
+        assertEquals(0, wheel.size());
+    }
+}
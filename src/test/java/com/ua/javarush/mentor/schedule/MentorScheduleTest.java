@@ -0,0 +1,61 @@
+package com.ua.javarush.mentor.schedule;
+
+import com.ua.javarush.mentor.persist.model.MentorBooking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MentorScheduleTest {
+
+    private static final Instant DAY = Instant.parse("2022-09-05T00:00:00Z");
+
+    private MentorSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new MentorSchedule(List.of(
+                booking(1L, 10, 12),
+                booking(2L, 14, 16),
+                booking(3L, 18, 20)));
+    }
+
+    @Test
+    void should_find_free_slots_between_and_touching_bookings() {
+        assertTrue(schedule.isFree(hour(8), hour(10)));
+        assertTrue(schedule.isFree(hour(12), hour(14)));
+        assertTrue(schedule.isFree(hour(20), hour(22)));
+    }
+
+    @Test
+    void should_find_overlapping_bookings() {
+        assertFalse(schedule.isFree(hour(11), hour(13)));
+        assertFalse(schedule.isFree(hour(15), hour(15).plusSeconds(60)));
+        assertEquals(1L, schedule.findOverlap(hour(9), hour(11)).orElseThrow().getTimetableId());
+
+        List<MentorBooking> overlaps = schedule.findOverlaps(hour(11), hour(19));
+        assertEquals(List.of(1L, 2L, 3L), overlaps.stream().map(MentorBooking::getTimetableId).collect(Collectors.toList()));
+        assertTrue(schedule.findOverlaps(hour(12), hour(14)).isEmpty());
+    }
+
+    private static MentorBooking booking(Long timetableId, int startHour, int finishHour) {
+        MentorBooking booking = new MentorBooking();
+        booking.setTimetableId(timetableId);
+        booking.setLectureResultId(timetableId);
+        booking.setUserId(1L);
+        booking.setGroupId(1L);
+        booking.setStartDateTime(hour(startHour));
+        booking.setFinishDateTime(hour(finishHour));
+        return booking;
+    }
+
+    private static Instant hour(int hour) {
+        return DAY.plusSeconds(hour * 3600L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.GroupAttendanceDTO;
+import com.ua.javarush.mentor.dto.MentorAttendanceDTO;
+import com.ua.javarush.mentor.dto.ModuleRetentionDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.services.AnalyticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AnalyticsServiceImplTest {
+
+    private static final long USER_ID = 900_001L;
+    private static final long MODULE_ID = 900_001L;
+    private static final long LECTURE_ID = 900_001L;
+    private static final long GROUP_ID = 900_001L;
+    private static final long HELD_TIMETABLE_ID = 900_001L;
+    private static final long PLANNED_TIMETABLE_ID = 900_002L;
+    private static final long RESULT_ID = 900_001L;
+    private static final LocalDate WEEK = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    AnalyticsService analyticsService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into \"user\" (id, first_name, last_name, country, registered_at, secret_phrase, role_id, " +
+                "email, username, password) values (?, 'John', 'Smith', 'Ukraine', now(), 'phrase', 2, 'rollup@example.com', " +
+                "'rollup', 'password')", USER_ID);
+        jdbcTemplate.update("insert into module (id, lecture_count, name, description, link_to_site, module_number) " +
+                "values (?, 10, 'Rollup', '', '', 900)", MODULE_ID);
+        jdbcTemplate.update("insert into lecture (id, name, description, link_to_presentation, link_to_lesson, locale, module_id) " +
+                "values (?, 'Rollup', '', '', '', 'ua', ?)", LECTURE_ID, MODULE_ID);
+        jdbcTemplate.update("insert into \"group\" (id, name, date_created, date_started, slack_url, students_count_on_start, " +
+                "hours_per_lecture) values (?, 'rollup', now(), now(), '', 20, 2)", GROUP_ID);
+        insertTimetable(HELD_TIMETABLE_ID, "2026-03-03 19:00+02");
+        insertTimetable(PLANNED_TIMETABLE_ID, "2026-03-05 19:00+02");
+        jdbcTemplate.update("insert into lecture_result (id, lecture_id, user_id, hours_in_lecture, is_user_leading, " +
+                "was_at_lecture, other_user_was_on_lecture, other_user_hours_on_lecture) " +
+                "values (?, ?, ?, 2, true, true, false, 0)", RESULT_ID, LECTURE_ID, USER_ID);
+        jdbcTemplate.update("insert into timetable_to_lecture_result (timetable_id, lecture_result_id) values (?, ?)",
+                HELD_TIMETABLE_ID, RESULT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from timetable_to_lecture_result where lecture_result_id = ?", RESULT_ID);
+        jdbcTemplate.update("delete from lecture_result where id = ?", RESULT_ID);
+        jdbcTemplate.update("delete from timetable where group_id = ?", GROUP_ID);
+        jdbcTemplate.update("delete from \"group\" where id = ?", GROUP_ID);
+        jdbcTemplate.update("delete from lecture where id = ?", LECTURE_ID);
+        jdbcTemplate.update("delete from module where id = ?", MODULE_ID);
+        jdbcTemplate.update("delete from \"user\" where id = ?", USER_ID);
+    }
+
+    @Test
+    void should_roll_up_committed_lectures_and_results() throws GeneralException {
+        GroupAttendanceDTO group = groupWeek();
+        assertEquals(2L, group.getLectureCount());
+        assertEquals(1L, group.getHeldCount());
+        assertEquals(1L, group.getAttendedCount());
+        assertEquals(2L, group.getMentorHours());
+
+        MentorAttendanceDTO mentor = mentorWeek().get(0);
+        assertEquals(1L, mentor.getResultCount());
+        assertEquals(1L, mentor.getLeadingCount());
+        assertEquals(2L, mentor.getHours());
+
+        assertEquals(1L, module().getGroupCount());
+        assertEquals(20L, module().getStudentsOnStart());
+    }
+
+    @Test
+    void should_recompute_changed_keys_only() throws GeneralException {
+        jdbcTemplate.update("update lecture_result set was_at_lecture = false where id = ?", RESULT_ID);
+
+        assertEquals(0L, groupWeek().getAttendedCount());
+        assertEquals(0L, mentorWeek().get(0).getAttendedCount());
+
+        jdbcTemplate.update("update timetable set start_datetime = start_datetime + interval '7 days', " +
+                "finish_datetime = finish_datetime + interval '7 days' where id = ?", HELD_TIMETABLE_ID);
+
+        assertEquals(1L, groupWeek().getLectureCount());
+        assertEquals(0L, groupWeek().getHeldCount());
+        assertEquals(WEEK.plusWeeks(1), mentorWeek().get(0).getWeek());
+
+        jdbcTemplate.update("delete from timetable_to_lecture_result where lecture_result_id = ?", RESULT_ID);
+
+        assertTrue(mentorWeek().isEmpty());
+        assertEquals(0L, module().getGroupCount());
+    }
+
+    private void insertTimetable(long id, String start) {
+        jdbcTemplate.update("insert into timetable (id, group_id, lecture_id, start_datetime, finish_datetime) " +
+                "values (?, ?, ?, cast(? as timestamptz), cast(? as timestamptz) + interval '2 hours')",
+                id, GROUP_ID, LECTURE_ID, start, start);
+    }
+
+    private GroupAttendanceDTO groupWeek() throws GeneralException {
+        return analyticsService.getGroupAttendance(GROUP_ID, WEEK, WEEK).get(0);
+    }
+
+    private List<MentorAttendanceDTO> mentorWeek() throws GeneralException {
+        return analyticsService.getMentorAttendance(USER_ID, WEEK, WEEK.plusWeeks(1));
+    }
+
+    private ModuleRetentionDTO module() {
+        return analyticsService.getModuleRetention().stream()
+                .filter(module -> module.getModuleId() == MODULE_ID)
+                .findFirst()
+                .orElseThrow();
+    }
+}
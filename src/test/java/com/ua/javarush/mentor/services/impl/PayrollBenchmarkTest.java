@@ -0,0 +1,117 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.services.PayrollService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures the calculation of a month with {@value #MENTORS} mentors and {@value #MENTORS} x {@value #LECTURES}
+ * lecture results, and the rebuild of the rollup it reads, which aggregates all lecture results. Every run is
+ * rolled back. Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class PayrollBenchmarkTest {
+
+    private static final int MENTORS = 2000;
+    private static final int LECTURES = 10;
+    private static final long FIRST_ID = 800_000L;
+    private static final int YEAR = 2026;
+    private static final int MONTH = 3;
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    PayrollService payrollService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into \"user\" (id, first_name, last_name, country, registered_at, secret_phrase, " +
+                    "role_id, email, username, password, salary_per_hour) " +
+                    "select ? + i, 'Bench', 'Mark', 'Ukraine', now(), 'phrase', 2, 'payroll-benchmark-' || i || '@example.com', " +
+                    "'benchmark', 'benchmark', 10 from generate_series(1, ?) i", FIRST_ID, MENTORS);
+            jdbcTemplate.update("insert into module (id, lecture_count, name, description, link_to_site, module_number) " +
+                    "values (?, ?, 'Benchmark', '', '', 800)", FIRST_ID, LECTURES);
+            jdbcTemplate.update("insert into lecture (id, name, description, link_to_presentation, link_to_lesson, locale, module_id) " +
+                    "values (?, 'Benchmark', '', '', '', 'ua', ?)", FIRST_ID, FIRST_ID);
+            jdbcTemplate.update("insert into \"group\" (id, name, date_created, date_started, slack_url, students_count_on_start, " +
+                    "hours_per_lecture) values (?, 'benchmark', now(), now(), '', 0, 2)", FIRST_ID);
+            jdbcTemplate.update("insert into timetable (id, group_id, lecture_id, start_datetime, finish_datetime) " +
+                    "select ? + k, ?, ?, timestamptz '2026-03-02 19:00+02' + k * interval '1 day', " +
+                    "timestamptz '2026-03-02 21:00+02' + k * interval '1 day' from generate_series(1, ?) k",
+                    FIRST_ID, FIRST_ID, FIRST_ID, LECTURES);
+            jdbcTemplate.update("insert into lecture_result (id, lecture_id, user_id, hours_in_lecture, is_user_leading, " +
+                    "was_at_lecture, other_user_was_on_lecture, other_user_hours_on_lecture, salary_per_hour, salary_currency) " +
+                    "select ? + (i - 1) * ? + k, ?, ? + i, 2, k % 2 = 0, true, false, 0, 10, 'UAH' " +
+                    "from generate_series(1, ?) i cross join generate_series(1, ?) k",
+                    FIRST_ID, LECTURES, FIRST_ID, FIRST_ID, MENTORS, LECTURES);
+            jdbcTemplate.update("insert into timetable_to_lecture_result (timetable_id, lecture_result_id) " +
+                    "select ? + k, ? + (i - 1) * ? + k from generate_series(1, ?) i cross join generate_series(1, ?) k",
+                    FIRST_ID, FIRST_ID, LECTURES, MENTORS, LECTURES);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from timetable_to_lecture_result where timetable_id in (select id from timetable where group_id = ?)", FIRST_ID);
+            jdbcTemplate.update("delete from lecture_result where lecture_id = ?", FIRST_ID);
+            jdbcTemplate.update("delete from timetable where group_id = ?", FIRST_ID);
+            jdbcTemplate.update("delete from \"group\" where id = ?", FIRST_ID);
+            jdbcTemplate.update("delete from lecture where id = ?", FIRST_ID);
+            jdbcTemplate.update("delete from module where id = ?", FIRST_ID);
+            jdbcTemplate.update("delete from \"user\" where id > ? and id <= ?", FIRST_ID, FIRST_ID + MENTORS);
+        });
+    }
+
+    @Test
+    void measure_payroll_calculation() {
+        double calculate = measure(() -> {
+            try {
+                assertEquals(MENTORS, payrollService.calculate(YEAR, MONTH).getMentorCount());
+            } catch (GeneralException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        double rebuild = measure(payrollService::rebuildRollup);
+
+        System.out.printf("Payroll of %d mentors and %d lecture results: calculation %.1f ms, rollup rebuild %.1f ms%n",
+                MENTORS, MENTORS * LECTURES, calculate, rebuild);
+    }
+
+    /**
+     * Mean milliseconds of the work, every run in a transaction that is rolled back.
+     */
+    private double measure(Runnable work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Runnable run = () -> transactionTemplate.executeWithoutResult(status -> {
+            work.run();
+            status.setRollbackOnly();
+        });
+        for (int i = 0; i < WARM_UP; i++) {
+            run.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
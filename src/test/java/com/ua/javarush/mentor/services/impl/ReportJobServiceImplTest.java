@@ -0,0 +1,82 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.dto.ReportJobDTO;
+import com.ua.javarush.mentor.enums.AppLocale;
+import com.ua.javarush.mentor.enums.ReportFormat;
+import com.ua.javarush.mentor.enums.ReportJobStatus;
+import com.ua.javarush.mentor.enums.ReportType;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.reports.ReportJob;
+import com.ua.javarush.mentor.reports.ReportTask;
+import com.ua.javarush.mentor.services.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Path;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ReportJobServiceImplTest {
+
+    private static final String CACHE_KEY = "salaries_csv_en";
+    private static final Principal ALICE = () -> "alice";
+    private static final Principal BOB = () -> "bob";
+    private static final ReportTask TASK = (outputStream, job) -> {
+        outputStream.write(1);
+        return 1L;
+    };
+
+    @TempDir
+    Path cacheDir;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private ReportJobServiceImpl reportJobService;
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobServiceImpl(mock(ReportService.class), queued::add, cacheDir.toString(), 60, 24);
+    }
+
+    @Test
+    void should_hide_job_from_other_users() throws GeneralException {
+        ReportJobDTO job = reportJobService.submit(newJob(ALICE), CACHE_KEY, 1L, TASK);
+        queued.forEach(Runnable::run);
+
+        assertEquals(ReportJobStatus.DONE, reportJobService.getJob(job.getId(), ALICE).getStatus());
+        assertEquals(job.getId(), reportJobService.fetchCompletedJob(job.getId(), ALICE).getId());
+
+        assertNotFound(() -> reportJobService.getJob(job.getId(), BOB));
+        assertNotFound(() -> reportJobService.fetchCompletedJob(job.getId(), BOB));
+    }
+
+    @Test
+    void should_share_rendering_job_with_user_submitting_same_report() throws GeneralException {
+        ReportJobDTO aliceJob = reportJobService.submit(newJob(ALICE), CACHE_KEY, 1L, TASK);
+        ReportJobDTO bobJob = reportJobService.submit(newJob(BOB), CACHE_KEY, 1L, TASK);
+        queued.forEach(Runnable::run);
+
+        assertEquals(aliceJob.getId(), bobJob.getId());
+        assertEquals(1, queued.size());
+        assertEquals(ReportJobStatus.DONE, reportJobService.getJob(bobJob.getId(), BOB).getStatus());
+
+        ReportJobDTO cachedJob = reportJobService.submit(newJob(BOB), CACHE_KEY, 1L, TASK);
+        assertNotFound(() -> reportJobService.getJob(cachedJob.getId(), ALICE));
+    }
+
+    private static ReportJob newJob(Principal principal) {
+        return new ReportJob(ReportType.SALARIES, ReportFormat.CSV, AppLocale.EN, "salaries.csv", principal.getName());
+    }
+
+    private static void assertNotFound(Executable executable) {
+        GeneralException exception = assertThrows(GeneralException.class, executable);
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+}
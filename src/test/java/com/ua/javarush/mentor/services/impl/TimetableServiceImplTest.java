@@ -0,0 +1,83 @@
+package com.ua.javarush.mentor.services.impl;
+
+import com.ua.javarush.mentor.command.TimetableGenerationCommand;
+import com.ua.javarush.mentor.dto.TimetableGenerationDTO;
+import com.ua.javarush.mentor.exceptions.GeneralException;
+import com.ua.javarush.mentor.persist.repository.TimeTableRepository;
+import com.ua.javarush.mentor.services.TimetableService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TimetableServiceImplTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    TimeTableRepository timeTableRepository;
+    @Autowired
+    TimetableService timetableService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final List<Long> groupIds = new ArrayList<>();
+    private MethodInterceptor awaitAfterGenerate;
+
+    @AfterEach
+    void tearDown() {
+        ((Advised) timeTableRepository).removeAdvice(awaitAfterGenerate);
+        for (Long groupId : groupIds) {
+            jdbcTemplate.update("delete from timetable where group_id = ?", groupId);
+            jdbcTemplate.update("delete from \"group\" where id = ?", groupId);
+        }
+    }
+
+    /**
+     * Every group waits for the other one after writing its timetable and before its commit, so the
+     * generation only completes when the transactions of both groups are open at the same time.
+     */
+    @Test
+    void should_generate_groups_concurrently() throws GeneralException {
+        groupIds.add(createGroup("concurrent-1"));
+        groupIds.add(createGroup("concurrent-2"));
+        CyclicBarrier barrier = new CyclicBarrier(groupIds.size());
+        awaitAfterGenerate = invocation -> {
+            Object result = invocation.proceed();
+            if ("generate".equals(invocation.getMethod().getName())) {
+                barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            return result;
+        };
+        ((Advised) timeTableRepository).addAdvice(0, awaitAfterGenerate);
+
+        TimetableGenerationCommand command = new TimetableGenerationCommand();
+        command.setGroupIds(groupIds);
+        command.setLectureLocale("ua");
+        command.setStartTime(LocalTime.of(19, 0));
+        List<TimetableGenerationDTO> result = timetableService.generate(command);
+
+        assertEquals(groupIds, result.stream().map(TimetableGenerationDTO::getGroupId).collect(Collectors.toList()));
+    }
+
+    private Long createGroup(String name) {
+        return jdbcTemplate.queryForObject("insert into \"group\" (id, name, date_created, date_started, slack_url, " +
+                "students_count_on_start, hours_per_lecture) values (nextval('group_seq'), ?, now(), now(), '', 0, 2) " +
+                "returning id", Long.class, name);
+    }
+}
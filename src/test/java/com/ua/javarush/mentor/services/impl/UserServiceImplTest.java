@@ -8,6 +8,7 @@ import com.ua.javarush.mentor.exceptions.GeneralException;
 import com.ua.javarush.mentor.persist.model.Role;
 import com.ua.javarush.mentor.persist.model.User;
 import com.ua.javarush.mentor.persist.repository.UserRepository;
+import com.ua.javarush.mentor.services.EmailService;
 import com.ua.javarush.mentor.services.RoleService;
 import com.ua.javarush.mentor.services.UserService;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,8 @@ class UserServiceImplTest {
     private UserRepository userRepository;
     @MockBean
     private RoleService roleService;
+    @MockBean
+    private EmailService emailService;
     @Autowired
     private UserService userService;
 
@@ -47,8 +50,11 @@ class UserServiceImplTest {
         UserCommand userCommand = new UserCommand();
         userCommand.setFirstName("John");
         userCommand.setLastName("Smith");
-        userCommand.setCountry("KZ");
+        userCommand.setCountry("Ukraine");
         userCommand.setTelegramNickname("@johnsmith");
+        userCommand.setUsername("johnsmith");
+        userCommand.setEmail("john.smith@example.com");
+        userCommand.setPassword("Password1");
         userCommand.setSalaryPerHour(400);
         userCommand.setSalaryCurrency("USD");
         userCommand.setRoleId(1L);
@@ -61,9 +67,11 @@ class UserServiceImplTest {
         user.setTelegramNickname("@johnsmith");
         user.setSalaryPerHour(400);
         user.setSalaryCurrency("USD");
+        user.setEmail("john.smith@example.com");
         user.setRoleId(new Role());
 
         when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.findByEmail("john.smith@example.com")).thenReturn(Optional.empty()).thenReturn(Optional.of(user));
         when(roleService.fetchRole(1L)).thenReturn(new Role());
 
         UserDTO userDTO = userService.createUser(userCommand);
@@ -163,23 +171,12 @@ class UserServiceImplTest {
 
     @Test
     void should_change_user_permission() throws GeneralException {
-        User user1 = Mockito.spy(new User());
-        user1.setId(1L);
-        user1.setFirstName("John1");
-        user1.setLastName("Smith");
-        user1.setCountry("KZ");
-        user1.setRegisteredAt(new Timestamp(System.currentTimeMillis()));
-        user1.setTelegramId(1L);
-        user1.setTelegramNickname("@johnsmith");
-        user1.setSalaryPerHour(400);
-        user1.setSalaryCurrency("USD");
         Role role = new Role();
-        role.setId(1L);
+        role.setId(2L);
         role.setName("ADMIN");
-        user1.setRoleId(role);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
         when(roleService.fetchRole(2L)).thenReturn(role);
+        when(userRepository.changeRole(1L, role)).thenReturn(1);
 
         UserPermissionCommand userPermissionCommand = new UserPermissionCommand();
         userPermissionCommand.setUserId(1L);
@@ -187,6 +184,22 @@ class UserServiceImplTest {
         userService.changePermission(userPermissionCommand);
 
         verify(roleService).fetchRole(anyLong());
-        verify(user1, atLeast(1)).setRoleId(any(Role.class));
+        verify(userRepository).changeRole(1L, role);
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void should_not_change_permission_of_missing_user() throws GeneralException {
+        Role role = new Role();
+        role.setId(2L);
+
+        when(roleService.fetchRole(2L)).thenReturn(role);
+        when(userRepository.changeRole(1L, role)).thenReturn(0);
+
+        UserPermissionCommand userPermissionCommand = new UserPermissionCommand();
+        userPermissionCommand.setUserId(1L);
+        userPermissionCommand.setRoleId(2L);
+
+        assertThrows(GeneralException.class, () -> userService.changePermission(userPermissionCommand));
     }
-}
\ No newline at end of file
+}